@@ -0,0 +1,613 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.common.TagReconciler;
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.awssdk.services.iotanalytics.model.Channel;
+import software.amazon.awssdk.services.iotanalytics.model.ChannelStatus;
+import software.amazon.awssdk.services.iotanalytics.model.ChannelSummary;
+import software.amazon.awssdk.services.iotanalytics.model.CreateChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.CreatePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreatePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.Dataset;
+import software.amazon.awssdk.services.iotanalytics.model.DatasetStatus;
+import software.amazon.awssdk.services.iotanalytics.model.DatasetSummary;
+import software.amazon.awssdk.services.iotanalytics.model.Datastore;
+import software.amazon.awssdk.services.iotanalytics.model.DatastoreStatus;
+import software.amazon.awssdk.services.iotanalytics.model.DatastoreSummary;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListDatasetsRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListDatasetsResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListDatastoresRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListDatastoresResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListPipelinesRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListPipelinesResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.Pipeline;
+import software.amazon.awssdk.services.iotanalytics.model.PipelineSummary;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.Tag;
+import software.amazon.awssdk.services.iotanalytics.model.TagResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.TagResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.awssdk.services.iotanalytics.model.UntagResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UntagResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.UpdatePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UpdatePipelineResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * An in-memory stand-in for the IoT Analytics service, so that the handlers can be driven end to end without an
+ * AWS account. It keeps channels, datasets, datastores and pipelines with their tags, and can be made to behave
+ * like the real service under load (see {@link FakeServiceBehavior}): every call takes a latency drawn from a
+ * distribution, calls past a per-API rate or picked at random are throttled, and creates and deletes only show up
+ * in describe and list calls after a consistency delay.
+ * <p>
+ * Only the APIs the resource handlers use are implemented, the others throw UnsupportedOperationException.
+ */
+public class FakeIoTAnalyticsClient implements IoTAnalyticsClient {
+    private static final int DEFAULT_MAX_RESULTS = 100;
+
+    private final FakeServiceBehavior behavior;
+    private final LongSupplier nanoClock;
+    private final Consumer<Duration> sleeper;
+    private final Random random;
+
+    private final Table<Channel> channels = new Table<>("channel");
+    private final Table<Dataset> datasets = new Table<>("dataset");
+    private final Table<Datastore> datastores = new Table<>("datastore");
+    private final Table<Pipeline> pipelines = new Table<>("pipeline");
+    private final ConcurrentMap<String, Entry<?>> resourcesByArn = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> throttledCalls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+
+    public FakeIoTAnalyticsClient(final FakeServiceBehavior behavior) {
+        this(behavior, System::nanoTime, FakeIoTAnalyticsClient::sleep);
+    }
+
+    @VisibleForTesting
+    FakeIoTAnalyticsClient(final FakeServiceBehavior behavior, final LongSupplier nanoClock,
+                           final Consumer<Duration> sleeper) {
+        this.behavior = behavior;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.random = new Random(behavior.getSeed());
+    }
+
+    /**
+     * How many times the API was called, throttled calls included.
+     */
+    public long getCallCount(final String api) {
+        final AtomicLong count = calls.get(api);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getThrottledCount(final String api) {
+        final AtomicLong count = throttledCalls.get(api);
+        return count == null ? 0 : count.get();
+    }
+
+    public Map<String, Long> getCallCounts() {
+        final Map<String, Long> counts = new ConcurrentSkipListMap<>();
+        calls.forEach((api, count) -> counts.put(api, count.get()));
+        return counts;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateChannelResponse createChannel(final CreateChannelRequest request) {
+        call("CreateChannel");
+        final Entry<Channel> entry = channels.create(request.channelName(), request.tags(), arn -> Channel.builder()
+                .name(request.channelName())
+                .arn(arn)
+                .storage(request.channelStorage())
+                .retentionPeriod(request.retentionPeriod())
+                .status(ChannelStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return CreateChannelResponse.builder()
+                .channelName(request.channelName())
+                .channelArn(entry.arn)
+                .retentionPeriod(request.retentionPeriod())
+                .build();
+    }
+
+    @Override
+    public DescribeChannelResponse describeChannel(final DescribeChannelRequest request) {
+        call("DescribeChannel");
+        return DescribeChannelResponse.builder().channel(channels.describe(request.channelName())).build();
+    }
+
+    @Override
+    public UpdateChannelResponse updateChannel(final UpdateChannelRequest request) {
+        call("UpdateChannel");
+        channels.update(request.channelName(), channel -> channel.toBuilder()
+                .storage(request.channelStorage())
+                .retentionPeriod(request.retentionPeriod())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return UpdateChannelResponse.builder().build();
+    }
+
+    @Override
+    public DeleteChannelResponse deleteChannel(final DeleteChannelRequest request) {
+        call("DeleteChannel");
+        channels.delete(request.channelName(), channel -> channel.toBuilder().status(ChannelStatus.DELETING).build());
+        return DeleteChannelResponse.builder().build();
+    }
+
+    @Override
+    public ListChannelsResponse listChannels(final ListChannelsRequest request) {
+        call("ListChannels");
+        final Page<Channel> page = channels.list(request.nextToken(), request.maxResults());
+        final List<ChannelSummary> summaries = new ArrayList<>(page.resources.size());
+        for (final Channel channel : page.resources) {
+            summaries.add(ChannelSummary.builder()
+                    .channelName(channel.name())
+                    .status(channel.status())
+                    .creationTime(channel.creationTime())
+                    .lastUpdateTime(channel.lastUpdateTime())
+                    .build());
+        }
+        return ListChannelsResponse.builder().channelSummaries(summaries).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public CreateDatasetResponse createDataset(final CreateDatasetRequest request) {
+        call("CreateDataset");
+        final Entry<Dataset> entry = datasets.create(request.datasetName(), request.tags(), arn -> Dataset.builder()
+                .name(request.datasetName())
+                .arn(arn)
+                .actions(request.actions())
+                .triggers(request.triggers())
+                .contentDeliveryRules(request.contentDeliveryRules())
+                .retentionPeriod(request.retentionPeriod())
+                .versioningConfiguration(request.versioningConfiguration())
+                .lateDataRules(request.lateDataRules())
+                .status(DatasetStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return CreateDatasetResponse.builder()
+                .datasetName(request.datasetName())
+                .datasetArn(entry.arn)
+                .retentionPeriod(request.retentionPeriod())
+                .build();
+    }
+
+    @Override
+    public DescribeDatasetResponse describeDataset(final DescribeDatasetRequest request) {
+        call("DescribeDataset");
+        return DescribeDatasetResponse.builder().dataset(datasets.describe(request.datasetName())).build();
+    }
+
+    @Override
+    public UpdateDatasetResponse updateDataset(final UpdateDatasetRequest request) {
+        call("UpdateDataset");
+        datasets.update(request.datasetName(), dataset -> dataset.toBuilder()
+                .actions(request.actions())
+                .triggers(request.triggers())
+                .contentDeliveryRules(request.contentDeliveryRules())
+                .retentionPeriod(request.retentionPeriod())
+                .versioningConfiguration(request.versioningConfiguration())
+                .lateDataRules(request.lateDataRules())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return UpdateDatasetResponse.builder().build();
+    }
+
+    @Override
+    public DeleteDatasetResponse deleteDataset(final DeleteDatasetRequest request) {
+        call("DeleteDataset");
+        datasets.delete(request.datasetName(), dataset -> dataset.toBuilder().status(DatasetStatus.DELETING).build());
+        return DeleteDatasetResponse.builder().build();
+    }
+
+    @Override
+    public ListDatasetsResponse listDatasets(final ListDatasetsRequest request) {
+        call("ListDatasets");
+        final Page<Dataset> page = datasets.list(request.nextToken(), request.maxResults());
+        final List<DatasetSummary> summaries = new ArrayList<>(page.resources.size());
+        for (final Dataset dataset : page.resources) {
+            summaries.add(DatasetSummary.builder()
+                    .datasetName(dataset.name())
+                    .status(dataset.status())
+                    .creationTime(dataset.creationTime())
+                    .lastUpdateTime(dataset.lastUpdateTime())
+                    .build());
+        }
+        return ListDatasetsResponse.builder().datasetSummaries(summaries).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public CreateDatastoreResponse createDatastore(final CreateDatastoreRequest request) {
+        call("CreateDatastore");
+        final Entry<Datastore> entry = datastores.create(request.datastoreName(), request.tags(), arn -> Datastore.builder()
+                .name(request.datastoreName())
+                .arn(arn)
+                .storage(request.datastoreStorage())
+                .retentionPeriod(request.retentionPeriod())
+                .fileFormatConfiguration(request.fileFormatConfiguration())
+                .datastorePartitions(request.datastorePartitions())
+                .status(DatastoreStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return CreateDatastoreResponse.builder()
+                .datastoreName(request.datastoreName())
+                .datastoreArn(entry.arn)
+                .retentionPeriod(request.retentionPeriod())
+                .build();
+    }
+
+    @Override
+    public DescribeDatastoreResponse describeDatastore(final DescribeDatastoreRequest request) {
+        call("DescribeDatastore");
+        return DescribeDatastoreResponse.builder().datastore(datastores.describe(request.datastoreName())).build();
+    }
+
+    @Override
+    public UpdateDatastoreResponse updateDatastore(final UpdateDatastoreRequest request) {
+        call("UpdateDatastore");
+        datastores.update(request.datastoreName(), datastore -> datastore.toBuilder()
+                .storage(request.datastoreStorage())
+                .retentionPeriod(request.retentionPeriod())
+                .fileFormatConfiguration(request.fileFormatConfiguration())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return UpdateDatastoreResponse.builder().build();
+    }
+
+    @Override
+    public DeleteDatastoreResponse deleteDatastore(final DeleteDatastoreRequest request) {
+        call("DeleteDatastore");
+        datastores.delete(request.datastoreName(),
+                datastore -> datastore.toBuilder().status(DatastoreStatus.DELETING).build());
+        return DeleteDatastoreResponse.builder().build();
+    }
+
+    @Override
+    public ListDatastoresResponse listDatastores(final ListDatastoresRequest request) {
+        call("ListDatastores");
+        final Page<Datastore> page = datastores.list(request.nextToken(), request.maxResults());
+        final List<DatastoreSummary> summaries = new ArrayList<>(page.resources.size());
+        for (final Datastore datastore : page.resources) {
+            summaries.add(DatastoreSummary.builder()
+                    .datastoreName(datastore.name())
+                    .status(datastore.status())
+                    .creationTime(datastore.creationTime())
+                    .lastUpdateTime(datastore.lastUpdateTime())
+                    .build());
+        }
+        return ListDatastoresResponse.builder().datastoreSummaries(summaries).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public CreatePipelineResponse createPipeline(final CreatePipelineRequest request) {
+        call("CreatePipeline");
+        final Entry<Pipeline> entry = pipelines.create(request.pipelineName(), request.tags(), arn -> Pipeline.builder()
+                .name(request.pipelineName())
+                .arn(arn)
+                .activities(request.pipelineActivities())
+                .creationTime(Instant.now())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return CreatePipelineResponse.builder()
+                .pipelineName(request.pipelineName())
+                .pipelineArn(entry.arn)
+                .build();
+    }
+
+    @Override
+    public DescribePipelineResponse describePipeline(final DescribePipelineRequest request) {
+        call("DescribePipeline");
+        return DescribePipelineResponse.builder().pipeline(pipelines.describe(request.pipelineName())).build();
+    }
+
+    @Override
+    public UpdatePipelineResponse updatePipeline(final UpdatePipelineRequest request) {
+        call("UpdatePipeline");
+        pipelines.update(request.pipelineName(), pipeline -> pipeline.toBuilder()
+                .activities(request.pipelineActivities())
+                .lastUpdateTime(Instant.now())
+                .build());
+        return UpdatePipelineResponse.builder().build();
+    }
+
+    @Override
+    public DeletePipelineResponse deletePipeline(final DeletePipelineRequest request) {
+        call("DeletePipeline");
+        // Pipelines have no status, a deleted one is described as it was until the delete is visible.
+        pipelines.delete(request.pipelineName(), UnaryOperator.identity());
+        return DeletePipelineResponse.builder().build();
+    }
+
+    @Override
+    public ListPipelinesResponse listPipelines(final ListPipelinesRequest request) {
+        call("ListPipelines");
+        final Page<Pipeline> page = pipelines.list(request.nextToken(), request.maxResults());
+        final List<PipelineSummary> summaries = new ArrayList<>(page.resources.size());
+        for (final Pipeline pipeline : page.resources) {
+            summaries.add(PipelineSummary.builder()
+                    .pipelineName(pipeline.name())
+                    .creationTime(pipeline.creationTime())
+                    .lastUpdateTime(pipeline.lastUpdateTime())
+                    .build());
+        }
+        return ListPipelinesResponse.builder().pipelineSummaries(summaries).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        call("TagResource");
+        resource(request.resourceArn()).tags.putAll(TagReconciler.fromSdkTags(request.tags()));
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        call("UntagResource");
+        resource(request.resourceArn()).tags.keySet().removeAll(request.tagKeys());
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        call("ListTagsForResource");
+        final Map<String, String> tags = resource(request.resourceArn()).tags;
+        // The service leaves the tags out altogether rather than returning an empty list.
+        return ListTagsForResourceResponse.builder()
+                .tags(tags.isEmpty() ? null : TagReconciler.toSdkTags(tags))
+                .build();
+    }
+
+    /**
+     * Counts the call, waits out its latency and throttles it if the behavior says so.
+     */
+    private void call(final String api) {
+        calls.computeIfAbsent(api, name -> new AtomicLong()).incrementAndGet();
+        final boolean throttled;
+        final Duration latency;
+        synchronized (random) {
+            throttled = random.nextDouble() < behavior.getThrottleProbability() || !rateLimit(api).tryAcquire();
+            latency = behavior.getLatency().next(random);
+        }
+        if (!latency.isZero() && !latency.isNegative()) {
+            sleeper.accept(latency);
+        }
+        if (throttled) {
+            throttledCalls.computeIfAbsent(api, name -> new AtomicLong()).incrementAndGet();
+            throw ThrottlingException.builder().statusCode(429).message("Rate exceeded for " + api).build();
+        }
+    }
+
+    private RateLimit rateLimit(final String api) {
+        return rateLimits.computeIfAbsent(api, name -> new RateLimit(behavior.getRequestsPerSecond()));
+    }
+
+    private Entry<?> resource(final String arn) {
+        final Entry<?> entry = arn == null ? null : resourcesByArn.get(arn);
+        if (entry == null || entry.deletedAtNanos != null) {
+            throw notFound(arn);
+        }
+        return entry;
+    }
+
+    private long consistencyDelayNanos() {
+        return behavior.getConsistencyDelay().toNanos();
+    }
+
+    private static ResourceNotFoundException notFound(final String name) {
+        return ResourceNotFoundException.builder().statusCode(404).message(name + " not found").build();
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final String arn;
+        private final Map<String, String> tags = new ConcurrentHashMap<>();
+        private final long visibleAtNanos;
+        private volatile T resource;
+        private volatile Long deletedAtNanos;
+
+        private Entry(final String arn, final long visibleAtNanos) {
+            this.arn = arn;
+            this.visibleAtNanos = visibleAtNanos;
+        }
+    }
+
+    private static final class Page<T> {
+        private final List<T> resources;
+        private final String nextToken;
+
+        private Page(final List<T> resources, final String nextToken) {
+            this.resources = resources;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * The resources of one type by name. Writes are seen straight away by later writes, reads only see them once
+     * the consistency delay has passed.
+     */
+    private final class Table<T> {
+        private final String resourceType;
+        private final ConcurrentSkipListMap<String, Entry<T>> entries = new ConcurrentSkipListMap<>();
+
+        private Table(final String resourceType) {
+            this.resourceType = resourceType;
+        }
+
+        private Entry<T> create(final String name, final List<Tag> tags, final Function<String, T> resource) {
+            final String arn = String.format("arn:aws:iotanalytics:%s:%s:%s/%s",
+                    behavior.getRegion(), behavior.getAccountId(), resourceType, name);
+            final Entry<T> entry = new Entry<>(arn, nanoClock.getAsLong() + consistencyDelayNanos());
+            entry.resource = resource.apply(arn);
+            entry.tags.putAll(TagReconciler.fromSdkTags(tags));
+            final Entry<T> existing = entries.compute(name, (key, current) ->
+                    current == null || current.deletedAtNanos != null ? entry : current);
+            if (existing != entry) {
+                throw ResourceAlreadyExistsException.builder()
+                        .statusCode(409)
+                        .resourceId(name)
+                        .resourceArn(arn)
+                        .message(resourceType + " " + name + " already exists")
+                        .build();
+            }
+            resourcesByArn.put(arn, entry);
+            return entry;
+        }
+
+        private T describe(final String name) {
+            final Entry<T> entry = entries.get(name);
+            if (entry == null || !visible(entry, nanoClock.getAsLong())) {
+                throw notFound(name);
+            }
+            return entry.resource;
+        }
+
+        private void update(final String name, final UnaryOperator<T> update) {
+            final Entry<T> entry = live(name);
+            synchronized (entry) {
+                entry.resource = update.apply(entry.resource);
+            }
+        }
+
+        private void delete(final String name, final UnaryOperator<T> markDeleting) {
+            final Entry<T> entry = live(name);
+            synchronized (entry) {
+                if (entry.deletedAtNanos != null) {
+                    throw notFound(name);
+                }
+                entry.resource = markDeleting.apply(entry.resource);
+                entry.deletedAtNanos = nanoClock.getAsLong();
+            }
+            resourcesByArn.remove(entry.arn, entry);
+        }
+
+        private Page<T> list(final String nextToken, final Integer maxResults) {
+            final int limit = maxResults == null ? DEFAULT_MAX_RESULTS : maxResults;
+            final long now = nanoClock.getAsLong();
+            final List<T> resources = new ArrayList<>();
+            final Map<String, Entry<T>> tail = nextToken == null ? entries : entries.tailMap(nextToken, true);
+            for (final Map.Entry<String, Entry<T>> entry : tail.entrySet()) {
+                if (!visible(entry.getValue(), now)) {
+                    continue;
+                }
+                if (resources.size() == limit) {
+                    return new Page<>(resources, entry.getKey());
+                }
+                resources.add(entry.getValue().resource);
+            }
+            return new Page<>(Collections.unmodifiableList(resources), null);
+        }
+
+        private Entry<T> live(final String name) {
+            final Entry<T> entry = entries.get(name);
+            if (entry == null || entry.deletedAtNanos != null) {
+                throw notFound(name);
+            }
+            return entry;
+        }
+
+        private boolean visible(final Entry<T> entry, final long now) {
+            final Long deletedAtNanos = entry.deletedAtNanos;
+            return now >= entry.visibleAtNanos
+                    && (deletedAtNanos == null || now < deletedAtNanos + consistencyDelayNanos());
+        }
+    }
+
+    /**
+     * Lets through {@code permitsPerSecond} calls a second with bursts of up to a second's worth, and everything
+     * when the rate is 0. Callers hold the lock on {@link #random}.
+     */
+    private final class RateLimit {
+        private final double permitsPerSecond;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private RateLimit(final double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.tokens = Math.max(1, permitsPerSecond);
+            this.lastRefillNanos = nanoClock.getAsLong();
+        }
+
+        private boolean tryAcquire() {
+            if (permitsPerSecond <= 0) {
+                return true;
+            }
+            final long now = nanoClock.getAsLong();
+            tokens = Math.min(Math.max(1, permitsPerSecond),
+                    tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import java.time.Duration;
+
+/**
+ * How the {@link FakeIoTAnalyticsClient} behaves. The defaults answer instantly, are immediately consistent and
+ * never throttle.
+ */
+@lombok.Value
+@lombok.Builder
+public class FakeServiceBehavior {
+    @lombok.Builder.Default
+    String region = "us-east-1";
+    @lombok.Builder.Default
+    String accountId = "123456789012";
+    @lombok.Builder.Default
+    LatencyDistribution latency = LatencyDistribution.none();
+    // How long a created resource stays invisible to describe and list, and a deleted one stays visible.
+    @lombok.Builder.Default
+    Duration consistencyDelay = Duration.ZERO;
+    // Chance that any call is throttled regardless of the rate.
+    @lombok.Builder.Default
+    double throttleProbability = 0;
+    // Calls per second each API accepts before throttling, 0 for no limit.
+    @lombok.Builder.Default
+    double requestsPerSecond = 0;
+    @lombok.Builder.Default
+    long seed = 42;
+}
@@ -0,0 +1,8 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+/**
+ * The handlers a {@link ResourceDriver} can drive, in the order a stack goes through them.
+ */
+public enum HandlerAction {
+    CREATE, UPDATE, READ, DELETE
+}
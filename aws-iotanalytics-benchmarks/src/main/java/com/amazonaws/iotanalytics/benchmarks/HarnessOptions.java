@@ -0,0 +1,99 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Settings of a {@link StackLoadHarness} run. On the command line every setting is passed as
+ * {@code --<name> <value>}, e.g. {@code --resources 500 --concurrency 32 --latency-millis 80}.
+ */
+@lombok.Value
+@lombok.Builder
+public class HarnessOptions {
+    // The repository root, which holds the inputs fixtures of every module.
+    @lombok.Builder.Default
+    Path root = Paths.get(".");
+    @lombok.Builder.Default
+    int fixture = 1;
+    // Resources in the stack, spread evenly over channels, datastores, pipelines and datasets.
+    @lombok.Builder.Default
+    int resources = 100;
+    // Handler invocations run at the same time, like CloudFormation working on independent resources.
+    @lombok.Builder.Default
+    int concurrency = 16;
+    @lombok.Builder.Default
+    Duration medianLatency = Duration.ofMillis(50);
+    @lombok.Builder.Default
+    double latencySigma = 0.5;
+    @lombok.Builder.Default
+    Duration consistencyDelay = Duration.ZERO;
+    @lombok.Builder.Default
+    double throttleProbability = 0;
+    @lombok.Builder.Default
+    double requestsPerSecond = 0;
+    // Delete the stack with one StackTeardown instead of a delete handler per resource.
+    @lombok.Builder.Default
+    boolean batchDelete = false;
+    // Point each pipeline and dataset at the channel and datastore of its own index, and create the stack with a
+    // StackProvisioner, in the order those references impose.
+    @lombok.Builder.Default
+    boolean linked = false;
+
+    static HarnessOptions fromArgs(final String[] args) {
+        final HarnessOptionsBuilder builder = builder();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("No value for " + args[i]);
+            }
+            final String value = args[i + 1];
+            switch (args[i]) {
+                case "--root":
+                    builder.root(Paths.get(value));
+                    break;
+                case "--fixture":
+                    builder.fixture(Integer.parseInt(value));
+                    break;
+                case "--resources":
+                    builder.resources(Integer.parseInt(value));
+                    break;
+                case "--concurrency":
+                    builder.concurrency(Integer.parseInt(value));
+                    break;
+                case "--latency-millis":
+                    builder.medianLatency(Duration.ofMillis(Long.parseLong(value)));
+                    break;
+                case "--latency-sigma":
+                    builder.latencySigma(Double.parseDouble(value));
+                    break;
+                case "--consistency-millis":
+                    builder.consistencyDelay(Duration.ofMillis(Long.parseLong(value)));
+                    break;
+                case "--throttle-probability":
+                    builder.throttleProbability(Double.parseDouble(value));
+                    break;
+                case "--requests-per-second":
+                    builder.requestsPerSecond(Double.parseDouble(value));
+                    break;
+                case "--batch-delete":
+                    builder.batchDelete(Boolean.parseBoolean(value));
+                    break;
+                case "--linked":
+                    builder.linked(Boolean.parseBoolean(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    FakeServiceBehavior toBehavior() {
+        return FakeServiceBehavior.builder()
+                .latency(LatencyDistribution.logNormal(medianLatency, latencySigma))
+                .consistencyDelay(consistencyDelay)
+                .throttleProbability(throttleProbability)
+                .requestsPerSecond(requestsPerSecond)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * How long a call to the {@link FakeIoTAnalyticsClient} takes. Real service latencies have a long tail, which
+ * {@link #logNormal(Duration, double)} models well enough for comparing backoff and concurrency settings.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    Duration next(Random random);
+
+    static LatencyDistribution none() {
+        return random -> Duration.ZERO;
+    }
+
+    static LatencyDistribution fixed(final Duration latency) {
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(final Duration min, final Duration max) {
+        final long spreadNanos = max.minus(min).toNanos();
+        return random -> min.plusNanos((long) (random.nextDouble() * spreadNanos));
+    }
+
+    /**
+     * Half the calls take less than {@code median}; {@code sigma} widens the tail, 0.5 puts the p99 at about 3.2
+     * times the median.
+     */
+    static LatencyDistribution logNormal(final Duration median, final double sigma) {
+        return random -> Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+    }
+}
@@ -0,0 +1,76 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What one {@link HandlerAction} across the whole stack cost: wall time, per resource type throughput and latency
+ * percentiles, and the service calls it made.
+ */
+public final class PhaseReport {
+    private final HandlerAction action;
+    private final Duration wallTime;
+    private final Map<String, ResourceStats> statsByResourceType;
+    private final Map<String, Long> apiCalls;
+
+    PhaseReport(final HandlerAction action, final Duration wallTime,
+                final Map<String, ResourceStats> statsByResourceType, final Map<String, Long> apiCalls) {
+        this.action = action;
+        this.wallTime = wallTime;
+        this.statsByResourceType = statsByResourceType;
+        this.apiCalls = apiCalls;
+    }
+
+    public HandlerAction getAction() {
+        return action;
+    }
+
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    public Map<String, ResourceStats> getStatsByResourceType() {
+        return statsByResourceType;
+    }
+
+    public Map<String, Long> getApiCalls() {
+        return apiCalls;
+    }
+
+    public int getResourceCount() {
+        int count = 0;
+        for (final ResourceStats stats : statsByResourceType.values()) {
+            count += stats.getCount();
+        }
+        return count;
+    }
+
+    public int getFailureCount() {
+        int count = 0;
+        for (final ResourceStats stats : statsByResourceType.values()) {
+            count += stats.getFailureCount();
+        }
+        return count;
+    }
+
+    public void print(final PrintStream out) {
+        final double seconds = Math.max(wallTime.toNanos(), 1) / 1e9;
+        out.printf("%s: %d resources in %.2fs, %.1f resources/s, %d failed%n",
+                action, getResourceCount(), seconds, getResourceCount() / seconds, getFailureCount());
+        out.printf("  %-10s %6s %10s %8s %8s %8s %8s  %s%n", "type", "count", "per second", "p50 ms", "p90 ms", "p99 ms",
+                "max ms", "failures");
+        for (final Map.Entry<String, ResourceStats> entry : new TreeMap<>(statsByResourceType).entrySet()) {
+            final ResourceStats stats = entry.getValue();
+            out.printf("  %-10s %6d %10.1f %8d %8d %8d %8d  %s%n", entry.getKey(), stats.getCount(),
+                    stats.getCount() / seconds, stats.percentile(0.5).toMillis(), stats.percentile(0.9).toMillis(),
+                    stats.percentile(0.99).toMillis(), stats.percentile(1).toMillis(), stats.getFailures());
+        }
+        out.printf("  %-24s %8s %12s%n", "api", "calls", "per resource");
+        for (final Map.Entry<String, Long> entry : apiCalls.entrySet()) {
+            out.printf("  %-24s %8d %12.2f%n", entry.getKey(), entry.getValue(),
+                    (double) entry.getValue() / Math.max(1, getResourceCount()));
+        }
+    }
+}
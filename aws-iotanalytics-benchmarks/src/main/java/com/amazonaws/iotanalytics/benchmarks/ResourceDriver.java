@@ -0,0 +1,113 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the handlers of one resource type the way CloudFormation does: the request is built from the
+ * {@link ResourceTemplate}, and the handler is invoked again with the returned callback context for as long as it
+ * reports IN_PROGRESS. A handler exception ends up as a FAILED event, as the wrapper would turn it into.
+ * <p>
+ * The handlers' {@code handleRequest} taking the proxy client is protected, so every resource package has its own
+ * subclass.
+ */
+public abstract class ResourceDriver<ModelT, CallbackT> {
+    private static final Serializer SERIALIZER = new Serializer();
+
+    protected final AmazonWebServicesClientProxy proxy;
+    protected final ProxyClient<IoTAnalyticsClient> proxyClient;
+    protected final LoggerProxy logger = new LoggerProxy();
+
+    private final ResourceTemplate template;
+    private final TypeReference<ModelT> modelType;
+
+    protected ResourceDriver(final AmazonWebServicesClientProxy proxy,
+                             final ProxyClient<IoTAnalyticsClient> proxyClient,
+                             final ResourceTemplate template,
+                             final TypeReference<ModelT> modelType) {
+        this.proxy = proxy;
+        this.proxyClient = proxyClient;
+        this.template = template;
+        this.modelType = modelType;
+    }
+
+    public String getResourceType() {
+        return template.getResourceType();
+    }
+
+    public String name(final int index) {
+        return template.name(index);
+    }
+
+    public StackResource resource(final int index) {
+        return StackResource.of(StackResourceType.fromResourceType(getResourceType()), name(index));
+    }
+
+    /**
+     * The resources the create model of the {@code index}th resource references, which have to exist before it can
+     * be created.
+     */
+    public Set<StackResource> dependencies(final int index) {
+        return references(model(template.create(index)));
+    }
+
+    /**
+     * Runs {@code action} on the {@code index}th resource of this type to completion. Updates go from the create
+     * fixture to the update fixture.
+     */
+    public ProgressEvent<ModelT, CallbackT> run(final HandlerAction action, final int index) throws InterruptedException {
+        final ResourceHandlerRequest<ModelT> request = ResourceHandlerRequest.<ModelT>builder()
+                .desiredResourceState(model(action == HandlerAction.UPDATE ? template.update(index) : template.create(index)))
+                .previousResourceState(action == HandlerAction.UPDATE ? model(template.create(index)) : null)
+                .awsAccountId(template.getAccountId())
+                .region(template.getRegion())
+                .logicalResourceIdentifier(template.name(index))
+                .clientRequestToken(UUID.randomUUID().toString())
+                .build();
+        try {
+            ProgressEvent<ModelT, CallbackT> event = invoke(action, request, newCallbackContext());
+            while (event.isInProgress()) {
+                TimeUnit.SECONDS.sleep(event.getCallbackDelaySeconds());
+                event = invoke(action, request, event.getCallbackContext());
+            }
+            return event;
+        } catch (final BaseHandlerException e) {
+            return ProgressEvent.failed(request.getDesiredResourceState(), null, e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    protected abstract CallbackT newCallbackContext();
+
+    /**
+     * The resources the model references by name. None unless the resource type overrides it.
+     */
+    protected Set<StackResource> references(final ModelT model) {
+        return Collections.emptySet();
+    }
+
+    protected abstract ProgressEvent<ModelT, CallbackT> invoke(HandlerAction action,
+                                                               ResourceHandlerRequest<ModelT> request,
+                                                               CallbackT callbackContext);
+
+    private ModelT model(final String json) {
+        try {
+            return SERIALIZER.deserialize(json, modelType);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The handler invocations of one resource type in one phase: how long each took from the first invocation to the
+ * final event, and how many failed with which error code.
+ */
+public final class ResourceStats {
+    private final List<Duration> latencies = new ArrayList<>();
+    private final Map<HandlerErrorCode, Integer> failures = new EnumMap<>(HandlerErrorCode.class);
+
+    synchronized void record(final Duration latency, final HandlerErrorCode errorCode) {
+        latencies.add(latency);
+        if (errorCode != null) {
+            failures.merge(errorCode, 1, Integer::sum);
+        }
+    }
+
+    public synchronized int getCount() {
+        return latencies.size();
+    }
+
+    public synchronized int getFailureCount() {
+        int count = 0;
+        for (final int failure : failures.values()) {
+            count += failure;
+        }
+        return count;
+    }
+
+    public synchronized Map<HandlerErrorCode, Integer> getFailures() {
+        return new EnumMap<>(failures);
+    }
+
+    /**
+     * The nearest-rank {@code percentile} (between 0 and 1) of the latencies, zero if there are none.
+     */
+    public synchronized Duration percentile(final double percentile) {
+        if (latencies.isEmpty()) {
+            return Duration.ZERO;
+        }
+        final List<Duration> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        final int rank = (int) Math.max(1, Math.ceil(percentile * sorted.size()));
+        return sorted.get(rank - 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The create and update models of one resource type, read from the {@code inputs/inputs_<n>_create.json} and
+ * {@code inputs_<n>_update.json} contract test fixtures of its module. Every copy is given its own name, and the
+ * {@code {{...}}} placeholders the contract tests import from the testing stack are filled in with values of the
+ * given account and region.
+ * <p>
+ * A {@link #linked()} template also points the references to the testing stack's channel and datastores, e.g. of a
+ * pipeline's activities or a dataset's query, at the channel and datastore of the same index, so that every index
+ * makes up one topology of resources that depend on each other.
+ */
+public final class ResourceTemplate {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+    private static final Pattern TESTING_STACK_REFERENCE = Pattern.compile("\\bcfn_testing_(channel|datastore)\\d*\\b");
+
+    private final String resourceType;
+    private final String nameProperty;
+    private final String region;
+    private final String accountId;
+    private final ObjectNode create;
+    private final ObjectNode update;
+    private final boolean linked;
+
+    ResourceTemplate(final String resourceType, final String nameProperty, final String region,
+                     final String accountId, final String create, final String update) {
+        this(resourceType, nameProperty, region, accountId, parse(create), parse(update), false);
+    }
+
+    private ResourceTemplate(final String resourceType, final String nameProperty, final String region,
+                             final String accountId, final ObjectNode create, final ObjectNode update,
+                             final boolean linked) {
+        this.resourceType = resourceType;
+        this.nameProperty = nameProperty;
+        this.region = region;
+        this.accountId = accountId;
+        this.create = create;
+        this.update = update;
+        this.linked = linked;
+    }
+
+    /**
+     * Loads the fixtures of {@code <root>/aws-iotanalytics-<resourceType>/inputs}.
+     */
+    public static ResourceTemplate load(final Path root, final String resourceType, final String nameProperty,
+                                        final int fixture, final String region, final String accountId) {
+        final Path inputs = root.resolve("aws-iotanalytics-" + resourceType).resolve("inputs");
+        return new ResourceTemplate(resourceType, nameProperty, region, accountId,
+                read(inputs.resolve(String.format("inputs_%d_create.json", fixture))),
+                read(inputs.resolve(String.format("inputs_%d_update.json", fixture))));
+    }
+
+    /**
+     * This template, with the references to the testing stack pointed at the resources of the same index.
+     */
+    public ResourceTemplate linked() {
+        return new ResourceTemplate(resourceType, nameProperty, region, accountId, create, update, true);
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public String name(final int index) {
+        return name(resourceType, index);
+    }
+
+    public String create(final int index) {
+        return render(create, index);
+    }
+
+    public String update(final int index) {
+        return render(update, index);
+    }
+
+    private String render(final ObjectNode template, final int index) {
+        final Map<String, String> placeholders = ImmutableMap.<String, String>builder()
+                .put("TestRegion", region)
+                .put("TestAccountId", accountId)
+                .put("TestPartition", "aws")
+                .put("CFNTestingRole", String.format("arn:aws:iam::%s:role/cfn-testing-role", accountId))
+                .put("CFNTestingS3Bucket", String.format("arn:aws:s3:::cfn-testing-bucket-%s-%s", region, accountId))
+                .put("CFNTestingECRRepo", String.format("%s.dkr.ecr.%s.amazonaws.com/cfn-testing-repo", accountId, region))
+                .build();
+        final ObjectNode model = template.deepCopy();
+        model.put(nameProperty, name(index));
+        final Matcher matcher = PLACEHOLDER.matcher(model.toString());
+        final StringBuffer json = new StringBuffer();
+        while (matcher.find()) {
+            final String value = placeholders.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("No value for placeholder " + matcher.group());
+            }
+            matcher.appendReplacement(json, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(json);
+        return linked ? link(json.toString(), index) : json.toString();
+    }
+
+    private static String link(final String json, final int index) {
+        final Matcher matcher = TESTING_STACK_REFERENCE.matcher(json);
+        final StringBuffer linked = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(linked, name(matcher.group(1), index));
+        }
+        matcher.appendTail(linked);
+        return linked.toString();
+    }
+
+    private static String name(final String resourceType, final int index) {
+        return String.format("load_%s_%d", resourceType, index);
+    }
+
+    private static ObjectNode parse(final String json) {
+        try {
+            return (ObjectNode) MAPPER.readTree(json);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(final Path path) {
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.channel.ChannelDriver;
+import com.amazonaws.iotanalytics.common.ProvisionOutcome;
+import com.amazonaws.iotanalytics.common.ProvisioningReport;
+import com.amazonaws.iotanalytics.common.StackProvisioner;
+import com.amazonaws.iotanalytics.dataset.DatasetDriver;
+import com.amazonaws.iotanalytics.datastore.DatastoreDriver;
+import com.amazonaws.iotanalytics.pipeline.PipelineDriver;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts a CloudFormation stack of {@link HarnessOptions#getResources()} channels, datastores, pipelines and
+ * datasets through its whole life against a {@link FakeIoTAnalyticsClient}: every resource is created, updated,
+ * read and deleted, one phase after the other, with up to {@link HarnessOptions#getConcurrency()} handler
+ * invocations at a time. The resources are built from the contract test fixtures. Each phase is reported with its
+ * throughput, the latency percentiles of every resource type and the service calls it took. With
+ * {@link HarnessOptions#isBatchDelete()}, the stack is deleted by one {@link StackTeardown} instead. With
+ * {@link HarnessOptions#isLinked()}, every index is one topology - its pipeline reads from its channel and writes to
+ * its datastore, which its dataset queries - and the stack is created by a {@link StackProvisioner}.
+ * <p>
+ * Run it from the repository root, after {@code mvn install}:
+ * <pre>
+ * java -cp aws-iotanalytics-benchmarks/target/benchmarks.jar com.amazonaws.iotanalytics.benchmarks.StackLoadHarness \
+ *     --resources 500 --concurrency 32
+ * </pre>
+ * The fake sits below the SDK, so its throttling reaches the handlers without the SDK retrying it first.
+ */
+public final class StackLoadHarness {
+    private final HarnessOptions options;
+    private final FakeIoTAnalyticsClient client;
+    private final ProxyClient<IoTAnalyticsClient> proxyClient;
+    private final List<ResourceDriver<?, ?>> drivers;
+    private ProvisioningReport<StackResource> provisioningReport;
+
+    public StackLoadHarness(final HarnessOptions options) {
+        this.options = options;
+        this.client = new FakeIoTAnalyticsClient(options.toBehavior());
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(15).toMillis());
+        this.proxyClient = proxy.newProxy(() -> client);
+        this.drivers = Arrays.asList(
+                new ChannelDriver(proxy, proxyClient, template(ChannelDriver.RESOURCE_TYPE, ChannelDriver.NAME_PROPERTY)),
+                new DatastoreDriver(proxy, proxyClient, template(DatastoreDriver.RESOURCE_TYPE, DatastoreDriver.NAME_PROPERTY)),
+                new PipelineDriver(proxy, proxyClient, template(PipelineDriver.RESOURCE_TYPE, PipelineDriver.NAME_PROPERTY)),
+                new DatasetDriver(proxy, proxyClient, template(DatasetDriver.RESOURCE_TYPE, DatasetDriver.NAME_PROPERTY)));
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final StackLoadHarness harness = new StackLoadHarness(HarnessOptions.fromArgs(args));
+        for (final PhaseReport report : harness.run()) {
+            report.print(System.out);
+        }
+        if (harness.getProvisioningReport() != null) {
+            harness.getProvisioningReport().print(System.out,
+                    resource -> resource.getName() + " (" + resource.getType().getResourceType() + ")");
+        }
+    }
+
+    public List<PhaseReport> run() throws InterruptedException {
+        final List<PhaseReport> reports = new ArrayList<>();
+        for (final HandlerAction action : HandlerAction.values()) {
+            reports.add(runPhase(action));
+        }
+        return reports;
+    }
+
+    FakeIoTAnalyticsClient getClient() {
+        return client;
+    }
+
+    /**
+     * The report of the create phase of a {@link HarnessOptions#isLinked() linked} stack, null otherwise.
+     */
+    public ProvisioningReport<StackResource> getProvisioningReport() {
+        return provisioningReport;
+    }
+
+    private PhaseReport runPhase(final HandlerAction action) throws InterruptedException {
+        final Map<String, ResourceStats> stats = new LinkedHashMap<>();
+        for (final ResourceDriver<?, ?> driver : drivers) {
+            stats.put(driver.getResourceType(), new ResourceStats());
+        }
+        final Map<String, Long> callsBefore = client.getCallCounts();
+        final long start = System.nanoTime();
+        if (action == HandlerAction.CREATE && options.isLinked()) {
+            runProvisioner(stats);
+        } else if (action == HandlerAction.DELETE && options.isBatchDelete()) {
+            runTeardown(stats);
+        } else {
+            runHandlers(action, stats);
+        }
+        final Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+
+        final Map<String, Long> apiCalls = new TreeMap<>();
+        client.getCallCounts().forEach((api, count) -> {
+            final long calls = count - callsBefore.getOrDefault(api, 0L);
+            if (calls > 0) {
+                apiCalls.put(api, calls);
+            }
+        });
+        return new PhaseReport(action, wallTime, stats, apiCalls);
+    }
+
+    private void runHandlers(final HandlerAction action, final Map<String, ResourceStats> stats)
+            throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+        // Round robin over the resource types, so that all of them are in flight together.
+        for (int i = 0; i < options.getResources(); i++) {
+            final ResourceDriver<?, ?> driver = drivers.get(i % drivers.size());
+            final int index = i / drivers.size();
+            executor.execute(() -> runOne(action, driver, index, stats.get(driver.getResourceType())));
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private void runProvisioner(final Map<String, ResourceStats> stats) throws InterruptedException {
+        final StackProvisioner<StackResource> provisioner = new StackProvisioner<>(options.getConcurrency());
+        for (int i = 0; i < options.getResources(); i++) {
+            final ResourceDriver<?, ?> driver = drivers.get(i % drivers.size());
+            final int index = i / drivers.size();
+            provisioner.add(driver.resource(index), driver.dependencies(index),
+                    () -> driver.run(HandlerAction.CREATE, index));
+        }
+        provisioningReport = provisioner.provision();
+        // Skipped resources were never created, the provisioning report counts them apart.
+        provisioningReport.getOutcomes().forEach((resource, outcome) -> {
+            if (outcome.getStatus() != ProvisionOutcome.Status.SKIPPED) {
+                stats.get(resource.getType().getResourceType()).record(outcome.getLatency(), outcome.getErrorCode());
+            }
+        });
+    }
+
+    private void runTeardown(final Map<String, ResourceStats> stats) throws InterruptedException {
+        final List<StackResource> resources = new ArrayList<>(options.getResources());
+        for (int i = 0; i < options.getResources(); i++) {
+            final ResourceDriver<?, ?> driver = drivers.get(i % drivers.size());
+            resources.add(StackResource.of(StackResourceType.fromResourceType(driver.getResourceType()),
+                    driver.name(i / drivers.size())));
+        }
+        new StackTeardown(proxyClient, options.getConcurrency(), new LoggerProxy()).delete(resources)
+                .forEach((resource, outcome) -> stats.get(resource.getType().getResourceType())
+                        .record(outcome.getLatency(), outcome.getErrorCode()));
+    }
+
+    private static void runOne(final HandlerAction action, final ResourceDriver<?, ?> driver, final int index,
+                               final ResourceStats stats) {
+        final long start = System.nanoTime();
+        HandlerErrorCode errorCode;
+        try {
+            final ProgressEvent<?, ?> event = driver.run(action, index);
+            errorCode = event.isSuccess() ? null : event.getErrorCode();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (final RuntimeException e) {
+            // A bug in a handler rather than a service error, the wrapper reports those as internal failures.
+            errorCode = HandlerErrorCode.InternalFailure;
+        }
+        stats.record(Duration.ofNanos(System.nanoTime() - start), errorCode);
+    }
+
+    private ResourceTemplate template(final String resourceType, final String nameProperty) {
+        final FakeServiceBehavior behavior = options.toBehavior();
+        final ResourceTemplate template = ResourceTemplate.load(options.getRoot(), resourceType, nameProperty,
+                options.getFixture(), behavior.getRegion(), behavior.getAccountId());
+        return options.isLinked() ? template.linked() : template;
+    }
+}
@@ -0,0 +1,10 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+/**
+ * One resource of a stack, by type and name.
+ */
+@lombok.Value(staticConstructor = "of")
+public class StackResource {
+    StackResourceType type;
+    String name;
+}
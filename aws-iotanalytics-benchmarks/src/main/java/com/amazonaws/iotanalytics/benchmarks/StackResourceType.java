@@ -0,0 +1,115 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.channel.ChannelDriver;
+import com.amazonaws.iotanalytics.dataset.DatasetDriver;
+import com.amazonaws.iotanalytics.datastore.DatastoreDriver;
+import com.amazonaws.iotanalytics.pipeline.PipelineDriver;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The resource types of an IoT Analytics stack, with the calls that delete and describe a resource by name.
+ * Pipelines read from channels and write to datastores, and datasets query datastores, so pipelines and datasets
+ * are in an earlier {@link #getDeleteTier() delete tier} than the channels and datastores they reference.
+ */
+public enum StackResourceType {
+    CHANNEL(ChannelDriver.RESOURCE_TYPE, "AWS::IoTAnalytics::Channel", 1, "DeleteChannel", "DescribeChannel",
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DeleteChannelRequest.builder().channelName(name).build(), proxyClient.client()::deleteChannel),
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeChannelRequest.builder().channelName(name).build(), proxyClient.client()::describeChannel)),
+    DATASTORE(DatastoreDriver.RESOURCE_TYPE, "AWS::IoTAnalytics::Datastore", 1, "DeleteDatastore", "DescribeDatastore",
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DeleteDatastoreRequest.builder().datastoreName(name).build(), proxyClient.client()::deleteDatastore),
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDatastoreRequest.builder().datastoreName(name).build(),
+                    proxyClient.client()::describeDatastore)),
+    PIPELINE(PipelineDriver.RESOURCE_TYPE, "AWS::IoTAnalytics::Pipeline", 0, "DeletePipeline", "DescribePipeline",
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DeletePipelineRequest.builder().pipelineName(name).build(), proxyClient.client()::deletePipeline),
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DescribePipelineRequest.builder().pipelineName(name).build(),
+                    proxyClient.client()::describePipeline)),
+    DATASET(DatasetDriver.RESOURCE_TYPE, "AWS::IoTAnalytics::Dataset", 0, "DeleteDataset", "DescribeDataset",
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DeleteDatasetRequest.builder().datasetName(name).build(), proxyClient.client()::deleteDataset),
+            (proxyClient, name) -> proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDatasetRequest.builder().datasetName(name).build(), proxyClient.client()::describeDataset));
+
+    private final String resourceType;
+    private final String typeName;
+    private final int deleteTier;
+    private final String deleteOperation;
+    private final String describeOperation;
+    private final BiConsumer<ProxyClient<IoTAnalyticsClient>, String> delete;
+    private final BiConsumer<ProxyClient<IoTAnalyticsClient>, String> describe;
+
+    StackResourceType(final String resourceType,
+                      final String typeName,
+                      final int deleteTier,
+                      final String deleteOperation,
+                      final String describeOperation,
+                      final BiConsumer<ProxyClient<IoTAnalyticsClient>, String> delete,
+                      final BiConsumer<ProxyClient<IoTAnalyticsClient>, String> describe) {
+        this.resourceType = resourceType;
+        this.typeName = typeName;
+        this.deleteTier = deleteTier;
+        this.deleteOperation = deleteOperation;
+        this.describeOperation = describeOperation;
+        this.delete = delete;
+        this.describe = describe;
+    }
+
+    /**
+     * The type with the {@link ResourceDriver#getResourceType() resource type} of a driver, e.g. {@code channel}.
+     */
+    public static StackResourceType fromResourceType(final String resourceType) {
+        for (final StackResourceType type : values()) {
+            if (type.resourceType.equals(resourceType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown resource type " + resourceType);
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Resources of a lower tier are deleted before those of a higher one.
+     */
+    public int getDeleteTier() {
+        return deleteTier;
+    }
+
+    String getDeleteOperation() {
+        return deleteOperation;
+    }
+
+    String getDescribeOperation() {
+        return describeOperation;
+    }
+
+    void delete(final ProxyClient<IoTAnalyticsClient> proxyClient, final String name) {
+        delete.accept(proxyClient, name);
+    }
+
+    void describe(final ProxyClient<IoTAnalyticsClient> proxyClient, final String name) {
+        describe.accept(proxyClient, name);
+    }
+}
@@ -0,0 +1,92 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.common.DeleteOutcome;
+import com.amazonaws.iotanalytics.common.TeardownOperations;
+import com.amazonaws.iotanalytics.common.TieredTeardown;
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Deletes the resources of many stacks at once, e.g. the stacks a load test leaves behind, with a
+ * {@link TieredTeardown}: pipelines and datasets are deleted before the channels and datastores they reference, as
+ * the {@link StackResourceType#getDeleteTier() delete tiers} of their types say.
+ */
+public final class StackTeardown {
+    static final String CALL_GRAPH = "AWS-IoTAnalytics-Stack::Teardown";
+
+    private final TieredTeardown<StackResource> teardown;
+
+    /**
+     * @param concurrency how many calls are made at the same time within a round
+     */
+    public StackTeardown(final ProxyClient<IoTAnalyticsClient> proxyClient, final int concurrency,
+                         final Logger logger) {
+        this.teardown = new TieredTeardown<>(new Operations(proxyClient), CALL_GRAPH, concurrency, logger);
+    }
+
+    @VisibleForTesting
+    StackTeardown(final ProxyClient<IoTAnalyticsClient> proxyClient, final int concurrency, final Logger logger,
+                  final LongSupplier nanoClock, final Consumer<Duration> sleeper) {
+        this.teardown = new TieredTeardown<>(new Operations(proxyClient), CALL_GRAPH, concurrency, logger,
+                nanoClock, sleeper);
+    }
+
+    /**
+     * Deletes the resources tier by tier, and returns how each delete ended, in the order the resources were given.
+     */
+    public Map<StackResource, DeleteOutcome> delete(final Collection<StackResource> resources)
+            throws InterruptedException {
+        return teardown.delete(resources);
+    }
+
+    private static final class Operations implements TeardownOperations<StackResource> {
+        private final ProxyClient<IoTAnalyticsClient> proxyClient;
+
+        private Operations(final ProxyClient<IoTAnalyticsClient> proxyClient) {
+            this.proxyClient = proxyClient;
+        }
+
+        @Override
+        public int getDeleteTier(final StackResource resource) {
+            return resource.getType().getDeleteTier();
+        }
+
+        @Override
+        public String getTypeName(final StackResource resource) {
+            return resource.getType().getTypeName();
+        }
+
+        @Override
+        public String getName(final StackResource resource) {
+            return resource.getName();
+        }
+
+        @Override
+        public String getDeleteOperation(final StackResource resource) {
+            return resource.getType().getDeleteOperation();
+        }
+
+        @Override
+        public String getDescribeOperation(final StackResource resource) {
+            return resource.getType().getDescribeOperation();
+        }
+
+        @Override
+        public void delete(final StackResource resource) {
+            resource.getType().delete(proxyClient, resource.getName());
+        }
+
+        @Override
+        public void describe(final StackResource resource) {
+            resource.getType().describe(proxyClient, resource.getName());
+        }
+    }
+}
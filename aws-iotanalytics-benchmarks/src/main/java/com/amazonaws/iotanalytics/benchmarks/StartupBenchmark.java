@@ -0,0 +1,97 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.channel.ChannelDriver;
+import com.amazonaws.iotanalytics.dataset.DatasetDriver;
+import com.amazonaws.iotanalytics.datastore.DatastoreDriver;
+import com.amazonaws.iotanalytics.pipeline.PipelineDriver;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Measures the cold start of the handlers of one resource type in a fresh JVM: the init phase (loading the handler
+ * classes, which is when priming runs) and the time to the first response, a create of the type's first contract
+ * test fixture run to completion. The service is the {@link FakeIoTAnalyticsClient}, so only the handlers' own
+ * start-up cost is measured. Run it through startup-benchmark.sh at the repository root, which starts it once per
+ * resource type and IOTANALYTICS_PRIMING mode:
+ * <pre>
+ * java -cp benchmarks.jar com.amazonaws.iotanalytics.benchmarks.StartupBenchmark channel [repository root]
+ * </pre>
+ */
+public final class StartupBenchmark {
+    private static final String PRIMING_ENVIRONMENT_VARIABLE = "IOTANALYTICS_PRIMING";
+    private static final String HANDLER_CLASS_FORMAT = "com.amazonaws.iotanalytics.%s.CreateHandler";
+    private static final int FIXTURE = 1;
+
+    private StartupBenchmark() {}
+
+    public static void main(final String[] args) throws Exception {
+        final StackResourceType type = StackResourceType.fromResourceType(args[0]);
+        final Path root = Paths.get(args.length > 1 ? args[1] : ".");
+
+        final FakeServiceBehavior behavior = FakeServiceBehavior.builder().build();
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(behavior);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(10).toMillis());
+        final ProxyClient<IoTAnalyticsClient> proxyClient = proxy.newProxy(() -> client);
+        final ResourceDriver<?, ?> driver = driver(type, proxy, proxyClient,
+                ResourceTemplate.load(root, type.getResourceType(), nameProperty(type), FIXTURE,
+                        behavior.getRegion(), behavior.getAccountId()));
+
+        final long initStart = System.nanoTime();
+        Class.forName(String.format(HANDLER_CLASS_FORMAT, type.getResourceType()));
+        final long initEnd = System.nanoTime();
+
+        final ProgressEvent<?, ?> response = driver.run(HandlerAction.CREATE, 0);
+        final long firstResponseEnd = System.nanoTime();
+
+        System.out.printf("%s priming=%s status=%s init=%dms firstResponse=%dms jvmUptime=%dms%n",
+                type.getTypeName(),
+                System.getenv(PRIMING_ENVIRONMENT_VARIABLE),
+                response.getStatus(),
+                Duration.ofNanos(initEnd - initStart).toMillis(),
+                Duration.ofNanos(firstResponseEnd - initEnd).toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    private static String nameProperty(final StackResourceType type) {
+        switch (type) {
+            case CHANNEL:
+                return ChannelDriver.NAME_PROPERTY;
+            case DATASTORE:
+                return DatastoreDriver.NAME_PROPERTY;
+            case PIPELINE:
+                return PipelineDriver.NAME_PROPERTY;
+            case DATASET:
+                return DatasetDriver.NAME_PROPERTY;
+            default:
+                throw new IllegalArgumentException("Unknown resource type " + type);
+        }
+    }
+
+    private static ResourceDriver<?, ?> driver(final StackResourceType type,
+                                               final AmazonWebServicesClientProxy proxy,
+                                               final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                               final ResourceTemplate template) {
+        switch (type) {
+            case CHANNEL:
+                return new ChannelDriver(proxy, proxyClient, template);
+            case DATASTORE:
+                return new DatastoreDriver(proxy, proxyClient, template);
+            case PIPELINE:
+                return new PipelineDriver(proxy, proxyClient, template);
+            case DATASET:
+                return new DatasetDriver(proxy, proxyClient, template);
+            default:
+                throw new IllegalArgumentException("Unknown resource type " + type);
+        }
+    }
+}
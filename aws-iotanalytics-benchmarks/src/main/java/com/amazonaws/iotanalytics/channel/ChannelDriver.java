@@ -0,0 +1,45 @@
+package com.amazonaws.iotanalytics.channel;
+
+import com.amazonaws.iotanalytics.benchmarks.HandlerAction;
+import com.amazonaws.iotanalytics.benchmarks.ResourceDriver;
+import com.amazonaws.iotanalytics.benchmarks.ResourceTemplate;
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class ChannelDriver extends ResourceDriver<ResourceModel, CallbackContext> {
+    public static final String RESOURCE_TYPE = "channel";
+    public static final String NAME_PROPERTY = "ChannelName";
+
+    public ChannelDriver(final AmazonWebServicesClientProxy proxy,
+                         final ProxyClient<IoTAnalyticsClient> proxyClient,
+                         final ResourceTemplate template) {
+        super(proxy, proxyClient, template, new TypeReference<ResourceModel>() {});
+    }
+
+    @Override
+    protected CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerAction action,
+                                                                   final ResourceHandlerRequest<ResourceModel> request,
+                                                                   final CallbackContext callbackContext) {
+        switch (action) {
+            case CREATE:
+                return new CreateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case UPDATE:
+                return new UpdateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case READ:
+                return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case DELETE:
+                return new DeleteHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.amazonaws.iotanalytics.dataset;
+
+import com.amazonaws.iotanalytics.benchmarks.HandlerAction;
+import com.amazonaws.iotanalytics.benchmarks.ResourceDriver;
+import com.amazonaws.iotanalytics.benchmarks.ResourceTemplate;
+import com.amazonaws.iotanalytics.benchmarks.StackResource;
+import com.amazonaws.iotanalytics.benchmarks.StackResourceType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class DatasetDriver extends ResourceDriver<ResourceModel, CallbackContext> {
+    public static final String RESOURCE_TYPE = "dataset";
+    public static final String NAME_PROPERTY = "DatasetName";
+
+    // The tables of a query are datastores, e.g. "select * from mydatastore join otherdatastore on ...".
+    private static final Pattern QUERIED_DATASTORE = Pattern.compile("(?i)\\b(?:from|join)\\s+[\"`]?(\\w+)");
+
+    public DatasetDriver(final AmazonWebServicesClientProxy proxy,
+                         final ProxyClient<IoTAnalyticsClient> proxyClient,
+                         final ResourceTemplate template) {
+        super(proxy, proxyClient, template, new TypeReference<ResourceModel>() {});
+    }
+
+    @Override
+    protected CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerAction action,
+                                                                   final ResourceHandlerRequest<ResourceModel> request,
+                                                                   final CallbackContext callbackContext) {
+        switch (action) {
+            case CREATE:
+                return new CreateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case UPDATE:
+                return new UpdateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case READ:
+                return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case DELETE:
+                return new DeleteHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+
+    /**
+     * The datastores a dataset queries, and the datasets that trigger it or whose content its container reads.
+     */
+    @Override
+    protected Set<StackResource> references(final ResourceModel model) {
+        final Set<StackResource> references = new LinkedHashSet<>();
+        if (model.getActions() != null) {
+            for (final Action action : model.getActions()) {
+                if (action.getQueryAction() != null && action.getQueryAction().getSqlQuery() != null) {
+                    final Matcher matcher = QUERIED_DATASTORE.matcher(action.getQueryAction().getSqlQuery());
+                    while (matcher.find()) {
+                        references.add(StackResource.of(StackResourceType.DATASTORE, matcher.group(1)));
+                    }
+                }
+                if (action.getContainerAction() != null && action.getContainerAction().getVariables() != null) {
+                    for (final Variable variable : action.getContainerAction().getVariables()) {
+                        if (variable.getDatasetContentVersionValue() != null) {
+                            references.add(StackResource.of(StackResourceType.DATASET,
+                                    variable.getDatasetContentVersionValue().getDatasetName()));
+                        }
+                    }
+                }
+            }
+        }
+        if (model.getTriggers() != null) {
+            for (final Trigger trigger : model.getTriggers()) {
+                if (trigger.getTriggeringDataset() != null) {
+                    references.add(StackResource.of(StackResourceType.DATASET,
+                            trigger.getTriggeringDataset().getDatasetName()));
+                }
+            }
+        }
+        return references;
+    }
+}
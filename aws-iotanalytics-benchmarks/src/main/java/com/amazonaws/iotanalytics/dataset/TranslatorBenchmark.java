@@ -0,0 +1,163 @@
+package com.amazonaws.iotanalytics.dataset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.Dataset;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of a large dataset: a container action with {@link #VARIABLES} variables, {@link #DELIVERY_RULES}
+ * content delivery rules and {@link #TAGS} tags, in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    static final int VARIABLES = 100;
+    static final int DELIVERY_RULES = 20;
+    static final int TAGS = 50;
+
+    private ResourceModel model;
+    private DescribeDatasetResponse describeDatasetResponse;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .datasetName("benchmark_dataset")
+                .actions(Collections.singletonList(Action.builder()
+                        .actionName("benchmark_container_action")
+                        .containerAction(ContainerAction.builder()
+                                .image("123456789012.dkr.ecr.us-west-2.amazonaws.com/benchmark:latest")
+                                .executionRoleArn("arn:aws:iam::123456789012:role/benchmark")
+                                .resourceConfiguration(ResourceConfiguration.builder()
+                                        .computeType("ACU_2")
+                                        .volumeSizeInGB(50)
+                                        .build())
+                                .variables(variables())
+                                .build())
+                        .build()))
+                .contentDeliveryRules(contentDeliveryRules())
+                .lateDataRules(Collections.singletonList(LateDataRule.builder()
+                        .ruleName("benchmark_late_data_rule")
+                        .ruleConfiguration(LateDataRuleConfiguration.builder()
+                                .deltaTimeSessionWindowConfiguration(DeltaTimeSessionWindowConfiguration.builder()
+                                        .timeoutInMinutes(15)
+                                        .build())
+                                .build())
+                        .build()))
+                .triggers(Collections.singletonList(Trigger.builder()
+                        .schedule(Schedule.builder().scheduleExpression("cron(0 12 * * ? *)").build())
+                        .build()))
+                .versioningConfiguration(VersioningConfiguration.builder().maxVersions(30).unlimited(false).build())
+                .retentionPeriod(RetentionPeriod.builder().numberOfDays(90).unlimited(false).build())
+                .tags(tags())
+                .build();
+
+        // The service side of the round trip carries exactly what the model asked for.
+        final CreateDatasetRequest request = Translator.translateToCreateDatasetRequest(model);
+        describeDatasetResponse = DescribeDatasetResponse.builder()
+                .dataset(Dataset.builder()
+                        .name(request.datasetName())
+                        .arn("arn:aws:iotanalytics:us-west-2:123456789012:dataset/benchmark_dataset")
+                        .actions(request.actions())
+                        .contentDeliveryRules(request.contentDeliveryRules())
+                        .lateDataRules(request.lateDataRules())
+                        .triggers(request.triggers())
+                        .versioningConfiguration(request.versioningConfiguration())
+                        .retentionPeriod(request.retentionPeriod())
+                        .build())
+                .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(request.tags()).build();
+    }
+
+    @Benchmark
+    public CreateDatasetRequest translateToCreateDatasetRequest() {
+        return Translator.translateToCreateDatasetRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeResponse() {
+        return Translator.translateFromDescribeResponse(describeDatasetResponse, listTagsForResourceResponse);
+    }
+
+    private static List<Variable> variables() {
+        final List<Variable> variables = new ArrayList<>(VARIABLES);
+        for (int i = 0; i < VARIABLES; i++) {
+            final Variable.VariableBuilder builder = Variable.builder().variableName("variable_" + i);
+            switch (i % 4) {
+                case 0:
+                    builder.stringValue("value_" + i);
+                    break;
+                case 1:
+                    builder.doubleValue((double) i);
+                    break;
+                case 2:
+                    builder.datasetContentVersionValue(DatasetContentVersionValue.builder()
+                            .datasetName("input_dataset_" + i)
+                            .build());
+                    break;
+                default:
+                    builder.outputFileUriValue(OutputFileUriValue.builder().fileName("output_" + i + ".csv").build());
+                    break;
+            }
+            variables.add(builder.build());
+        }
+        return variables;
+    }
+
+    private static List<DatasetContentDeliveryRule> contentDeliveryRules() {
+        final List<DatasetContentDeliveryRule> rules = new ArrayList<>(DELIVERY_RULES);
+        for (int i = 0; i < DELIVERY_RULES; i++) {
+            final DatasetContentDeliveryRuleDestination destination = i % 2 == 0
+                    ? DatasetContentDeliveryRuleDestination.builder()
+                    .s3DestinationConfiguration(S3DestinationConfiguration.builder()
+                            .bucket("benchmark-bucket-" + i)
+                            .key("dataset/!{iotanalytics:scheduleTime}/!{iotanalytics:versionId}_" + i + ".csv")
+                            .roleArn("arn:aws:iam::123456789012:role/delivery_" + i)
+                            .glueConfiguration(GlueConfiguration.builder()
+                                    .databaseName("benchmark_database")
+                                    .tableName("table_" + i)
+                                    .build())
+                            .build())
+                    .build()
+                    : DatasetContentDeliveryRuleDestination.builder()
+                    .iotEventsDestinationConfiguration(IotEventsDestinationConfiguration.builder()
+                            .inputName("benchmark_input_" + i)
+                            .roleArn("arn:aws:iam::123456789012:role/delivery_" + i)
+                            .build())
+                    .build();
+            rules.add(DatasetContentDeliveryRule.builder()
+                    .entryName("entry_" + i)
+                    .destination(destination)
+                    .build());
+        }
+        return rules;
+    }
+
+    private static List<Tag> tags() {
+        final List<Tag> tags = new ArrayList<>(TAGS);
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(Tag.builder().key("key_" + i).value("value_" + i).build());
+        }
+        return tags;
+    }
+}
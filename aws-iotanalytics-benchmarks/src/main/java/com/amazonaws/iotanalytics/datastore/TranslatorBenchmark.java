@@ -0,0 +1,115 @@
+package com.amazonaws.iotanalytics.datastore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.Datastore;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of a large datastore: customer managed storage, a Parquet schema with {@link #COLUMNS} columns,
+ * attribute and timestamp partitions and {@link #TAGS} tags, in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    static final int COLUMNS = 400;
+    static final int TAGS = 50;
+
+    private static final String[] COLUMN_TYPES = {"string", "bigint", "double", "boolean", "timestamp"};
+
+    private ResourceModel model;
+    private DescribeDatastoreResponse describeDatastoreResponse;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .datastoreName("benchmark_datastore")
+                .datastoreStorage(DatastoreStorage.builder()
+                        .customerManagedS3(CustomerManagedS3.builder()
+                                .bucket("benchmark-bucket")
+                                .keyPrefix("datastore/")
+                                .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                                .build())
+                        .build())
+                .retentionPeriod(RetentionPeriod.builder().numberOfDays(365).unlimited(false).build())
+                .fileFormatConfiguration(FileFormatConfiguration.builder()
+                        .parquetConfiguration(ParquetConfiguration.builder()
+                                .schemaDefinition(SchemaDefinition.builder().columns(columns()).build())
+                                .build())
+                        .build())
+                .datastorePartitions(DatastorePartitions.builder()
+                        .partitions(Arrays.asList(
+                                DatastorePartition.builder()
+                                        .partition(Partition.builder().attributeName("column_0").build())
+                                        .build(),
+                                DatastorePartition.builder()
+                                        .timestampPartition(TimestampPartition.builder()
+                                                .attributeName("column_4")
+                                                .timestampFormat("yyyy-MM-dd HH:mm:ss")
+                                                .build())
+                                        .build()))
+                        .build())
+                .tags(tags())
+                .build();
+
+        // The service side of the round trip carries exactly what the model asked for.
+        final CreateDatastoreRequest request = Translator.translateToCreateDatastoreRequest(model);
+        describeDatastoreResponse = DescribeDatastoreResponse.builder()
+                .datastore(Datastore.builder()
+                        .name(request.datastoreName())
+                        .arn("arn:aws:iotanalytics:us-west-2:123456789012:datastore/benchmark_datastore")
+                        .storage(request.datastoreStorage())
+                        .retentionPeriod(request.retentionPeriod())
+                        .fileFormatConfiguration(request.fileFormatConfiguration())
+                        .datastorePartitions(request.datastorePartitions())
+                        .build())
+                .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(request.tags()).build();
+    }
+
+    @Benchmark
+    public CreateDatastoreRequest translateToCreateDatastoreRequest() {
+        return Translator.translateToCreateDatastoreRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeResponse() {
+        return Translator.translateFromDescribeResponse(describeDatastoreResponse, listTagsForResourceResponse);
+    }
+
+    private static List<Column> columns() {
+        final List<Column> columns = new ArrayList<>(COLUMNS);
+        for (int i = 0; i < COLUMNS; i++) {
+            columns.add(Column.builder().name("column_" + i).type(COLUMN_TYPES[i % COLUMN_TYPES.length]).build());
+        }
+        return columns;
+    }
+
+    private static List<Tag> tags() {
+        final List<Tag> tags = new ArrayList<>(TAGS);
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(Tag.builder().key("key_" + i).value("value_" + i).build());
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,70 @@
+package com.amazonaws.iotanalytics.pipeline;
+
+import com.amazonaws.iotanalytics.benchmarks.HandlerAction;
+import com.amazonaws.iotanalytics.benchmarks.ResourceDriver;
+import com.amazonaws.iotanalytics.benchmarks.ResourceTemplate;
+import com.amazonaws.iotanalytics.benchmarks.StackResource;
+import com.amazonaws.iotanalytics.benchmarks.StackResourceType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class PipelineDriver extends ResourceDriver<ResourceModel, CallbackContext> {
+    public static final String RESOURCE_TYPE = "pipeline";
+    public static final String NAME_PROPERTY = "PipelineName";
+
+    public PipelineDriver(final AmazonWebServicesClientProxy proxy,
+                          final ProxyClient<IoTAnalyticsClient> proxyClient,
+                          final ResourceTemplate template) {
+        super(proxy, proxyClient, template, new TypeReference<ResourceModel>() {});
+    }
+
+    @Override
+    protected CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerAction action,
+                                                                   final ResourceHandlerRequest<ResourceModel> request,
+                                                                   final CallbackContext callbackContext) {
+        switch (action) {
+            case CREATE:
+                return new CreateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case UPDATE:
+                return new UpdateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case READ:
+                return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            case DELETE:
+                return new DeleteHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+
+    /**
+     * The channels a pipeline reads from and the datastores it writes to.
+     */
+    @Override
+    protected Set<StackResource> references(final ResourceModel model) {
+        final Set<StackResource> references = new LinkedHashSet<>();
+        if (model.getPipelineActivities() != null) {
+            for (final Activity activity : model.getPipelineActivities()) {
+                if (activity.getChannel() != null) {
+                    references.add(StackResource.of(StackResourceType.CHANNEL, activity.getChannel().getChannelName()));
+                }
+                if (activity.getDatastore() != null) {
+                    references.add(StackResource.of(StackResourceType.DATASTORE,
+                            activity.getDatastore().getDatastoreName()));
+                }
+            }
+        }
+        return references;
+    }
+}
@@ -0,0 +1,159 @@
+package com.amazonaws.iotanalytics.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.iotanalytics.model.CreatePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.Pipeline;
+import software.amazon.awssdk.services.iotanalytics.model.PipelineActivity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of a pipeline with {@link #activities} activities - a channel, every kind of processing activity
+ * in turn and a datastore - and {@link #TAGS} tags, in both directions. The larger size stresses the per-activity
+ * dispatch between activity kinds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    static final int ATTRIBUTES = 10;
+    static final int TAGS = 50;
+
+    @Param({"25", "100"})
+    public int activities;
+
+    private ResourceModel model;
+    private DescribePipelineResponse describePipelineResponse;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .pipelineName("benchmark_pipeline")
+                .pipelineActivities(activities(activities))
+                .tags(tags())
+                .build();
+
+        // The service side of the round trip carries exactly what the model asked for.
+        final CreatePipelineRequest request = Translator.translateToCreatePipelineRequest(model);
+        describePipelineResponse = DescribePipelineResponse.builder()
+                .pipeline(Pipeline.builder()
+                        .name(request.pipelineName())
+                        .arn("arn:aws:iotanalytics:us-west-2:123456789012:pipeline/benchmark_pipeline")
+                        .activities(request.pipelineActivities())
+                        .build())
+                .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(request.tags()).build();
+    }
+
+    @Benchmark
+    public List<PipelineActivity> translatePipelineActivitiesFromCfn() {
+        return Translator.translatePipelineActivitiesFromCfn(model.getPipelineActivities());
+    }
+
+    @Benchmark
+    public CreatePipelineRequest translateToCreatePipelineRequest() {
+        return Translator.translateToCreatePipelineRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeResponse() {
+        return Translator.translateFromDescribeResponse(describePipelineResponse, listTagsForResourceResponse);
+    }
+
+    private static List<Activity> activities(final int count) {
+        final List<Activity> activities = new ArrayList<>(count);
+        activities.add(Activity.builder()
+                .channel(Channel.builder().name(name(0)).channelName("benchmark_channel").next(name(1)).build())
+                .build());
+        for (int i = 1; i < count - 1; i++) {
+            activities.add(processingActivity(i));
+        }
+        activities.add(Activity.builder()
+                .datastore(Datastore.builder().name(name(count - 1)).datastoreName("benchmark_datastore").build())
+                .build());
+        return activities;
+    }
+
+    private static Activity processingActivity(final int i) {
+        final String name = name(i);
+        final String next = name(i + 1);
+        final String roleArn = "arn:aws:iam::123456789012:role/enrich_" + i;
+        switch (i % 8) {
+            case 0:
+                return Activity.builder().addAttributes(AddAttributes.builder()
+                        .name(name).next(next).attributes(attributeMap(i)).build()).build();
+            case 1:
+                return Activity.builder().removeAttributes(RemoveAttributes.builder()
+                        .name(name).next(next).attributes(attributeList(i)).build()).build();
+            case 2:
+                return Activity.builder().selectAttributes(SelectAttributes.builder()
+                        .name(name).next(next).attributes(attributeList(i)).build()).build();
+            case 3:
+                return Activity.builder().deviceRegistryEnrich(DeviceRegistryEnrich.builder()
+                        .name(name).next(next).attribute("registry_" + i).thingName("thing_" + i)
+                        .roleArn(roleArn).build()).build();
+            case 4:
+                return Activity.builder().deviceShadowEnrich(DeviceShadowEnrich.builder()
+                        .name(name).next(next).attribute("shadow_" + i).thingName("thing_" + i)
+                        .roleArn(roleArn).build()).build();
+            case 5:
+                return Activity.builder().filter(Filter.builder()
+                        .name(name).next(next).filter("temperature_" + i + " > 40 AND humidity < 80").build()).build();
+            case 6:
+                return Activity.builder().math(Math.builder()
+                        .name(name).next(next).attribute("fahrenheit_" + i)
+                        .math("(temperature_" + i + " * 9 / 5) + 32").build()).build();
+            default:
+                return Activity.builder().lambda(Lambda.builder()
+                        .name(name).next(next).lambdaName("benchmark_lambda_" + i).batchSize(100).build()).build();
+        }
+    }
+
+    private static String name(final int i) {
+        return "activity_" + i;
+    }
+
+    private static Map<String, String> attributeMap(final int activity) {
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < ATTRIBUTES; i++) {
+            attributes.put("attribute_" + activity + "_" + i, "copy_" + activity + "_" + i);
+        }
+        return attributes;
+    }
+
+    private static List<String> attributeList(final int activity) {
+        final List<String> attributes = new ArrayList<>(ATTRIBUTES);
+        for (int i = 0; i < ATTRIBUTES; i++) {
+            attributes.add("attribute_" + activity + "_" + i);
+        }
+        return attributes;
+    }
+
+    private static List<Tag> tags() {
+        final List<Tag> tags = new ArrayList<>(TAGS);
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(Tag.builder().key("key_" + i).value("value_" + i).build());
+        }
+        return tags;
+    }
+}
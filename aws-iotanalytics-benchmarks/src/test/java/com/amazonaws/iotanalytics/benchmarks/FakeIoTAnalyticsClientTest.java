@@ -0,0 +1,203 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.model.ChannelStatus;
+import software.amazon.awssdk.services.iotanalytics.model.CreateChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.RetentionPeriod;
+import software.amazon.awssdk.services.iotanalytics.model.Tag;
+import software.amazon.awssdk.services.iotanalytics.model.TagResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.awssdk.services.iotanalytics.model.UntagResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.UpdateChannelRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeIoTAnalyticsClientTest {
+    private static final String TEST_CHANNEL_NAME = "test_channel";
+    private static final String TEST_CHANNEL_ARN = "arn:aws:iotanalytics:us-east-1:123456789012:channel/test_channel";
+    private static final Duration CONSISTENCY_DELAY = Duration.ofSeconds(2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Duration> sleeps = new ArrayList<>();
+
+    @Test
+    public void GIVEN_created_channel_WHEN_describe_and_list_tags_THEN_return_it() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().build());
+        final CreateChannelResponse createChannelResponse = client.createChannel(CreateChannelRequest.builder()
+                .channelName(TEST_CHANNEL_NAME)
+                .retentionPeriod(RetentionPeriod.builder().numberOfDays(10).build())
+                .tags(Tag.builder().key("key1").value("value1").build())
+                .build());
+
+        // WHEN / THEN
+        assertThat(createChannelResponse.channelArn()).isEqualTo(TEST_CHANNEL_ARN);
+        assertThat(client.describeChannel(describe()).channel().retentionPeriod().numberOfDays()).isEqualTo(10);
+        assertThat(client.describeChannel(describe()).channel().status()).isEqualTo(ChannelStatus.ACTIVE);
+        assertThat(client.listTagsForResource(listTags()).tags())
+                .containsExactly(Tag.builder().key("key1").value("value1").build());
+        assertThat(client.getCallCount("DescribeChannel")).isEqualTo(2);
+    }
+
+    @Test
+    public void GIVEN_existing_channel_WHEN_create_THEN_throw_already_exists() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().build());
+        client.createChannel(create());
+
+        // WHEN / THEN
+        assertThrows(ResourceAlreadyExistsException.class, () -> client.createChannel(create()));
+    }
+
+    @Test
+    public void GIVEN_consistency_delay_WHEN_describe_after_create_THEN_found_once_delay_passed() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().consistencyDelay(CONSISTENCY_DELAY).build());
+        client.createChannel(create());
+
+        // WHEN / THEN
+        assertThrows(ResourceNotFoundException.class, () -> client.describeChannel(describe()));
+        assertThat(client.listChannels(ListChannelsRequest.builder().build()).channelSummaries()).isEmpty();
+        clock.addAndGet(CONSISTENCY_DELAY.toNanos());
+        assertThat(client.describeChannel(describe()).channel().name()).isEqualTo(TEST_CHANNEL_NAME);
+    }
+
+    @Test
+    public void GIVEN_consistency_delay_WHEN_describe_after_delete_THEN_deleting_until_delay_passed() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().consistencyDelay(CONSISTENCY_DELAY).build());
+        client.createChannel(create());
+        clock.addAndGet(CONSISTENCY_DELAY.toNanos());
+
+        // WHEN
+        client.deleteChannel(DeleteChannelRequest.builder().channelName(TEST_CHANNEL_NAME).build());
+
+        // THEN
+        assertThat(client.describeChannel(describe()).channel().status()).isEqualTo(ChannelStatus.DELETING);
+        assertThrows(ResourceNotFoundException.class, () -> client.listTagsForResource(listTags()));
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.deleteChannel(DeleteChannelRequest.builder().channelName(TEST_CHANNEL_NAME).build()));
+        clock.addAndGet(CONSISTENCY_DELAY.toNanos());
+        assertThrows(ResourceNotFoundException.class, () -> client.describeChannel(describe()));
+    }
+
+    @Test
+    public void GIVEN_missing_channel_WHEN_update_THEN_throw_not_found() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().build());
+
+        // WHEN / THEN
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.updateChannel(UpdateChannelRequest.builder().channelName(TEST_CHANNEL_NAME).build()));
+    }
+
+    @Test
+    public void GIVEN_tags_WHEN_tag_and_untag_THEN_update_tags() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().build());
+        client.createChannel(create());
+
+        // WHEN
+        client.tagResource(TagResourceRequest.builder()
+                .resourceArn(TEST_CHANNEL_ARN)
+                .tags(Tag.builder().key("key1").value("value1").build(), Tag.builder().key("key2").value("value2").build())
+                .build());
+        client.untagResource(UntagResourceRequest.builder().resourceArn(TEST_CHANNEL_ARN).tagKeys("key1").build());
+
+        // THEN
+        assertThat(client.listTagsForResource(listTags()).tags())
+                .containsExactly(Tag.builder().key("key2").value("value2").build());
+    }
+
+    @Test
+    public void GIVEN_more_channels_than_a_page_WHEN_list_THEN_paginate() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().build());
+        for (int i = 0; i < 5; i++) {
+            client.createChannel(CreateChannelRequest.builder().channelName("channel" + i).build());
+        }
+
+        // WHEN
+        final ListChannelsResponse firstPage = client.listChannels(ListChannelsRequest.builder().maxResults(3).build());
+        final ListChannelsResponse secondPage = client.listChannels(ListChannelsRequest.builder()
+                .maxResults(3)
+                .nextToken(firstPage.nextToken())
+                .build());
+
+        // THEN
+        assertThat(firstPage.channelSummaries()).extracting("channelName").containsExactly("channel0", "channel1", "channel2");
+        assertThat(secondPage.channelSummaries()).extracting("channelName").containsExactly("channel3", "channel4");
+        assertThat(secondPage.nextToken()).isNull();
+    }
+
+    @Test
+    public void GIVEN_throttle_probability_WHEN_call_THEN_throw_throttling() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().throttleProbability(1).build());
+
+        // WHEN / THEN
+        assertThrows(ThrottlingException.class, () -> client.describeChannel(describe()));
+        assertThat(client.getCallCount("DescribeChannel")).isEqualTo(1);
+        assertThat(client.getThrottledCount("DescribeChannel")).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_rate_limit_WHEN_call_faster_THEN_throttle_until_refilled() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = client(FakeServiceBehavior.builder().requestsPerSecond(2).build());
+        client.createChannel(create());
+
+        // WHEN / THEN
+        client.describeChannel(describe());
+        client.describeChannel(describe());
+        assertThrows(ThrottlingException.class, () -> client.describeChannel(describe()));
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(client.describeChannel(describe()).channel().name()).isEqualTo(TEST_CHANNEL_NAME);
+        assertThat(client.getThrottledCount("DescribeChannel")).isEqualTo(1);
+        assertThat(client.getThrottledCount("CreateChannel")).isZero();
+    }
+
+    @Test
+    public void GIVEN_latency_WHEN_call_THEN_wait_for_it() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client =
+                client(FakeServiceBehavior.builder().latency(LatencyDistribution.fixed(Duration.ofMillis(100))).build());
+
+        // WHEN
+        client.createChannel(create());
+        client.describeChannel(describe());
+
+        // THEN
+        assertThat(sleeps).containsExactly(Duration.ofMillis(100), Duration.ofMillis(100));
+    }
+
+    private FakeIoTAnalyticsClient client(final FakeServiceBehavior behavior) {
+        return new FakeIoTAnalyticsClient(behavior, clock::get, sleeps::add);
+    }
+
+    private static CreateChannelRequest create() {
+        return CreateChannelRequest.builder().channelName(TEST_CHANNEL_NAME).build();
+    }
+
+    private static DescribeChannelRequest describe() {
+        return DescribeChannelRequest.builder().channelName(TEST_CHANNEL_NAME).build();
+    }
+
+    private static ListTagsForResourceRequest listTags() {
+        return ListTagsForResourceRequest.builder().resourceArn(TEST_CHANNEL_ARN).build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResourceTemplateTest {
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+
+    @Test
+    public void GIVEN_template_WHEN_create_THEN_rename_and_fill_in_placeholders() {
+        // GIVEN
+        final ResourceTemplate template = new ResourceTemplate("channel", "ChannelName", REGION, ACCOUNT_ID,
+                "{\"ChannelName\": \"mychannel1\", \"ChannelStorage\": {\"CustomerManagedS3\": "
+                        + "{\"Bucket\": \"cfn-testing-bucket-{{TestRegion}}-{{TestAccountId}}\", \"RoleArn\": \"{{CFNTestingRole}}\"}}}",
+                "{\"ChannelName\": \"mychannel1\"}");
+
+        // WHEN
+        final String model = template.create(7);
+
+        // THEN
+        assertThat(template.name(7)).isEqualTo("load_channel_7");
+        assertThat(model).isEqualTo("{\"ChannelName\":\"load_channel_7\",\"ChannelStorage\":{\"CustomerManagedS3\":"
+                + "{\"Bucket\":\"cfn-testing-bucket-us-east-1-123456789012\","
+                + "\"RoleArn\":\"arn:aws:iam::123456789012:role/cfn-testing-role\"}}}");
+        assertThat(template.update(7)).isEqualTo("{\"ChannelName\":\"load_channel_7\"}");
+    }
+
+    @Test
+    public void GIVEN_linked_template_WHEN_create_THEN_reference_resources_of_same_index() {
+        // GIVEN
+        final ResourceTemplate template = new ResourceTemplate("dataset", "DatasetName", REGION, ACCOUNT_ID,
+                "{\"DatasetName\": \"mydataset1\", \"Actions\": [{\"QueryAction\": "
+                        + "{\"SqlQuery\": \"select * from cfn_testing_datastore1\"}}]}",
+                "{\"DatasetName\": \"mydataset1\"}").linked();
+
+        // WHEN
+        final String model = template.create(3);
+
+        // THEN
+        assertThat(model).isEqualTo("{\"DatasetName\":\"load_dataset_3\",\"Actions\":[{\"QueryAction\":"
+                + "{\"SqlQuery\":\"select * from load_datastore_3\"}}]}");
+    }
+
+    @Test
+    public void GIVEN_unknown_placeholder_WHEN_create_THEN_throw() {
+        // GIVEN
+        final ResourceTemplate template = new ResourceTemplate("channel", "ChannelName", REGION, ACCOUNT_ID,
+                "{\"ChannelName\": \"{{Unknown}}\", \"RoleArn\": \"{{Unknown}}\"}", "{}");
+
+        // WHEN / THEN
+        assertThrows(IllegalArgumentException.class, () -> template.create(0));
+    }
+
+    @Test
+    public void GIVEN_module_fixtures_WHEN_load_THEN_read_create_and_update() {
+        // WHEN
+        final ResourceTemplate template = ResourceTemplate.load(Paths.get(".."), "datastore", "DatastoreName", 1,
+                REGION, ACCOUNT_ID);
+
+        // THEN
+        assertThat(template.create(0)).contains("\"DatastoreName\":\"load_datastore_0\"").doesNotContain("{{");
+        assertThat(template.update(0)).contains("\"DatastoreName\":\"load_datastore_0\"").doesNotContain("{{");
+    }
+}
@@ -0,0 +1,134 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.common.ProvisionOutcome;
+import com.amazonaws.iotanalytics.common.ProvisioningReport;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StackLoadHarnessTest {
+    @Test
+    public void GIVEN_stack_WHEN_run_THEN_every_phase_succeeds_for_every_resource() throws InterruptedException {
+        // GIVEN
+        final StackLoadHarness harness = new StackLoadHarness(HarnessOptions.builder()
+                .root(Paths.get(".."))
+                .resources(8)
+                .concurrency(4)
+                .medianLatency(Duration.ZERO)
+                .build());
+
+        // WHEN
+        final List<PhaseReport> reports = harness.run();
+
+        // THEN
+        assertThat(reports).extracting(PhaseReport::getAction).containsExactly(HandlerAction.values());
+        for (final PhaseReport report : reports) {
+            assertThat(report.getResourceCount()).isEqualTo(8);
+            assertThat(report.getFailureCount()).isZero();
+            assertThat(report.getStatsByResourceType()).containsOnlyKeys("channel", "datastore", "pipeline", "dataset");
+        }
+        assertThat(reports.get(0).getApiCalls())
+                .containsEntry("CreateChannel", 2L)
+                .containsEntry("CreateDatastore", 2L)
+                .containsEntry("CreatePipeline", 2L)
+                .containsEntry("CreateDataset", 2L);
+        assertThat(reports.get(3).getApiCalls()).containsEntry("DeletePipeline", 2L);
+        assertThat(harness.getClient().listChannels(ListChannelsRequest.builder().build()).channelSummaries()).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_batch_delete_WHEN_run_THEN_delete_phase_tears_the_stack_down() throws InterruptedException {
+        // GIVEN
+        final StackLoadHarness harness = new StackLoadHarness(HarnessOptions.builder()
+                .root(Paths.get(".."))
+                .resources(8)
+                .concurrency(4)
+                .medianLatency(Duration.ZERO)
+                .batchDelete(true)
+                .build());
+
+        // WHEN
+        final PhaseReport report = harness.run().get(3);
+
+        // THEN
+        assertThat(report.getAction()).isEqualTo(HandlerAction.DELETE);
+        assertThat(report.getResourceCount()).isEqualTo(8);
+        assertThat(report.getFailureCount()).isZero();
+        assertThat(report.getApiCalls()).containsEntry("DeleteChannel", 2L).containsEntry("DeleteDataset", 2L);
+        assertThat(harness.getClient().listChannels(ListChannelsRequest.builder().build()).channelSummaries()).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_linked_stack_WHEN_run_THEN_create_topologies_in_dependency_order() throws InterruptedException {
+        // GIVEN
+        final StackLoadHarness harness = new StackLoadHarness(HarnessOptions.builder()
+                .root(Paths.get(".."))
+                .resources(8)
+                .concurrency(4)
+                .medianLatency(Duration.ZERO)
+                .linked(true)
+                .build());
+
+        // WHEN
+        final List<PhaseReport> reports = harness.run();
+
+        // THEN
+        assertThat(reports.get(0).getResourceCount()).isEqualTo(8);
+        assertThat(reports.get(0).getFailureCount()).isZero();
+        final ProvisioningReport<StackResource> provisioning = harness.getProvisioningReport();
+        final Map<StackResource, ProvisionOutcome> outcomes = provisioning.getOutcomes();
+        final ProvisionOutcome pipeline = outcomes.get(StackResource.of(StackResourceType.PIPELINE, "load_pipeline_1"));
+        assertThat(pipeline.getStarted())
+                .isGreaterThanOrEqualTo(outcomes.get(StackResource.of(StackResourceType.CHANNEL, "load_channel_1")).getFinished())
+                .isGreaterThanOrEqualTo(outcomes.get(StackResource.of(StackResourceType.DATASTORE, "load_datastore_1")).getFinished());
+        final ProvisionOutcome dataset = outcomes.get(StackResource.of(StackResourceType.DATASET, "load_dataset_1"));
+        assertThat(dataset.getStarted())
+                .isGreaterThanOrEqualTo(outcomes.get(StackResource.of(StackResourceType.DATASTORE, "load_datastore_1")).getFinished());
+        assertThat(provisioning.getCriticalPath()).hasSize(2);
+        assertThat(provisioning.getCriticalPath().get(0).getType()).isIn(StackResourceType.CHANNEL, StackResourceType.DATASTORE);
+    }
+
+    @Test
+    public void GIVEN_report_WHEN_print_THEN_list_types_and_apis() throws InterruptedException {
+        // GIVEN
+        final PhaseReport report = new StackLoadHarness(HarnessOptions.builder()
+                .root(Paths.get(".."))
+                .resources(4)
+                .medianLatency(Duration.ZERO)
+                .build()).run().get(0);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN
+        report.print(new PrintStream(output, true));
+
+        // THEN
+        assertThat(output.toString()).startsWith("CREATE: 4 resources").contains("channel").contains("CreateDataset");
+    }
+
+    @Test
+    public void GIVEN_args_WHEN_fromArgs_THEN_parse_options() {
+        // WHEN
+        final HarnessOptions options = HarnessOptions.fromArgs(new String[] {
+                "--resources", "500", "--concurrency", "32", "--latency-millis", "80", "--requests-per-second", "20",
+                "--batch-delete", "true", "--linked", "true"});
+
+        // THEN
+        assertThat(options.getResources()).isEqualTo(500);
+        assertThat(options.getConcurrency()).isEqualTo(32);
+        assertThat(options.getMedianLatency()).isEqualTo(Duration.ofMillis(80));
+        assertThat(options.getRequestsPerSecond()).isEqualTo(20);
+        assertThat(options.isBatchDelete()).isTrue();
+        assertThat(options.isLinked()).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> HarnessOptions.fromArgs(new String[] {"--unknown", "1"}));
+        assertThrows(IllegalArgumentException.class, () -> HarnessOptions.fromArgs(new String[] {"--resources"}));
+    }
+}
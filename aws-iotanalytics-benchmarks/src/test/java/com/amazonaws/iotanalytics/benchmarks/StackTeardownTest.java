@@ -0,0 +1,220 @@
+package com.amazonaws.iotanalytics.benchmarks;
+
+import com.amazonaws.iotanalytics.common.DeleteOutcome;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.awssdk.services.iotanalytics.model.CreateChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.CreatePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
+import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListPipelinesRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StackTeardownTest {
+    private static final Duration CONSISTENCY_DELAY = Duration.ofSeconds(2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Duration> sleeps = Collections.synchronizedList(new ArrayList<>());
+    private final List<Duration> waits = new ArrayList<>();
+    private final List<String> deletes = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void GIVEN_stacks_WHEN_delete_THEN_delete_referencing_resources_first_and_poll_on_one_grid() throws InterruptedException {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new RecordingClient(FakeServiceBehavior.builder()
+                .consistencyDelay(CONSISTENCY_DELAY)
+                .build());
+        final List<StackResource> resources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            resources.addAll(createStack(client, i));
+        }
+        clock.addAndGet(CONSISTENCY_DELAY.toNanos());
+
+        // WHEN
+        final Map<StackResource, DeleteOutcome> outcomes = teardown(client).delete(resources);
+
+        // THEN
+        assertThat(outcomes.keySet()).containsExactlyElementsOf(resources);
+        assertThat(outcomes.values()).allMatch(DeleteOutcome::isSuccess);
+        assertThat(client.listChannels(ListChannelsRequest.builder().build()).channelSummaries()).isEmpty();
+        assertThat(client.listPipelines(ListPipelinesRequest.builder().build()).pipelineSummaries()).isEmpty();
+        assertThat(deletes.subList(0, 5)).containsOnly("pipeline");
+        assertThat(deletes.subList(5, 10)).containsOnly("channel");
+        // Each tier is waited for once, on one grid, rather than once per resource.
+        final Duration waited = waits.stream().reduce(Duration.ZERO, Duration::plus);
+        assertThat(waited).isLessThan(CONSISTENCY_DELAY.multipliedBy(2).plus(Duration.ofSeconds(5)));
+        assertThat(client.getCallCount("DescribePipeline")).isEqualTo(client.getCallCount("DescribeDataset"));
+    }
+
+    @Test
+    public void GIVEN_resource_already_gone_WHEN_delete_THEN_succeed() throws InterruptedException {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder().build(),
+                clock::get, sleeps::add);
+        final StackResource channel = StackResource.of(StackResourceType.CHANNEL, "gone_channel");
+
+        // WHEN
+        final Map<StackResource, DeleteOutcome> outcomes = teardown(client).delete(Collections.singletonList(channel));
+
+        // THEN
+        assertThat(outcomes.get(channel).isSuccess()).isTrue();
+        assertThat(client.getCallCount("DescribeChannel")).isZero();
+        assertThat(waits).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_throttling_WHEN_delete_THEN_retry_in_next_round() throws InterruptedException {
+        // GIVEN
+        final Set<String> throttled = ConcurrentHashMap.newKeySet();
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder().build(),
+                clock::get, sleeps::add) {
+            @Override
+            public DeleteChannelResponse deleteChannel(final DeleteChannelRequest request) {
+                if (throttled.add(request.channelName())) {
+                    throw ThrottlingException.builder().message("Rate exceeded").build();
+                }
+                return super.deleteChannel(request);
+            }
+        };
+        final List<StackResource> resources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            client.createChannel(CreateChannelRequest.builder().channelName("channel_" + i).build());
+            resources.add(StackResource.of(StackResourceType.CHANNEL, "channel_" + i));
+        }
+
+        // WHEN
+        final Map<StackResource, DeleteOutcome> outcomes = teardown(client).delete(resources);
+
+        // THEN
+        assertThat(outcomes.values()).allMatch(DeleteOutcome::isSuccess);
+        assertThat(throttled).hasSize(5);
+        assertThat(waits).isNotEmpty();
+        assertThat(client.listChannels(ListChannelsRequest.builder().build()).channelSummaries()).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_resource_never_gone_WHEN_delete_THEN_fail_not_stabilized() throws InterruptedException {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder().build(),
+                clock::get, sleeps::add) {
+            @Override
+            public DeleteChannelResponse deleteChannel(final DeleteChannelRequest request) {
+                return DeleteChannelResponse.builder().build();
+            }
+        };
+        client.createChannel(CreateChannelRequest.builder().channelName("stuck_channel").build());
+        final StackResource channel = StackResource.of(StackResourceType.CHANNEL, "stuck_channel");
+
+        // WHEN
+        final Map<StackResource, DeleteOutcome> outcomes = teardown(client).delete(Collections.singletonList(channel));
+
+        // THEN
+        assertThat(outcomes.get(channel).getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(outcomes.get(channel).getLatency()).isGreaterThanOrEqualTo(Duration.ofMinutes(4));
+    }
+
+    @Test
+    public void GIVEN_service_error_WHEN_delete_THEN_fail_resource_and_delete_the_others() throws InterruptedException {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder().build(),
+                clock::get, sleeps::add) {
+            @Override
+            public DeleteDatastoreResponse deleteDatastore(final DeleteDatastoreRequest request) {
+                throw InvalidRequestException.builder().message("in use").build();
+            }
+        };
+        final List<StackResource> resources = createStack(client, 0);
+
+        // WHEN
+        final Map<StackResource, DeleteOutcome> outcomes = teardown(client).delete(resources);
+
+        // THEN
+        assertThat(outcomes.get(resources.get(1)).getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(outcomes.get(resources.get(0)).isSuccess()).isTrue();
+        assertThat(outcomes.get(resources.get(2)).isSuccess()).isTrue();
+        assertThat(outcomes.get(resources.get(3)).isSuccess()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_resource_type_WHEN_fromResourceType_THEN_return_it() {
+        assertThat(StackResourceType.fromResourceType("channel")).isEqualTo(StackResourceType.CHANNEL);
+        assertThat(StackResourceType.fromResourceType("dataset")).isEqualTo(StackResourceType.DATASET);
+        assertThrows(IllegalArgumentException.class, () -> StackResourceType.fromResourceType("bucket"));
+    }
+
+    /**
+     * Creates a channel, a datastore, a pipeline from the one to the other and a dataset, in that order.
+     */
+    private static List<StackResource> createStack(final FakeIoTAnalyticsClient client, final int index) {
+        final String channelName = "channel_" + index;
+        final String datastoreName = "datastore_" + index;
+        final String pipelineName = "pipeline_" + index;
+        final String datasetName = "dataset_" + index;
+        client.createChannel(CreateChannelRequest.builder().channelName(channelName).build());
+        client.createDatastore(CreateDatastoreRequest.builder().datastoreName(datastoreName).build());
+        client.createPipeline(CreatePipelineRequest.builder().pipelineName(pipelineName).build());
+        client.createDataset(CreateDatasetRequest.builder().datasetName(datasetName).build());
+        return Arrays.asList(
+                StackResource.of(StackResourceType.CHANNEL, channelName),
+                StackResource.of(StackResourceType.DATASTORE, datastoreName),
+                StackResource.of(StackResourceType.PIPELINE, pipelineName),
+                StackResource.of(StackResourceType.DATASET, datasetName));
+    }
+
+    private StackTeardown teardown(final IoTAnalyticsClient client) {
+        final ProxyClient<IoTAnalyticsClient> proxyClient = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(15).toMillis())
+                .newProxy(() -> client);
+        return new StackTeardown(proxyClient, 4, new LoggerProxy(), clock::get, duration -> {
+            waits.add(duration);
+            clock.addAndGet(duration.toNanos());
+        });
+    }
+
+    /**
+     * Records the type of every pipeline and channel delete, in the order they are made.
+     */
+    private class RecordingClient extends FakeIoTAnalyticsClient {
+        RecordingClient(final FakeServiceBehavior behavior) {
+            super(behavior, clock::get, sleeps::add);
+        }
+
+        @Override
+        public DeletePipelineResponse deletePipeline(final DeletePipelineRequest request) {
+            deletes.add("pipeline");
+            return super.deletePipeline(request);
+        }
+
+        @Override
+        public DeleteChannelResponse deleteChannel(final DeleteChannelRequest request) {
+            deletes.add("channel");
+            return super.deleteChannel(request);
+        }
+    }
+}
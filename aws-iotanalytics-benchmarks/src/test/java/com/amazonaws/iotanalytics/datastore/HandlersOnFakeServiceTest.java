@@ -0,0 +1,87 @@
+package com.amazonaws.iotanalytics.datastore;
+
+import com.amazonaws.iotanalytics.benchmarks.FakeIoTAnalyticsClient;
+import com.amazonaws.iotanalytics.benchmarks.FakeServiceBehavior;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlersOnFakeServiceTest {
+    private static final String TEST_DATASTORE_NAME = "test_datastore";
+    private static final String TEST_DATASTORE_ARN = "arn:aws:iotanalytics:us-east-1:123456789012:datastore/test_datastore";
+    private static final Duration CONSISTENCY_DELAY = Duration.ofMillis(300);
+
+    private final LoggerProxy logger = new LoggerProxy();
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+            logger, new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(10).toMillis());
+
+    @Test
+    public void GIVEN_fake_service_WHEN_create_and_update_THEN_succeed() {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder().build());
+        final ProxyClient<IoTAnalyticsClient> proxyClient = proxy.newProxy(() -> client);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> created = new CreateHandler()
+                .handleRequest(proxy, request(model(10, null), null), new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> updated = new UpdateHandler()
+                .handleRequest(proxy, request(model(20, null), model(10, TEST_DATASTORE_ARN)), new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getId()).isEqualTo(TEST_DATASTORE_ARN);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getRetentionPeriod().getNumberOfDays()).isEqualTo(20);
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("key1").value("value1").build());
+        assertThat(client.getCallCount("UpdateDatastore")).isEqualTo(1);
+        assertThat(client.getCallCount("TagResource")).isZero();
+    }
+
+    @Test
+    public void GIVEN_consistency_delay_WHEN_delete_THEN_probe_until_gone() throws InterruptedException {
+        // GIVEN
+        final FakeIoTAnalyticsClient client = new FakeIoTAnalyticsClient(FakeServiceBehavior.builder()
+                .consistencyDelay(CONSISTENCY_DELAY)
+                .build());
+        final ProxyClient<IoTAnalyticsClient> proxyClient = proxy.newProxy(() -> client);
+        new CreateHandler().handleRequest(proxy, request(model(10, null), null), new CallbackContext(), proxyClient, logger);
+        Thread.sleep(CONSISTENCY_DELAY.toMillis());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = new DeleteHandler()
+                .handleRequest(proxy, request(model(10, TEST_DATASTORE_ARN), null), new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(client.getCallCount("DescribeDatastore")).isGreaterThan(1);
+    }
+
+    private static ResourceModel model(final int retentionDays, final String id) {
+        return ResourceModel.builder()
+                .datastoreName(TEST_DATASTORE_NAME)
+                .id(id)
+                .retentionPeriod(RetentionPeriod.builder().numberOfDays(retentionDays).build())
+                .tags(Collections.singletonList(Tag.builder().key("key1").value("value1").build()))
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+    }
+}
@@ -1,9 +1,16 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.CreateChannelRequest;
 import software.amazon.awssdk.services.iotanalytics.model.CreateChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,9 +23,11 @@ import software.amazon.cloudformation.resource.IdentifierUtils;
 public class CreateHandler extends BaseIoTAnalyticsHandler {
     private static final String CALL_GRAPH = "AWS-IoTAnalytics-Channel::Create";
     private static final String OPERATION = "CreateChannel";
+    private static final String OPERATION_READ = "CreateChannel_Read";
     private static final int MAX_NAME_LENGTH = 128;
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,12 +37,13 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         if (!StringUtils.isEmpty(model.getId())) {
-            logger.log(String.format("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId()));
+            log.info("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId());
             return ProgressEvent.failed(model, null, HandlerErrorCode.InvalidRequest,
                     "Id is a read-only property and cannot be set.");
         }
@@ -44,7 +54,7 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                     request.getClientRequestToken(),
                     MAX_NAME_LENGTH
             ).replaceAll("-", "_");
-            logger.log(String.format("Missing channelName. Generated channelName for %s: %s", ResourceModel.TYPE_NAME, channelName));
+            log.info("Missing channelName. Generated channelName for %s: %s", ResourceModel.TYPE_NAME, channelName);
             model.setChannelName(channelName);
         }
 
@@ -52,22 +62,26 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                             .translateToServiceRequest(Translator::translateToCreateChannelRequest)
-                            .backoffDelay(DELAY_CONSTANT)
+                            .backoffDelay(stabilizer.delay())
                             .makeServiceCall(this::createChannel)
-                            .progress())
+                            .stabilize(this::stabilizedOnCreate)
+                            .done(response -> created(model, request, callbackContext, response.channelArn())))
+                // Only reached when the ARN could not be worked out locally.
                 .then(progress ->
-                        new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        new ReadHandler(true).handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
     }
 
     private CreateChannelResponse createChannel(final CreateChannelRequest request, final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final CreateChannelResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
-                    proxyClient.client()::createChannel);
-            logger.log(String.format("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.channelName()));
+            stabilizer.start();
+            final CreateChannelResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(request,
+                            proxyClient.client()::createChannel));
+            log.info("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.channelName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.channelName(), e.toString()));
+            log.error("%s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.channelName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -75,4 +89,47 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             );
         }
     }
+
+    /**
+     * The create request holds every property of the channel, the service only computes its ARN. The ARN comes with
+     * the create response, or follows from the account and region of the request; if neither has it, the create
+     * stays in progress and the channel is read back.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> created(
+            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final String channelArn) {
+        final String arn = channelArn != null ? channelArn : Translator.translateToChannelArn(model, request);
+        if (arn == null) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        model.setId(arn);
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, model.getChannelName(), arn);
+        DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getChannelName());
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
+    private boolean stabilizedOnCreate(
+            final CreateChannelRequest request,
+            final CreateChannelResponse response,
+            final ProxyClient<IoTAnalyticsClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+        // The create response only carries the ARN once the channel exists, so there is nothing to probe.
+        if (response.channelArn() != null) {
+            return stabilizer.stabilized();
+        }
+        try {
+            final DescribeChannelRequest describeChannelRequest = Translator.translateToDescribeChannelRequest(model);
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeChannelRequest, proxyClient.client()::describeChannel));
+            return stabilizer.stabilized();
+        } catch (final ResourceNotFoundException e) {
+            log.sampled(HandlerLogger.Level.INFO, "%s [%s] not found yet after creating", ResourceModel.TYPE_NAME, request.channelName());
+            return false;
+        } catch (final IoTAnalyticsException e) {
+            throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getChannelName());
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelResponse;
@@ -17,7 +22,8 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
     private static final String OPERATION = "DeleteChannel";
     private static final String OPERATION_READ = "DeleteChannel_Read";
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,28 +33,35 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
         final ProxyClient<IoTAnalyticsClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteChannelRequest)
-                .backoffDelay(DELAY_CONSTANT)
+                .backoffDelay(stabilizer.delay())
                 .makeServiceCall(this::deleteChannel)
                 .stabilize(this::stabilizedOnDelete)
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+                .done(response -> {
+                    ArnCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getChannelName());
+                    DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getChannelName());
+                    return ProgressEvent.defaultSuccessHandler(null);
+                });
     }
 
     private DeleteChannelResponse deleteChannel(final DeleteChannelRequest request,
                                                 final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final DeleteChannelResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request,
-                    proxyClient.client()::deleteChannel);
-            logger.log(String.format("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.channelName()));
+            stabilizer.start();
+            final DeleteChannelResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(
+                            request,
+                            proxyClient.client()::deleteChannel));
+            log.info("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.channelName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.channelName(), e.toString()));
+            log.error("%s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.channelName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -64,11 +77,12 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext) {
         try {
             final DescribeChannelRequest describeChannelRequest = DescribeChannelRequest.builder().channelName(model.getChannelName()).build();
-            proxyClient.injectCredentialsAndInvokeV2(describeChannelRequest, proxyClient.client()::describeChannel);
-            logger.log(String.format("ERROR %s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.channelName()));
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeChannelRequest, proxyClient.client()::describeChannel));
+            log.sampled(HandlerLogger.Level.ERROR, "%s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.channelName());
             return false;
         } catch (final ResourceNotFoundException e) {
-            return true;
+            return stabilizer.stabilized();
         } catch (final IoTAnalyticsException e) {
             throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getChannelName());
         }
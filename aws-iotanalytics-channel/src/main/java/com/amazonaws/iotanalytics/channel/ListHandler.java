@@ -1,9 +1,23 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.AdaptiveThrottle;
+import com.amazonaws.iotanalytics.common.EnvironmentSettings;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.PageStream;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.awssdk.services.iotanalytics.model.ChannelSummary;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelResponse;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
 import software.amazon.awssdk.services.iotanalytics.model.ListChannelsResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.awssdk.services.iotanalytics.paginators.ListChannelsIterable;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -11,13 +25,50 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseIoTAnalyticsHandler {
     private static final String OPERATION = "ListChannels";
+    private static final String OPERATION_HYDRATE = "ListChannels_DescribeChannel";
 
-    private Logger logger;
+    static final String HYDRATE_ENVIRONMENT_VARIABLE = "IOTANALYTICS_LIST_HYDRATE";
+    static final String CONCURRENCY_ENVIRONMENT_VARIABLE = "IOTANALYTICS_LIST_CONCURRENCY";
+    static final String STREAM_ENVIRONMENT_VARIABLE = "IOTANALYTICS_LIST_STREAM_MILLIS";
+    static final int DEFAULT_CONCURRENCY = 8;
+    static final int MAX_HYDRATE_ATTEMPTS = 3;
+
+    private final boolean hydrate;
+    private final int maxConcurrency;
+    private final Duration streamBudget;
+
+    private HandlerLogger log;
+
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(HYDRATE_ENVIRONMENT_VARIABLE)), getConcurrencyFromEnvironment(),
+                getStreamBudgetFromEnvironment());
+    }
+
+    ListHandler(final boolean hydrate, final int maxConcurrency) {
+        this(hydrate, maxConcurrency, Duration.ZERO);
+    }
+
+    /**
+     * @param streamBudget how long to keep reading further pages for, see {@link PageStream}; zero reads only the
+     *                     page of the request's token
+     */
+    ListHandler(final boolean hydrate, final int maxConcurrency, final Duration streamBudget) {
+        this.hydrate = hydrate;
+        this.maxConcurrency = maxConcurrency;
+        this.streamBudget = streamBudget;
+    }
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,35 +77,194 @@ public class ListHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
         final ListChannelsRequest listChannelsRequest = ListChannelsRequest
                 .builder()
                 .nextToken(request.getNextToken())
                 .build();
 
         try {
-            final ListChannelsResponse listChannelsResponse
-                    = proxy.injectCredentialsAndInvokeV2(
-                            listChannelsRequest, proxyClient.client()::listChannels);
-
-            final List<ResourceModel> models = listChannelsResponse.channelSummaries()
-                    .stream()
-                    .map(channelSummary -> ResourceModel
-                            .builder()
-                            .channelName(channelSummary.channelName())
-                            .build()).collect(Collectors.toList());
-            logger.log(String.format("%s successfully list channels", ResourceModel.TYPE_NAME));
+            final List<ResourceModel> models;
+            final String nextToken;
+            if (streamBudget.isZero()) {
+                final ListChannelsResponse listChannelsResponse
+                        = MetricsScope.record(OPERATION, null, () -> proxy.injectCredentialsAndInvokeV2(
+                        listChannelsRequest, proxyClient.client()::listChannels));
+                models = toModels(request, proxyClient, listChannelsResponse);
+                nextToken = listChannelsResponse.nextToken();
+            } else {
+                // The paginator only calls the service as the pages are read, which PageStream stops doing once
+                // the budget is spent.
+                final ListChannelsIterable pages = proxy.injectCredentialsAndInvokeIterableV2(
+                        listChannelsRequest, proxyClient.client()::listChannelsPaginator);
+                final PageStream.Result<ResourceModel> result = PageStream.collect(OPERATION, pages,
+                        page -> toModels(request, proxyClient, page), ListChannelsResponse::nextToken, streamBudget);
+                log.info("%s read %d pages of channels", ResourceModel.TYPE_NAME, result.getPages());
+                models = result.getItems();
+                nextToken = result.getNextToken();
+            }
+            log.info("%s successfully list channels", ResourceModel.TYPE_NAME);
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(models)
                     .status(OperationStatus.SUCCESS)
-                    .nextToken(listChannelsResponse.nextToken())
+                    .nextToken(nextToken)
                     .build();
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s listing channel %s.", ResourceModel.TYPE_NAME, e.toString()));
+            log.error("%s listing channels %s.", ResourceModel.TYPE_NAME, e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
                     null);
         }
     }
+
+    private List<ResourceModel> toModels(final ResourceHandlerRequest<ResourceModel> request,
+                                         final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                         final ListChannelsResponse page) {
+        final List<String> channelNames = page.channelSummaries()
+                .stream()
+                .map(ChannelSummary::channelName)
+                .collect(Collectors.toList());
+        return hydrate
+                ? hydrateChannels(request, proxyClient, channelNames)
+                : channelNames.stream()
+                        .map(channelName -> ResourceModel.builder().channelName(channelName).build())
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Describes every channel of the page and lists its tags, with at most {@code maxConcurrency} calls in
+     * flight. Channels the service throttled are retried in a later round with a lower cap, and channels deleted
+     * since they were listed are left out.
+     */
+    private List<ResourceModel> hydrateChannels(final ResourceHandlerRequest<ResourceModel> request,
+                                                final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                                final List<String> channelNames) {
+        final AdaptiveThrottle throttle = new AdaptiveThrottle(maxConcurrency);
+        final Map<String, ResourceModel> models = new HashMap<>();
+        List<String> pending = channelNames;
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            final Map<String, CompletableFuture<ResourceModel>> futures = new LinkedHashMap<>();
+            for (final String channelName : pending) {
+                futures.put(channelName, hydrateChannel(request, proxyClient, channelName, throttle));
+            }
+
+            final List<String> throttled = new ArrayList<>();
+            for (final Map.Entry<String, CompletableFuture<ResourceModel>> entry : futures.entrySet()) {
+                try {
+                    models.put(entry.getKey(), join(entry.getValue()));
+                } catch (final ResourceNotFoundException e) {
+                    log.info("%s [%s] was deleted while being listed", ResourceModel.TYPE_NAME, entry.getKey());
+                } catch (final ThrottlingException e) {
+                    if (attempt >= MAX_HYDRATE_ATTEMPTS) {
+                        throw hydrateFailure(e, entry.getKey());
+                    }
+                    throttled.add(entry.getKey());
+                } catch (final IoTAnalyticsException e) {
+                    throw hydrateFailure(e, entry.getKey());
+                }
+            }
+            if (!throttled.isEmpty()) {
+                log.info("%s hydration throttled for %d channels, retrying with at most %d calls in flight",
+                        ResourceModel.TYPE_NAME, throttled.size(), throttle.getLimit());
+            }
+            pending = throttled;
+        }
+
+        return channelNames.stream()
+                .filter(models::containsKey)
+                .map(models::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Describes the channel and lists its tags, each call holding one of {@code throttle}'s permits while in flight.
+     * Without an ARN to start from, the tags can only be listed once the describe returned it, so the two calls go
+     * one after the other under a single permit.
+     */
+    private CompletableFuture<ResourceModel> hydrateChannel(final ResourceHandlerRequest<ResourceModel> request,
+                                                            final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                                            final String channelName,
+                                                            final AdaptiveThrottle throttle) {
+        final ResourceModel model = ResourceModel.builder().channelName(channelName).build();
+        final String channelArn = Translator.translateToChannelArn(model, request);
+
+        if (channelArn == null) {
+            return throttled(throttle, () -> describe(proxyClient, model)
+                    .thenCompose(describeResponse -> listTags(proxyClient, describeResponse.channel().arn())
+                            .thenApply(listTagsResponse ->
+                                    Translator.translateFromDescribeResponse(describeResponse, listTagsResponse))));
+        }
+        final CompletableFuture<DescribeChannelResponse> describeFuture =
+                throttled(throttle, () -> describe(proxyClient, model));
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture =
+                throttled(throttle, () -> listTags(proxyClient, channelArn));
+        return describeFuture.thenCombine(listTagsFuture, Translator::translateFromDescribeResponse);
+    }
+
+    private CompletableFuture<DescribeChannelResponse> describe(final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                                                final ResourceModel model) {
+        return MetricsScope.record(OPERATION_HYDRATE, null, () -> invokeAsync(proxyClient,
+                Translator.translateToDescribeChannelRequest(model),
+                IoTAnalyticsAsyncClient::describeChannel,
+                IoTAnalyticsClient::describeChannel));
+    }
+
+    private CompletableFuture<ListTagsForResourceResponse> listTags(final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                                                    final String channelArn) {
+        return MetricsScope.record(OPERATION_HYDRATE, null, () -> invokeAsync(proxyClient,
+                ListTagsForResourceRequest.builder().resourceArn(channelArn).build(),
+                IoTAnalyticsAsyncClient::listTagsForResource,
+                IoTAnalyticsClient::listTagsForResource));
+    }
+
+    private RuntimeException hydrateFailure(final IoTAnalyticsException e, final String channelName) {
+        log.error("%s [%s] fail to be read while listing: %s", ResourceModel.TYPE_NAME, channelName, e);
+        return Translator.translateExceptionToHandlerException(e, OPERATION_HYDRATE, channelName);
+    }
+
+    /**
+     * Sends {@code call} once {@code throttle} has a permit free, and gives the permit back when it completes.
+     */
+    private static <T> CompletableFuture<T> throttled(final AdaptiveThrottle throttle,
+                                                      final Supplier<CompletableFuture<T>> call) {
+        try {
+            throttle.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnInternalFailureException(e);
+        }
+        return call.get().whenComplete((response, e) -> throttle.release(isThrottling(e)));
+    }
+
+    private static boolean isThrottling(final Throwable e) {
+        return e instanceof ThrottlingException
+                || (e != null && e.getCause() instanceof ThrottlingException);
+    }
+
+    private static int getConcurrencyFromEnvironment() {
+        return EnvironmentSettings.parse(CONCURRENCY_ENVIRONMENT_VARIABLE, System.getenv(CONCURRENCY_ENVIRONMENT_VARIABLE),
+                ListHandler::concurrency, DEFAULT_CONCURRENCY);
+    }
+
+    private static Duration getStreamBudgetFromEnvironment() {
+        return EnvironmentSettings.parse(STREAM_ENVIRONMENT_VARIABLE, System.getenv(STREAM_ENVIRONMENT_VARIABLE),
+                ListHandler::streamBudget, Duration.ZERO);
+    }
+
+    static int concurrency(final String value) {
+        final int concurrency = Integer.parseInt(value);
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("must be at least 1");
+        }
+        return concurrency;
+    }
+
+    static Duration streamBudget(final String value) {
+        final long millis = Long.parseLong(value);
+        if (millis < 0) {
+            throw new IllegalArgumentException("must not be negative");
+        }
+        return Duration.ofMillis(millis);
+    }
 }
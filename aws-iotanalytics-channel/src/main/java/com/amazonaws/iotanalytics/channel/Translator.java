@@ -1,5 +1,7 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.ExceptionTranslator;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.iotanalytics.model.Channel;
 import software.amazon.awssdk.services.iotanalytics.model.ChannelStorage;
@@ -11,32 +13,45 @@ import software.amazon.awssdk.services.iotanalytics.model.RetentionPeriod;
 
 import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelResponse;
-import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
-import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iotanalytics.model.ServiceManagedChannelS3Storage;
-import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iotanalytics.model.Tag;
-import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.UpdateChannelRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public class Translator {
+    private static final String ARN_FORMAT = "arn:%s:iotanalytics:%s:%s:channel/%s";
+    private static final String DEFAULT_PARTITION = "aws";
+
+    /**
+     * Returns the channel ARN without calling the service: the model's Id when it is set, otherwise the ARN
+     * built from the request's region and account, otherwise the {@link ArnCache cached} ARN for its
+     * name. Returns null when none is available.
+     */
+    @Nullable
+    static String translateToChannelArn(final ResourceModel model,
+                                        final ResourceHandlerRequest<ResourceModel> request) {
+        if (!StringUtils.isNullOrEmpty(model.getId())) {
+            return model.getId();
+        }
+        if (StringUtils.isNullOrEmpty(model.getChannelName())) {
+            return null;
+        }
+        if (StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(request.getAwsAccountId())) {
+            return ArnCache.shared().get(ResourceModel.TYPE_NAME, request, model.getChannelName());
+        }
+        final String partition = StringUtils.isNullOrEmpty(request.getAwsPartition())
+                ? DEFAULT_PARTITION : request.getAwsPartition();
+        return String.format(ARN_FORMAT, partition, request.getRegion(), request.getAwsAccountId(), model.getChannelName());
+    }
 
     static DescribeChannelRequest translateToDescribeChannelRequest(final ResourceModel model) {
         return DescribeChannelRequest.builder().channelName(model.getChannelName()).build();
@@ -81,26 +96,7 @@ public class Translator {
             final String operation,
             @Nullable final String name
     ) {
-        if (e instanceof ResourceAlreadyExistsException) {
-            return new CfnAlreadyExistsException(e);
-        } else if (e instanceof ResourceNotFoundException) {
-            if(StringUtils.isNullOrEmpty(name)) return new CfnNotFoundException(e);
-            return new CfnNotFoundException(ResourceModel.TYPE_NAME, name);
-        } else if (e instanceof InvalidRequestException) {
-            return new CfnInvalidRequestException(e.getMessage(), e);
-        } else if (e instanceof ThrottlingException) {
-            return new CfnThrottlingException(operation, e);
-        } else if (e instanceof ServiceUnavailableException) {
-            return new CfnGeneralServiceException(operation, e);
-        } else if (e instanceof LimitExceededException) {
-            return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage());
-        } else {
-            if (e.awsErrorDetails() != null
-                    && "AccessDeniedException".equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
-                return new CfnAccessDeniedException(operation, e);
-            }
-            return new CfnServiceInternalErrorException(operation, e);
-        }
+        return ExceptionTranslator.translate(e, operation, ResourceModel.TYPE_NAME, name);
     }
 
     private static com.amazonaws.iotanalytics.channel.RetentionPeriod translateRetentionPeriodToCfn(
@@ -170,12 +166,10 @@ public class Translator {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
-        return tags.stream().map((tag ->
-                com.amazonaws.iotanalytics.channel.Tag.builder()
-                        .key(tag.key())
-                        .value(tag.value())
-                        .build()))
-                .collect(Collectors.toList());
+        return translateList(tags, tag -> com.amazonaws.iotanalytics.channel.Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build());
     }
 
     private static List<Tag> translateTagListsFromCfn(
@@ -184,12 +178,25 @@ public class Translator {
         if (cfnTagList == null) {
             return null;
         } else {
-            return cfnTagList.stream().map(tag ->
-                    Tag.builder()
-                            .key(tag.getKey())
-                            .value(tag.getValue())
-                            .build()
-            ).collect(Collectors.toList());
+            return translateList(cfnTagList, tag -> Tag.builder()
+                    .key(tag.getKey())
+                    .value(tag.getValue())
+                    .build());
+        }
+    }
+
+    /**
+     * Translates the non-null elements of {@code source} into a list presized to hold all of them. Cheaper than a
+     * stream pipeline: no spliterator, pipeline stages or collector, and the result is never resized.
+     */
+    private static <S, T> List<T> translateList(@Nonnull final List<S> source,
+                                                @Nonnull final Function<S, T> translator) {
+        final List<T> translated = new ArrayList<>(source.size());
+        for (final S element : source) {
+            if (element != null) {
+                translated.add(translator.apply(element));
+            }
         }
+        return translated;
     }
 }
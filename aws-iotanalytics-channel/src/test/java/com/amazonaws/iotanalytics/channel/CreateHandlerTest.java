@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRespons
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -29,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -218,4 +220,94 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(createChannelRequest.channelName()).isNotBlank();
         assertFalse(createChannelRequest.channelName().contains("-"));
     }
+
+    @Test
+    public void GIVEN_create_response_with_arn_WHEN_call_handleRequest_THEN_return_model_without_reading_it_back() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder()
+                .channelName(TEST_CHANNEL_NAME)
+                .retentionPeriod(RetentionPeriod.builder().numberOfDays(TEST_DAYS).build())
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+                .build();
+
+        when(proxyClient.client().createChannel(any(CreateChannelRequest.class)))
+                .thenReturn(CreateChannelResponse.builder().channelArn(TEST_CHANNEL_ARN).build());
+
+        // WHEN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ID);
+        assertThat(response.getResourceModel().getChannelName()).isEqualTo(TEST_CHANNEL_NAME);
+        assertThat(response.getResourceModel().getRetentionPeriod().getNumberOfDays()).isEqualTo(TEST_DAYS);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(model.getTags());
+        verify(proxyClient.client(), times(1)).createChannel(any(CreateChannelRequest.class));
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_account_and_region_WHEN_call_handleRequest_THEN_return_model_with_arn_of_request() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+
+        when(proxyClient.client().createChannel(any(CreateChannelRequest.class)))
+                .thenReturn(CreateChannelResponse.builder().build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenReturn(DescribeChannelResponse.builder().build());
+
+        // WHEN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId())
+                .isEqualTo("arn:aws:iotanalytics:us-east-1:123456789012:channel/" + TEST_CHANNEL_NAME);
+        // Only the stabilization probe.
+        verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_channel_not_found_right_after_create_WHEN_call_handleRequest_THEN_probe_until_found() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+
+        when(proxyClient.client().createChannel(any(CreateChannelRequest.class)))
+                .thenReturn(CreateChannelResponse.builder().build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build())
+                .thenReturn(DescribeChannelResponse.builder()
+                        .channel(Channel.builder().arn(TEST_CHANNEL_ARN).name(TEST_CHANNEL_NAME).build())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ID);
+        // Two stabilization probes, then the read of the created channel.
+        verify(proxyClient.client(), times(3)).describeChannel(any(DescribeChannelRequest.class));
+    }
 }
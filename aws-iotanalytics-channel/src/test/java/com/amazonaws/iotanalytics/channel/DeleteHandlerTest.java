@@ -1,5 +1,6 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteChannelRequest;
@@ -81,6 +82,28 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
     }
 
+    @Test
+    public void GIVEN_cached_arn_WHEN_call_handleRequest_THEN_invalidate_it() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, TEST_CHANNEL_NAME, "test_channel_arn");
+
+        when(proxyClient.client().deleteChannel(any(DeleteChannelRequest.class))).thenReturn(DeleteChannelResponse.builder().build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(ArnCache.shared().get(ResourceModel.TYPE_NAME, request, TEST_CHANNEL_NAME)).isNull();
+    }
+
     @Test
     public void GIVEN_delete_stabilize_WHEN_call_handleRequest_THEN_return_success() {
         // GIVEN
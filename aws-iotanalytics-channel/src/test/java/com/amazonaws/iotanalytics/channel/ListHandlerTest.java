@@ -3,6 +3,16 @@ package com.amazonaws.iotanalytics.channel;
 import software.amazon.awssdk.services.iotanalytics.model.ChannelSummary;
 import software.amazon.awssdk.services.iotanalytics.model.ListChannelsRequest;
 import software.amazon.awssdk.services.iotanalytics.model.ListChannelsResponse;
+import software.amazon.awssdk.services.iotanalytics.model.Channel;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -13,9 +23,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +42,8 @@ public class ListHandlerTest extends AbstractTestBase {
     private static final String TEST_CHANNEL_NAME_2 = "test_channel_name_2";
     private static final String TEST_CHANNEL_NAME_3 = "test_channel_name_3";
     private static final String TEST_CHANNEL_NAME_4 = "test_channel_name_4";
+    private static final String TEST_KEY = "key";
+    private static final String TEST_VALUE = "value";
 
 
     private ResourceHandlerRequest<ResourceModel> request;
@@ -93,4 +109,187 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThrows(CfnGeneralServiceException.class,
                 () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
+
+    @Test
+    public void GIVEN_hydrate_WHEN_call_handleRequest_THEN_return_full_models() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .channelSummaries(
+                                ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build(),
+                                ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenAnswer(invocation -> describeChannelResponse(
+                        invocation.getArgument(0, DescribeChannelRequest.class).channelName()));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder()
+                                .key(TEST_KEY).value(TEST_VALUE).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo(TEST_NEXT_TOKEN);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(response.getResourceModels().get(0).getChannelName()).isEqualTo(TEST_CHANNEL_NAME_1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_CHANNEL_NAME_1 + "_arn");
+        assertThat(response.getResourceModels().get(0).getTags().get(0).getKey()).isEqualTo(TEST_KEY);
+        assertThat(response.getResourceModels().get(1).getChannelName()).isEqualTo(TEST_CHANNEL_NAME_2);
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo(TEST_CHANNEL_NAME_2 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_concurrency_of_one_WHEN_call_handleRequest_THEN_send_one_call_at_a_time() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .channelSummaries(
+                                ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build(),
+                                ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight, () -> describeChannelResponse(
+                        invocation.getArgument(0, DescribeChannelRequest.class).channelName())));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight,
+                        () -> ListTagsForResourceResponse.builder().build()));
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+
+        verify(proxyClient.client(), times(2)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_throttles_WHEN_call_handleRequest_THEN_retry_channel() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .channelSummaries(ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenReturn(describeChannelResponse(TEST_CHANNEL_NAME_1));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_CHANNEL_NAME_1 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describeChannel(any(DescribeChannelRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_always_throttles_WHEN_call_handleRequest_THEN_throw_CfnThrottlingException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .channelSummaries(ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenThrow(ThrottlingException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnThrottlingException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client(), times(ListHandler.MAX_HYDRATE_ATTEMPTS)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_channel_deleted_WHEN_call_handleRequest_THEN_skip_channel() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .channelSummaries(ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_invalid_request_WHEN_call_handleRequest_THEN_throw_CfnInvalidRequestException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listChannels(any(ListChannelsRequest.class)))
+                .thenReturn(ListChannelsResponse.builder()
+                        .channelSummaries(ChannelSummary.builder().channelName(TEST_CHANNEL_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+                .thenThrow(InvalidRequestException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnInvalidRequestException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    /**
+     * Answers with {@code response} after a pause long enough for calls sent alongside it to overlap.
+     */
+    private static <T> T inFlight(final AtomicInteger inFlight,
+                                  final AtomicInteger maxInFlight,
+                                  final Supplier<T> response) throws InterruptedException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+            return response.get();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static DescribeChannelResponse describeChannelResponse(final String channelName) {
+        return DescribeChannelResponse.builder()
+                .channel(Channel.builder().name(channelName).arn(channelName + "_arn").build())
+                .build();
+    }
 }
@@ -0,0 +1,61 @@
+package com.amazonaws.iotanalytics.channel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimingTest {
+
+    @Test
+    public void GIVEN_no_mode_WHEN_register_THEN_return_off() {
+        assertThat(Priming.register(variable -> null)).isEqualTo(Priming.Mode.OFF);
+        assertThat(Priming.register(variable -> "off")).isEqualTo(Priming.Mode.OFF);
+    }
+
+    @Test
+    public void GIVEN_checkpoint_mode_WHEN_register_THEN_register_resource() {
+        // Without a checkpoint capable runtime the registration is accepted and never called back.
+        assertThat(Priming.register(variable -> " Checkpoint ")).isEqualTo(Priming.Mode.CHECKPOINT);
+    }
+
+    @Test
+    public void GIVEN_init_mode_WHEN_register_THEN_prime() {
+        // WHEN
+        final Priming.Mode mode = Priming.register(variable ->
+                Priming.PRIMING_ENVIRONMENT_VARIABLE.equals(variable) ? "init" : null);
+
+        // THEN
+        assertThat(mode).isEqualTo(Priming.Mode.INIT);
+        assertThat(Priming.isPrimed()).isTrue();
+
+        // priming twice is a no-op
+        Priming.prime();
+        assertThat(Priming.isPrimed()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_unknown_mode_WHEN_register_THEN_return_off() {
+        assertThat(Priming.register(variable -> "eager")).isEqualTo(Priming.Mode.OFF);
+    }
+
+    @Test
+    public void GIVEN_priming_fails_WHEN_register_THEN_warn_and_continue() {
+        // GIVEN
+        final List<String> warnings = new ArrayList<>();
+
+        // WHEN
+        final Priming.Mode mode = Priming.register(variable -> "init", () -> {
+            throw new IllegalStateException("no region");
+        }, warnings::add);
+
+        // THEN
+        assertThat(mode).isEqualTo(Priming.Mode.INIT);
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0))
+                .startsWith("WARN IOTANALYTICS_PRIMING=INIT failed")
+                .contains("no region");
+    }
+}
@@ -1,5 +1,6 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import software.amazon.awssdk.services.iotanalytics.model.Channel;
@@ -107,6 +108,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
         verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(ArnCache.shared().get(ResourceModel.TYPE_NAME, request, TEST_CHANNEL_NAME)).isEqualTo(TEST_CHANNEL_ARN);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -170,4 +172,37 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_handleRequest_THEN_list_tags_with_computed_arn() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        when(proxyClient.client().describeChannel(describeChannelRequestArgumentCaptor.capture()))
+                .thenReturn(describeChannelResponse);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(describeChannelRequestArgumentCaptor.getValue().channelName()).isEqualTo(TEST_CHANNEL_NAME);
+        assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
+                .isEqualTo("arn:aws:iotanalytics:us-east-1:123456789012:channel/" + TEST_CHANNEL_NAME);
+        verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getChannelName()).isEqualTo(TEST_CHANNEL_NAME);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ID);
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
 }
@@ -1,14 +1,22 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class TranslatorTest {
 
+    @BeforeEach
+    public void setUp() {
+        ArnCache.shared().invalidateAll();
+    }
+
     @Test
     public void GIVE_AccessDeniedException_WHEN_call_translate_exception_THEN_return_CfnAccessDeniedException() {
         final IoTAnalyticsException e = (IoTAnalyticsException) IoTAnalyticsException
@@ -25,4 +33,47 @@ public class TranslatorTest {
                 "operation",
                 "name") instanceof CfnAccessDeniedException).isTrue();
     }
+
+    @Test
+    public void GIVEN_model_id_WHEN_call_translateToChannelArn_THEN_return_id() {
+        final ResourceModel model = ResourceModel.builder().channelName("name").id("id").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        assertThat(Translator.translateToChannelArn(model, request)).isEqualTo("id");
+    }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_translateToChannelArn_THEN_return_arn() {
+        final ResourceModel model = ResourceModel.builder().channelName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("cn-north-1")
+                .awsAccountId("123456789012")
+                .awsPartition("aws-cn")
+                .build();
+        assertThat(Translator.translateToChannelArn(model, request))
+                .isEqualTo("arn:aws-cn:iotanalytics:cn-north-1:123456789012:channel/name");
+    }
+
+    @Test
+    public void GIVEN_no_region_WHEN_call_translateToChannelArn_THEN_return_null() {
+        final ResourceModel model = ResourceModel.builder().channelName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        assertThat(Translator.translateToChannelArn(model, request)).isNull();
+    }
+
+    @Test
+    public void GIVEN_no_region_and_cached_arn_WHEN_call_translateToChannelArn_THEN_return_cached_arn() {
+        final ResourceModel model = ResourceModel.builder().channelName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, "name", "arn");
+        assertThat(Translator.translateToChannelArn(model, request)).isEqualTo("arn");
+    }
 }
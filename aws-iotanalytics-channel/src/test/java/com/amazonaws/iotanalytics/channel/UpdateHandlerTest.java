@@ -1,5 +1,6 @@
 package com.amazonaws.iotanalytics.channel;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import software.amazon.awssdk.services.iotanalytics.model.Channel;
@@ -31,6 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -66,9 +68,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Captor
     private ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
 
-    @Captor
-    private ArgumentCaptor<DescribeChannelRequest> describeChannelRequestArgumentCaptor;
-
     @Captor
     private ArgumentCaptor<ListTagsForResourceRequest> listTagsForResourceRequestArgumentCaptor;
 
@@ -77,9 +76,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private ResourceModel newModel;
     private DescribeChannelResponse describeChannelResponseFull;
     private ListTagsForResourceResponse listTagsForResourceResponseFull;
-    private DescribeChannelResponse describeChannelResponseSimple;
     private ListTagsForResourceResponse listTagsForResourceResponseSimple;
 
+    private ListTagsForResourceResponse listTagsForResourceResponsePrevious;
+
     @BeforeEach
     public void setup() {
         super.setUp();
@@ -124,11 +124,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY3).value(TEST_VALUE3).build()))
             .build();
 
-        describeChannelResponseSimple = DescribeChannelResponse.builder()
-            .channel(Channel.builder().name(TEST_CHANNEL_NAME).build())
-            .build();
-
         listTagsForResourceResponseSimple = ListTagsForResourceResponse.builder().build();
+
+        listTagsForResourceResponsePrevious = ListTagsForResourceResponse.builder()
+            .tags(Arrays.asList(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build(),
+                software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+            .build();
     }
 
     @Test
@@ -145,9 +146,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(TagResourceResponse.builder().build());
 
-        when(proxyClient.client().describeChannel(describeChannelRequestArgumentCaptor.capture())).thenReturn(describeChannelResponseFull);
-
-        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture())).thenReturn(listTagsForResourceResponseFull);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture())).thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -175,9 +174,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(untagResourceRequest.tagKeys().size()).isEqualTo(1);
         assertThat(untagResourceRequest.tagKeys().contains(TEST_KEY1)).isTrue();
 
-        assertThat(describeChannelRequestArgumentCaptor.getValue().channelName()).isEqualTo(TEST_CHANNEL_NAME);
-
         assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -191,15 +189,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ID);
         assertThat(response.getResourceModel().getChannelStorage().getCustomerManagedS3()).isNull();
         assertThat(response.getResourceModel().getChannelStorage().getServiceManagedS3()).isNotNull();
-        assertThat(response.getResourceModel().getRetentionPeriod().getNumberOfDays()).isEqualTo(TEST_DAYS);
+        assertThat(response.getResourceModel().getRetentionPeriod()).isNull();
 
-        assertThat(response.getResourceModel().getTags().size()).isEqualTo(3);
-        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY1);
-        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE1);
+        assertThat(response.getResourceModel().getTags().size()).isEqualTo(2);
+        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY3);
+        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE3);
         assertThat(response.getResourceModel().getTags().get(1).getKey()).isEqualTo(TEST_KEY2);
         assertThat(response.getResourceModel().getTags().get(1).getValue()).isEqualTo(TEST_VALUE22);
-        assertThat(response.getResourceModel().getTags().get(2).getKey()).isEqualTo(TEST_KEY3);
-        assertThat(response.getResourceModel().getTags().get(2).getValue()).isEqualTo(TEST_VALUE3);
     }
 
     @Test
@@ -275,19 +271,16 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .previousResourceState(preModel)
             .build();
 
-        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class))).thenReturn(describeChannelResponseSimple);
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseSimple);
-
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         // THEN
-        verify(proxyClient.client(), times(1)).updateChannel(any(UpdateChannelRequest.class));
+        verify(proxyClient.client(), never()).updateChannel(any(UpdateChannelRequest.class));
         verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeChannel(any(DescribeChannelRequest.class));
-        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -332,16 +325,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().updateChannel(any(UpdateChannelRequest.class))).thenReturn(UpdateChannelResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenThrow(LimitExceededException.builder().build());
-        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class))).thenReturn(describeChannelResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(listTagsForResourceResponsePrevious);
+
         // WHEN / THEN
         assertThrows(CfnServiceLimitExceededException.class,
             () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
 
         verify(proxyClient.client(), times(1)).updateChannel(any(UpdateChannelRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
-        verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -355,7 +350,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().updateChannel(any(UpdateChannelRequest.class))).thenReturn(UpdateChannelResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(ServiceUnavailableException.builder().build());
-        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class))).thenReturn(describeChannelResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnGeneralServiceException.class,
@@ -364,7 +360,207 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).updateChannel(any(UpdateChannelRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_previous_model_without_id_WHEN_call_handleRequest_THEN_describe_for_tag_arn() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder()
+            .channelName(TEST_CHANNEL_NAME)
+            .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+            .build();
+        final ResourceModel newModel = ResourceModel.builder()
+            .channelName(TEST_CHANNEL_NAME)
+            .tags(Arrays.asList(Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture()))
+            .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
+            .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class)))
+            .thenReturn(describeChannelResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder()
+                .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build())
+                .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        verify(proxyClient.client(), never()).updateChannel(any(UpdateChannelRequest.class));
+        // The ARN described for the tag updates also ends up in the returned model, so there is no final read.
         verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ARN);
+    }
+
+    @Test
+    public void GIVEN_previous_model_without_id_and_cached_arn_WHEN_call_handleRequest_THEN_skip_describe_for_tag_arn() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder()
+            .channelName(TEST_CHANNEL_NAME)
+            .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+            .build();
+        final ResourceModel newModel = ResourceModel.builder()
+            .channelName(TEST_CHANNEL_NAME)
+            .tags(Arrays.asList(Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, TEST_CHANNEL_NAME, TEST_CHANNEL_ARN);
+
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture()))
+            .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
+            .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder()
+                .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build())
+                .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        verify(proxyClient.client(), never()).describeChannel(any(DescribeChannelRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_CHANNEL_ARN);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ARN);
+    }
+
+    @Test
+    public void GIVEN_more_tags_than_one_call_takes_WHEN_call_handleRequest_THEN_tag_in_chunks() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).id(TEST_CHANNEL_ID).build();
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tags.add(Tag.builder().key("key" + i).value("value" + i).build());
+        }
+        final ResourceModel newModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).tags(tags).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseSimple);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateChannel(any(UpdateChannelRequest.class));
+        verify(proxyClient.client(), times(3)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
+        assertThat(tagResourceRequestArgumentCaptor.getAllValues())
+            .extracting(tagResourceRequest -> tagResourceRequest.tags().size())
+            .containsExactly(50, 50, 20);
+    }
+
+    @Test
+    public void GIVEN_tag_chunks_planned_by_earlier_invocation_WHEN_call_handleRequest_THEN_send_planned_chunks() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).id(TEST_CHANNEL_ID).build();
+        final ResourceModel newModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME)
+            .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build(),
+                Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setTagKeysToRemove(new ArrayList<>());
+        callbackContext.setTagsToAdd(Arrays.asList(Collections.singletonMap(TEST_KEY2, TEST_VALUE2)));
+
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(TagResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
         verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags())
+            .containsExactly(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build());
+    }
+
+    @Test
+    public void GIVEN_tags_already_in_place_WHEN_call_handleRequest_THEN_skip_tag_calls() {
+        // GIVEN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+
+        final ListTagsForResourceResponse listTagsForResourceResponseDesired = ListTagsForResourceResponse.builder()
+            .tags(Arrays.asList(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY3).value(TEST_VALUE3).build(),
+                software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE22).build()))
+            .build();
+
+        when(proxyClient.client().updateChannel(any(UpdateChannelRequest.class))).thenReturn(UpdateChannelResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseDesired);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
+        verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_no_arn_to_carry_over_WHEN_call_handleRequest_THEN_read_back() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+        final ResourceModel newModel = ResourceModel.builder().channelName(TEST_CHANNEL_NAME).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(newModel)
+            .previousResourceState(preModel)
+            .build();
+
+        when(proxyClient.client().describeChannel(any(DescribeChannelRequest.class))).thenReturn(describeChannelResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseFull);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateChannel(any(UpdateChannelRequest.class));
+        verify(proxyClient.client(), times(1)).describeChannel(any(DescribeChannelRequest.class));
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_CHANNEL_ARN);
+        assertThat(response.getResourceModel().getTags()).hasSize(3);
     }
 }
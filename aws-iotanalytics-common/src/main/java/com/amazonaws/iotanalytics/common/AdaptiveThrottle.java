@@ -0,0 +1,36 @@
+package com.amazonaws.iotanalytics.common;
+
+/**
+ * Caps the number of service calls in flight. The cap starts at the configured maximum, is halved every time
+ * the service throttles a call and grows back by one for every call that completes without being throttled.
+ */
+public class AdaptiveThrottle {
+    private final int maxLimit;
+    private int limit;
+    private int inFlight;
+
+    public AdaptiveThrottle(final int maxLimit) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException(String.format("maxLimit must be positive, got %d", maxLimit));
+        }
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+    }
+
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    public synchronized void release(final boolean throttled) {
+        inFlight--;
+        limit = throttled ? Math.max(1, limit / 2) : Math.min(maxLimit, limit + 1);
+        notifyAll();
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,83 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The ARNs of the resources a handler process has created, read or looked up, by resource type, account, region and
+ * name, so that later invocations of a warm process do not describe a resource only to learn its ARN. Entries are
+ * dropped when the resource is deleted, past {@link #MAX_ENTRIES} (least recently used first), and {@link #TTL} after
+ * they were written.
+ * <p>
+ * An ARN only depends on the account, region and name, so an entry cannot point at another resource; a resource
+ * deleted out of band leaves an ARN the service answers with not found, as it would have answered the describe.
+ */
+public final class ArnCache {
+    static final long MAX_ENTRIES = 1_000;
+    static final Duration TTL = Duration.ofMinutes(15);
+
+    private static final ArnCache SHARED = new ArnCache(MAX_ENTRIES, TTL, System::nanoTime);
+
+    private final Cache<ResourceKey, String> arns;
+
+    @VisibleForTesting
+    ArnCache(final long maxEntries, final Duration ttl, final LongSupplier nanoClock) {
+        this.arns = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+                .ticker(new Ticker() {
+                    @Override
+                    public long read() {
+                        return nanoClock.getAsLong();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * The cache shared by every handler of the process.
+     */
+    public static ArnCache shared() {
+        return SHARED;
+    }
+
+    @Nullable
+    public String get(final String typeName, final ResourceHandlerRequest<?> request, @Nullable final String name) {
+        if (Strings.isNullOrEmpty(name)) {
+            return null;
+        }
+        return arns.getIfPresent(ResourceKey.of(typeName, request, name));
+    }
+
+    public void put(final String typeName, final ResourceHandlerRequest<?> request, @Nullable final String name,
+                    @Nullable final String arn) {
+        if (!Strings.isNullOrEmpty(name) && !Strings.isNullOrEmpty(arn)) {
+            arns.put(ResourceKey.of(typeName, request, name), arn);
+        }
+    }
+
+    public void invalidate(final String typeName, final ResourceHandlerRequest<?> request, @Nullable final String name) {
+        if (!Strings.isNullOrEmpty(name)) {
+            arns.invalidate(ResourceKey.of(typeName, request, name));
+        }
+    }
+
+    public void invalidateAll() {
+        arns.invalidateAll();
+    }
+
+    @VisibleForTesting
+    long size() {
+        arns.cleanUp();
+        return arns.size();
+    }
+}
@@ -0,0 +1,108 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Issues service calls without blocking the calling thread, so that calls which do not depend on each other
+ * can overlap.
+ */
+public final class AsyncInvoker {
+    // Only used when no async client is bound, i.e. when a handler is invoked directly rather than via the wrapper.
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "iotanalytics-handler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Holds async calls back until their rate limit permit is due, without blocking any thread meanwhile.
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "iotanalytics-rate-limit");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private AsyncInvoker() {}
+
+    /**
+     * The call goes through the {@link IoTAnalyticsAsyncClient} when one is bound to the invocation, once its rate
+     * limit permit is due, otherwise the synchronous client is invoked on a background thread, within the caller's
+     * {@link MetricsScope}.
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invoke(
+            @Nullable final ProxyClient<IoTAnalyticsAsyncClient> asyncProxyClient,
+            final ProxyClient<IoTAnalyticsClient> proxyClient,
+            final RequestT request,
+            final BiFunction<IoTAnalyticsAsyncClient, RequestT, CompletableFuture<ResponseT>> asyncCall,
+            final BiFunction<IoTAnalyticsClient, RequestT, ResponseT> syncCall) {
+        if (asyncProxyClient != null) {
+            final Supplier<CompletableFuture<ResponseT>> call = () -> asyncProxyClient.injectCredentialsAndInvokeV2Async(
+                    request, asyncRequest -> asyncCall.apply(asyncProxyClient.client(), asyncRequest));
+            final long waitNanos = ClientBuilder.reserveAsyncPermit(operationName(request));
+            return waitNanos > 0 ? schedule(call, waitNanos) : call.get();
+        }
+        return CompletableFuture.supplyAsync(MetricsScope.propagate(() -> proxyClient.injectCredentialsAndInvokeV2(
+                request, syncRequest -> syncCall.apply(proxyClient.client(), syncRequest))), EXECUTOR);
+    }
+
+    /**
+     * Starts {@code call} on the scheduler thread after {@code delayNanos}, within the caller's {@link MetricsScope}.
+     */
+    @VisibleForTesting
+    static <ResponseT> CompletableFuture<ResponseT> schedule(final Supplier<CompletableFuture<ResponseT>> call,
+                                                             final long delayNanos) {
+        final Supplier<CompletableFuture<ResponseT>> scopedCall = MetricsScope.propagate(call);
+        final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        SCHEDULER.schedule(() -> {
+            try {
+                scopedCall.get().whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        future.complete(response);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    /**
+     * The service operation of a request, e.g. {@code DescribeChannel} for a {@code DescribeChannelRequest}.
+     */
+    static String operationName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+
+    /**
+     * Waits for the result of {@link #invoke}, rethrowing the service exception the call failed with.
+     */
+    public static <ResponseT> ResponseT join(final CompletableFuture<ResponseT> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Picks the backoff strategy for each call graph by its action, the part after {@code ::} (e.g. {@code Create} in
+ * {@code AWS-IoTAnalytics-Dataset::Create}):
+ * <ul>
+ *     <li>exponential - for one-off mutations, waits 1s, 2s, 4s... up to {@link #MAX_DELAY};</li>
+ *     <li>jittered - the same progression spread randomly, for reads that are fanned out concurrently.</li>
+ * </ul>
+ * Call graphs that wait for a resource to converge take their delay from a {@link Stabilizer} instead. Every
+ * strategy gives up after {@link #TIMEOUT}. Every decision is emitted as a {@link BackoffMetric} with the call
+ * graph, attempt and wait, under the operation of the {@link MetricsScope} it was made in; a time out is also logged.
+ */
+public final class BackoffDelays {
+    static final Duration TIMEOUT = Duration.ofMinutes(5);
+    static final Duration MAX_DELAY = Duration.ofSeconds(10);
+    static final Duration MIN_DELAY = Duration.ofSeconds(1);
+
+    static final String OPERATION = "Backoff";
+
+    private static final String CALL_GRAPH_SEPARATOR = "::";
+    private static final MetricsSink METRICS = MetricsSink.from(System::getenv);
+
+    private static final Map<String, Function<String, Delay>> STRATEGIES = new HashMap<>();
+
+    static {
+        STRATEGIES.put("Create", callGraph -> exponential());
+        STRATEGIES.put("Update", callGraph -> exponential());
+        STRATEGIES.put("Read", callGraph -> jittered());
+    }
+
+    private BackoffDelays() {}
+
+    public static Delay forCallGraph(final String callGraph, final HandlerLogger logger) {
+        return recorded(callGraph, STRATEGIES.getOrDefault(action(callGraph), name -> jittered()).apply(callGraph),
+                logger, METRICS);
+    }
+
+    static Delay recorded(final String callGraph,
+                          final Delay delay,
+                          final HandlerLogger logger,
+                          final MetricsSink metrics) {
+        return attempt -> {
+            final Duration next = delay.nextDelay(attempt);
+            final MetricsScope scope = MetricsScope.current();
+            metrics.emit(BackoffMetric.builder()
+                    .operation(scope == null ? OPERATION : scope.getOperation())
+                    .callGraph(callGraph)
+                    .attempt(attempt)
+                    .delay(next)
+                    .timedOut(next.isZero())
+                    .build());
+            if (next.isZero()) {
+                logger.info("%s timed out after %d attempts", callGraph, attempt);
+            }
+            return next;
+        };
+    }
+
+    private static String action(final String callGraph) {
+        final int separator = callGraph.lastIndexOf(CALL_GRAPH_SEPARATOR);
+        return separator < 0 ? callGraph : callGraph.substring(separator + CALL_GRAPH_SEPARATOR.length());
+    }
+
+    private static Delay exponential() {
+        return new ExponentialDelay(MIN_DELAY, MAX_DELAY, TIMEOUT, false);
+    }
+
+    private static Delay jittered() {
+        return new ExponentialDelay(MIN_DELAY, MAX_DELAY, TIMEOUT, true);
+    }
+}
@@ -0,0 +1,17 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.time.Duration;
+
+/**
+ * One backoff decision of a {@link BackoffDelays} strategy: the wait chosen before the given attempt of a call
+ * graph, or that the call graph timed out and will not be retried.
+ */
+@lombok.Value
+@lombok.Builder
+public class BackoffMetric {
+    String operation;
+    String callGraph;
+    int attempt;
+    Duration delay;
+    boolean timedOut;
+}
@@ -0,0 +1,17 @@
+package com.amazonaws.iotanalytics.common;
+
+import javax.annotation.Nullable;
+
+/**
+ * One lookup in a handler-side cache, e.g. the {@link DescribeCache}: whether it was answered from the cache or
+ * had to call the service. Tagged with the handler operation and call graph the lookup was made for.
+ */
+@lombok.Value
+@lombok.Builder
+public class CacheMetric {
+    String cache;
+    String operation;
+    @Nullable
+    String callGraph;
+    boolean hit;
+}
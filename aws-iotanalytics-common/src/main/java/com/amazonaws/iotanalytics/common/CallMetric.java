@@ -0,0 +1,24 @@
+package com.amazonaws.iotanalytics.common;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * What one SDK call cost: its latency across all attempts, how many attempts it took, how many of them the
+ * service throttled and the size of the payloads. Tagged with the handler operation constant (e.g.
+ * {@code OPERATION_DESCRIBE}) and call graph the call was made for, when the handler named them.
+ */
+@lombok.Value
+@lombok.Builder
+public class CallMetric {
+    String operation;
+    @Nullable
+    String callGraph;
+    String serviceOperation;
+    Duration latency;
+    int attempts;
+    int throttles;
+    long requestBytes;
+    long responseBytes;
+    boolean failed;
+}
@@ -0,0 +1,131 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+
+public final class ClientBuilder {
+    private static final TransportConfiguration TRANSPORT = TransportConfiguration.fromEnvironment();
+    // Shared by both clients, so that sync and async calls draw from the same rate limits.
+    private static final RateLimitingInterceptor RATE_LIMITER =
+            new RateLimitingInterceptor(RateLimitConfiguration.fromEnvironment(), System::nanoTime);
+    private static final RateLimitingInterceptor ASYNC_RATE_LIMITER = RATE_LIMITER.nonBlocking();
+    private static final MetricsInterceptor METRICS =
+            new MetricsInterceptor(MetricsSink.from(System::getenv), System::nanoTime);
+
+    private static volatile IoTAnalyticsClient ioTAnalyticsClient;
+    private static volatile IoTAnalyticsAsyncClient ioTAnalyticsAsyncClient;
+
+    private ClientBuilder() {}
+
+    public static IoTAnalyticsClient getClient() {
+        if (ioTAnalyticsClient != null) {
+            return ioTAnalyticsClient;
+        }
+
+        synchronized (ClientBuilder.class) {
+            // Checked again under the lock so that racing callers do not each open a connection pool.
+            if (ioTAnalyticsClient == null) {
+                final Region region = Region.of(getEnvironmentValue("AWS_REGION", "us-west-2"));
+                ioTAnalyticsClient = IoTAnalyticsClient.builder().region(region)
+                        .httpClient(buildHttpClient(TRANSPORT))
+                        .overrideConfiguration(getOverrideConfiguration(TRANSPORT, RATE_LIMITER))
+                        .build();
+            }
+            return ioTAnalyticsClient;
+        }
+    }
+
+    public static IoTAnalyticsAsyncClient getAsyncClient() {
+        if (ioTAnalyticsAsyncClient != null) {
+            return ioTAnalyticsAsyncClient;
+        }
+
+        synchronized (ClientBuilder.class) {
+            if (ioTAnalyticsAsyncClient == null) {
+                final Region region = Region.of(getEnvironmentValue("AWS_REGION", "us-west-2"));
+                ioTAnalyticsAsyncClient = IoTAnalyticsAsyncClient.builder().region(region)
+                        .httpClient(buildAsyncHttpClient(TRANSPORT))
+                        .overrideConfiguration(getOverrideConfiguration(TRANSPORT, ASYNC_RATE_LIMITER))
+                        .build();
+            }
+            return ioTAnalyticsAsyncClient;
+        }
+    }
+
+    static SdkHttpClient buildHttpClient(final TransportConfiguration transport) {
+        if (transport.getHttpClient() == TransportConfiguration.HttpClientType.URL_CONNECTION) {
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(transport.getConnectionTimeout())
+                    .socketTimeout(transport.getSocketTimeout())
+                    .build();
+        }
+        return ApacheHttpClient.builder()
+                .maxConnections(transport.getMaxConnections())
+                .tcpKeepAlive(transport.isTcpKeepAlive())
+                .connectionTimeToLive(transport.getConnectionTimeToLive())
+                .connectionMaxIdleTime(transport.getConnectionMaxIdleTime())
+                .connectionTimeout(transport.getConnectionTimeout())
+                .socketTimeout(transport.getSocketTimeout())
+                // The reaper thread cannot run while the sandbox is frozen, idle connections are checked on reuse instead.
+                .useIdleConnectionReaper(false)
+                .build();
+    }
+
+    static SdkAsyncHttpClient buildAsyncHttpClient(final TransportConfiguration transport) {
+        if (transport.useCrtAsyncHttpClient()) {
+            return CrtHttpClientFactory.build(transport);
+        }
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(transport.getMaxConnections())
+                .tcpKeepAlive(transport.isTcpKeepAlive())
+                .connectionTimeToLive(transport.getConnectionTimeToLive())
+                .connectionMaxIdleTime(transport.getConnectionMaxIdleTime())
+                .connectionTimeout(transport.getConnectionTimeout())
+                .readTimeout(transport.getSocketTimeout())
+                .useIdleConnectionReaper(false)
+                .build();
+    }
+
+    /**
+     * Returns how many nanoseconds an async call of the operation has to wait for its rate limit permit.
+     */
+    static long reserveAsyncPermit(final String operationName) {
+        return ASYNC_RATE_LIMITER.reserve(operationName);
+    }
+
+    private static ClientOverrideConfiguration getOverrideConfiguration(final TransportConfiguration transport,
+                                                                        final RateLimitingInterceptor rateLimiter) {
+        return ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.builder().numRetries(transport.getNumRetries()).build())
+                .apiCallAttemptTimeout(transport.getApiCallAttemptTimeout())
+                .apiCallTimeout(transport.getApiCallTimeout())
+                .addExecutionInterceptor(rateLimiter)
+                .addExecutionInterceptor(METRICS)
+                .build();
+    }
+
+    private static String getEnvironmentValue(final String environmentVariable, final String defaultValue) {
+        final String value = System.getenv(environmentVariable);
+        return StringUtils.isNullOrEmpty(value) ? defaultValue : value;
+    }
+
+    // Kept apart so that the CRT classes are only loaded once they are known to be on the classpath.
+    private static final class CrtHttpClientFactory {
+        private static SdkAsyncHttpClient build(final TransportConfiguration transport) {
+            return AwsCrtAsyncHttpClient.builder()
+                    .maxConcurrency(transport.getMaxConnections())
+                    .connectionMaxIdleTime(transport.getConnectionMaxIdleTime())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import java.time.Duration;
+
+/**
+ * How the delete of one resource by a {@link TieredTeardown} ended: how long it took from the start of its tier until
+ * the resource was seen gone, or until it failed with an error code.
+ */
+@lombok.Value
+public class DeleteOutcome {
+    Duration latency;
+    // Null when the resource was deleted.
+    HandlerErrorCode errorCode;
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Describe responses kept for a few seconds, so that reads of one resource close together - drift detection reads
+ * every resource of a stack, often more than once - share one describe call. Off unless
+ * {@code IOTANALYTICS_DESCRIBE_CACHE_TTL_MILLIS} is set to a positive number of milliseconds; at most
+ * {@link #MAX_ENTRIES} responses are kept.
+ * <p>
+ * Handlers invalidate a resource once they have created, updated or deleted it, and the read that ends a mutation
+ * bypasses the cache, so that an invocation always sees its own writes. Every lookup is emitted as a
+ * {@link CacheMetric} hit or miss, with the operation and call graph of the {@link MetricsScope} it was made in.
+ */
+public final class DescribeCache {
+    static final String DESCRIBE_CACHE_TTL_MILLIS = "IOTANALYTICS_DESCRIBE_CACHE_TTL_MILLIS";
+    static final long MAX_ENTRIES = 500;
+    static final String CACHE_NAME = "Describe";
+
+    private static final DescribeCache SHARED =
+            from(System::getenv, MetricsSink.from(System::getenv), System::nanoTime);
+
+    // Null when the cache is off.
+    @Nullable
+    private final Cache<ResourceKey, Object> responses;
+    private final MetricsSink metrics;
+    // Bumped on every invalidation, so that a describe that was in flight during one does not store what it read.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @VisibleForTesting
+    DescribeCache(final Duration ttl, final MetricsSink metrics, final LongSupplier nanoClock) {
+        this.responses = ttl.isZero() ? null : CacheBuilder.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+                .ticker(new Ticker() {
+                    @Override
+                    public long read() {
+                        return nanoClock.getAsLong();
+                    }
+                })
+                .build();
+        this.metrics = metrics;
+    }
+
+    static DescribeCache from(final Function<String, String> environment, final MetricsSink metrics,
+                              final LongSupplier nanoClock) {
+        // Read while the class initializes, an invalid value leaves the cache off with a warning.
+        final Duration ttl = EnvironmentSettings.parse(DESCRIBE_CACHE_TTL_MILLIS,
+                environment.apply(DESCRIBE_CACHE_TTL_MILLIS), DescribeCache::ttl, Duration.ZERO);
+        return new DescribeCache(ttl, metrics, nanoClock);
+    }
+
+    private static Duration ttl(final String value) {
+        final long ttlMillis = Long.parseLong(value);
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("must not be negative");
+        }
+        return Duration.ofMillis(ttlMillis);
+    }
+
+    /**
+     * The cache shared by every handler of the process.
+     */
+    public static DescribeCache shared() {
+        return SHARED;
+    }
+
+    public boolean isEnabled() {
+        return responses != null;
+    }
+
+    /**
+     * Returns the cached response of {@code describe} for the resource, or calls it and caches what it returns.
+     * With {@code bypass} the cache is not looked up, but the fresh response still replaces the cached one.
+     * Exceptions, e.g. not found, are never cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T describe(final String typeName, final ResourceHandlerRequest<?> request, @Nullable final String name,
+                          final boolean bypass, final Supplier<T> describe) {
+        if (responses == null || Strings.isNullOrEmpty(name)) {
+            return describe.get();
+        }
+        final ResourceKey key = ResourceKey.of(typeName, request, name);
+        if (!bypass) {
+            // Responses are only ever stored under the key of their own resource type, so the cast holds.
+            final T cached = (T) responses.getIfPresent(key);
+            emit(cached != null);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final long invalidationsBefore = invalidations.get();
+        final T response = describe.get();
+        if (response != null && invalidations.get() == invalidationsBefore) {
+            responses.put(key, response);
+        }
+        return response;
+    }
+
+    public void invalidate(final String typeName, final ResourceHandlerRequest<?> request, @Nullable final String name) {
+        if (responses != null && !Strings.isNullOrEmpty(name)) {
+            invalidations.incrementAndGet();
+            responses.invalidate(ResourceKey.of(typeName, request, name));
+        }
+    }
+
+    public void invalidateAll() {
+        if (responses != null) {
+            invalidations.incrementAndGet();
+            responses.invalidateAll();
+        }
+    }
+
+    private void emit(final boolean hit) {
+        final MetricsScope scope = MetricsScope.current();
+        metrics.emit(CacheMetric.builder()
+                .cache(CACHE_NAME)
+                .operation(scope == null ? CACHE_NAME : scope.getOperation())
+                .callGraph(scope == null ? null : scope.getCallGraph())
+                .hit(hit)
+                .build());
+    }
+}
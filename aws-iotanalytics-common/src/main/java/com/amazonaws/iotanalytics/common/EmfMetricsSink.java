@@ -0,0 +1,110 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.annotation.Nullable;
+import java.time.Clock;
+import java.util.function.Consumer;
+
+/**
+ * Writes each {@link CallMetric}, {@link CacheMetric} and {@link BackoffMetric} as one CloudWatch Embedded Metric
+ * Format record, with the operation and call graph as dimensions. The service operation, the failure and time-out
+ * flags and the cache name are kept as properties, searchable in Logs Insights without multiplying the metrics.
+ */
+public class EmfMetricsSink implements MetricsSink {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String namespace;
+    private final Consumer<String> output;
+    private final Clock clock;
+
+    public EmfMetricsSink(final String namespace, final Consumer<String> output) {
+        this(namespace, output, Clock.systemUTC());
+    }
+
+    EmfMetricsSink(final String namespace, final Consumer<String> output, final Clock clock) {
+        this.namespace = namespace;
+        this.output = output;
+        this.clock = clock;
+    }
+
+    @Override
+    public void emit(final CallMetric metric) {
+        final ObjectNode record = MAPPER.createObjectNode();
+        final ArrayNode definitions = definitions(record, metric.getOperation(), metric.getCallGraph());
+        definitions.addObject().put("Name", "Latency").put("Unit", "Milliseconds");
+        definitions.addObject().put("Name", "Attempts").put("Unit", "Count");
+        definitions.addObject().put("Name", "Throttles").put("Unit", "Count");
+        definitions.addObject().put("Name", "RequestBytes").put("Unit", "Bytes");
+        definitions.addObject().put("Name", "ResponseBytes").put("Unit", "Bytes");
+
+        record.put("ServiceOperation", metric.getServiceOperation());
+        record.put("Failed", metric.isFailed());
+        record.put("Latency", metric.getLatency().toNanos() / 1_000_000.0);
+        record.put("Attempts", metric.getAttempts());
+        record.put("Throttles", metric.getThrottles());
+        record.put("RequestBytes", metric.getRequestBytes());
+        record.put("ResponseBytes", metric.getResponseBytes());
+        write(record);
+    }
+
+    /**
+     * Written as a hit and a miss count, one of them 1, so that the hit rate is the average of {@code CacheHits}.
+     */
+    @Override
+    public void emit(final CacheMetric metric) {
+        final ObjectNode record = MAPPER.createObjectNode();
+        final ArrayNode definitions = definitions(record, metric.getOperation(), metric.getCallGraph());
+        definitions.addObject().put("Name", "CacheHits").put("Unit", "Count");
+        definitions.addObject().put("Name", "CacheMisses").put("Unit", "Count");
+
+        record.put("Cache", metric.getCache());
+        record.put("CacheHits", metric.isHit() ? 1 : 0);
+        record.put("CacheMisses", metric.isHit() ? 0 : 1);
+        write(record);
+    }
+
+    @Override
+    public void emit(final BackoffMetric metric) {
+        final ObjectNode record = MAPPER.createObjectNode();
+        final ArrayNode definitions = definitions(record, metric.getOperation(), metric.getCallGraph());
+        definitions.addObject().put("Name", "BackoffDelay").put("Unit", "Milliseconds");
+        definitions.addObject().put("Name", "BackoffAttempt").put("Unit", "Count");
+
+        record.put("TimedOut", metric.isTimedOut());
+        record.put("BackoffDelay", metric.getDelay().toMillis());
+        record.put("BackoffAttempt", metric.getAttempt());
+        write(record);
+    }
+
+    /**
+     * Writes the metadata and dimensions of a record, and returns the metric definitions for the caller to fill.
+     */
+    private ArrayNode definitions(final ObjectNode record, final String operation, @Nullable final String callGraph) {
+        final ObjectNode directive = record.putObject("_aws");
+        directive.put("Timestamp", clock.millis());
+        final ObjectNode metrics = directive.putArray("CloudWatchMetrics").addObject();
+        metrics.put("Namespace", namespace);
+        final ArrayNode dimensions = metrics.putArray("Dimensions").addArray().add("Operation");
+        if (callGraph != null) {
+            dimensions.add("CallGraph");
+        }
+
+        record.put("Operation", operation);
+        if (callGraph != null) {
+            record.put("CallGraph", callGraph);
+        }
+        return metrics.putArray("Metrics");
+    }
+
+    private void write(final ObjectNode record) {
+        try {
+            output.accept(MAPPER.writeValueAsString(record));
+        } catch (final JsonProcessingException e) {
+            // Metrics must never fail the handler.
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses settings read from environment variables, mostly into static fields while the handler classes load and
+ * before there is a request to log with. A value that does not parse must not fail the class initialization, which
+ * would fail every following request with a {@link NoClassDefFoundError}: it is reported on stderr, which Lambda
+ * ships to the function's log group, and the default is used instead.
+ */
+public final class EnvironmentSettings {
+    private static final Consumer<String> STDERR = System.err::println;
+
+    private EnvironmentSettings() {}
+
+    /**
+     * Returns {@code value} trimmed and parsed, or {@code defaultValue} when it is not set or {@code parser} throws.
+     * {@code parser} may also throw to reject values out of range.
+     */
+    public static <T> T parse(final String variable,
+                              final String value,
+                              final Function<String, T> parser,
+                              final T defaultValue) {
+        return parse(variable, value, parser, defaultValue, STDERR);
+    }
+
+    @VisibleForTesting
+    static <T> T parse(final String variable,
+                       final String value,
+                       final Function<String, T> parser,
+                       final T defaultValue,
+                       final Consumer<String> warnings) {
+        if (StringUtils.isNullOrEmpty(value) || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (final RuntimeException e) {
+            warnings.accept(String.format("WARN %s=%s is invalid, using the default %s instead: %s",
+                    variable, value, defaultValue, e.getMessage()));
+            return defaultValue;
+        }
+    }
+}
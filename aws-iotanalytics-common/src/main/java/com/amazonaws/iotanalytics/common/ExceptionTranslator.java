@@ -0,0 +1,57 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
+import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Maps the IoT Analytics service exceptions onto the CloudFormation handler exceptions, the same way for every
+ * resource type.
+ */
+public final class ExceptionTranslator {
+    private ExceptionTranslator() {}
+
+    public static BaseHandlerException translate(
+            final IoTAnalyticsException e,
+            final String operation,
+            final String typeName,
+            @Nullable final String name
+    ) {
+        if (e instanceof ResourceAlreadyExistsException) {
+            return new CfnAlreadyExistsException(e);
+        } else if (e instanceof ResourceNotFoundException) {
+            if (StringUtils.isNullOrEmpty(name)) return new CfnNotFoundException(e);
+            return new CfnNotFoundException(typeName, name);
+        } else if (e instanceof InvalidRequestException) {
+            return new CfnInvalidRequestException(e.getMessage(), e);
+        } else if (e instanceof ThrottlingException) {
+            return new CfnThrottlingException(operation, e);
+        } else if (e instanceof ServiceUnavailableException) {
+            return new CfnGeneralServiceException(operation, e);
+        } else if (e instanceof LimitExceededException) {
+            return new CfnServiceLimitExceededException(typeName, e.getMessage());
+        } else {
+            if (e.awsErrorDetails() != null
+                    && "AccessDeniedException".equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
+                return new CfnAccessDeniedException(operation, e);
+            }
+            return new CfnServiceInternalErrorException(operation, e);
+        }
+    }
+}
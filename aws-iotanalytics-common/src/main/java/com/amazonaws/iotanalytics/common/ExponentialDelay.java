@@ -0,0 +1,56 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Doubles the wait on every attempt, starting at {@code minDelay} and capped at {@code maxDelay}. Once the waits
+ * add up to more than {@code timeout} it returns {@link Duration#ZERO}, which tells the proxy to stop waiting.
+ * With jitter enabled each wait is drawn from the upper half of the nominal wait, so handlers that back off at
+ * the same time do not retry in lockstep.
+ */
+class ExponentialDelay implements Delay {
+    private static final int MAX_SHIFT = 30;
+
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final boolean jitter;
+
+    ExponentialDelay(final Duration minDelay, final Duration maxDelay, final Duration timeout, final boolean jitter) {
+        if (minDelay.isNegative() || minDelay.isZero() || maxDelay.compareTo(minDelay) < 0) {
+            throw new IllegalArgumentException(String.format("Invalid delay bounds [%s, %s]", minDelay, maxDelay));
+        }
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        Duration accrued = Duration.ZERO;
+        Duration next = minDelay;
+        for (int i = 1; i <= Math.max(attempt, 1); i++) {
+            next = nominalDelay(i);
+            accrued = accrued.plus(next);
+        }
+        if (accrued.compareTo(timeout) > 0) {
+            return Duration.ZERO;
+        }
+        if (!jitter) {
+            return next;
+        }
+        final long halfMillis = next.toMillis() / 2;
+        final long jittered = halfMillis + ThreadLocalRandom.current().nextLong(next.toMillis() - halfMillis + 1);
+        // Duration.ZERO means "give up", so never let the jitter produce it.
+        return Duration.ofMillis(Math.max(1L, jittered));
+    }
+
+    private Duration nominalDelay(final int attempt) {
+        final Duration delay = minDelay.multipliedBy(1L << Math.min(attempt - 1, MAX_SHIFT));
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+}
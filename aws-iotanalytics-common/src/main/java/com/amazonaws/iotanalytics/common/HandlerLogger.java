@@ -0,0 +1,110 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Level-filtered logging over the RPDK {@link Logger}. Messages are {@link String#format} patterns and are only
+ * formatted once they pass the level, so arguments such as exceptions cost nothing when the message is dropped.
+ * The level is read from {@code IOTANALYTICS_LOG_LEVEL} (DEBUG, INFO, WARN or ERROR), INFO by default or when the
+ * value is none of those.
+ */
+public final class HandlerLogger {
+    static final String LOG_LEVEL = "IOTANALYTICS_LOG_LEVEL";
+    static final String LOG_SAMPLE_EVERY = "IOTANALYTICS_LOG_SAMPLE_EVERY";
+    static final int DEFAULT_SAMPLE_EVERY = 10;
+
+    private static final Level LEVEL = level(System.getenv(LOG_LEVEL));
+    private static final int SAMPLE_EVERY = sampleEvery(System.getenv(LOG_SAMPLE_EVERY));
+
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private final Logger logger;
+    private final Level level;
+    private final int sampleEvery;
+    private final Map<String, Integer> occurrences = new HashMap<>();
+
+    @VisibleForTesting
+    HandlerLogger(final Logger logger, final Level level, final int sampleEvery) {
+        this.logger = logger;
+        this.level = level;
+        this.sampleEvery = sampleEvery;
+    }
+
+    public static HandlerLogger of(final Logger logger) {
+        return new HandlerLogger(logger, LEVEL, SAMPLE_EVERY);
+    }
+
+    public boolean isEnabled(final Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0;
+    }
+
+    public void debug(final String format, final Object... args) {
+        log(Level.DEBUG, format, args);
+    }
+
+    public void info(final String format, final Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public void warn(final String format, final Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    public void error(final String format, final Object... args) {
+        log(Level.ERROR, format, args);
+    }
+
+    /**
+     * For messages repeated on every round of a loop, such as stabilization checks: only the first and then every
+     * {@code IOTANALYTICS_LOG_SAMPLE_EVERY}th occurrence of {@code format} is logged, with the number of
+     * occurrences so far.
+     */
+    public void sampled(final Level messageLevel, final String format, final Object... args) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        final int occurrence;
+        synchronized (occurrences) {
+            occurrence = occurrences.merge(format, 1, Integer::sum);
+        }
+        if (occurrence == 1) {
+            write(messageLevel, format, args);
+        } else if ((occurrence - 1) % sampleEvery == 0) {
+            write(messageLevel, format + " (occurrence %d)", append(args, occurrence));
+        }
+    }
+
+    private void log(final Level messageLevel, final String format, final Object... args) {
+        if (isEnabled(messageLevel)) {
+            write(messageLevel, format, args);
+        }
+    }
+
+    private void write(final Level messageLevel, final String format, final Object... args) {
+        final String message = String.format(format, args);
+        // INFO lines keep the unprefixed format the handlers always logged with.
+        logger.log(messageLevel == Level.INFO ? message : messageLevel.name() + " " + message);
+    }
+
+    private static Object[] append(final Object[] args, final Object arg) {
+        final Object[] appended = new Object[args.length + 1];
+        System.arraycopy(args, 0, appended, 0, args.length);
+        appended[args.length] = arg;
+        return appended;
+    }
+
+    // Both are read while the class initializes, an invalid value is ignored with a warning, see EnvironmentSettings.
+    static Level level(final String value) {
+        return EnvironmentSettings.parse(LOG_LEVEL, value, level -> Level.valueOf(level.toUpperCase(Locale.ROOT)),
+                Level.INFO);
+    }
+
+    static int sampleEvery(final String value) {
+        return Math.max(1, EnvironmentSettings.parse(LOG_SAMPLE_EVERY, value, Integer::parseInt, DEFAULT_SAMPLE_EVERY));
+    }
+}
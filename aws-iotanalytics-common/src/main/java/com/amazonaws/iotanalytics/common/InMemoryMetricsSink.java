@@ -0,0 +1,46 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the emitted {@link CallMetric}s, {@link CacheMetric}s and {@link BackoffMetric}s, for tests to assert on.
+ */
+public class InMemoryMetricsSink implements MetricsSink {
+    private final List<CallMetric> metrics = new ArrayList<>();
+    private final List<CacheMetric> cacheMetrics = new ArrayList<>();
+    private final List<BackoffMetric> backoffMetrics = new ArrayList<>();
+
+    @Override
+    public synchronized void emit(final CallMetric metric) {
+        metrics.add(metric);
+    }
+
+    @Override
+    public synchronized void emit(final CacheMetric metric) {
+        cacheMetrics.add(metric);
+    }
+
+    @Override
+    public synchronized void emit(final BackoffMetric metric) {
+        backoffMetrics.add(metric);
+    }
+
+    public synchronized List<CallMetric> getMetrics() {
+        return new ArrayList<>(metrics);
+    }
+
+    public synchronized List<CacheMetric> getCacheMetrics() {
+        return new ArrayList<>(cacheMetrics);
+    }
+
+    public synchronized List<BackoffMetric> getBackoffMetrics() {
+        return new ArrayList<>(backoffMetrics);
+    }
+
+    public synchronized void clear() {
+        metrics.clear();
+        cacheMetrics.clear();
+        backoffMetrics.clear();
+    }
+}
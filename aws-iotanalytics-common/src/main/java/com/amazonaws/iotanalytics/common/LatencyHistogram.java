@@ -0,0 +1,61 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets whose upper bounds double from {@link #FIRST_BUCKET} (100ms, 200ms, 400ms... about
+ * 7 minutes), so a percentile is answered with the bound of the bucket it falls in. Recording is lock free.
+ */
+final class LatencyHistogram {
+    static final Duration FIRST_BUCKET = Duration.ofMillis(100);
+    static final int BUCKETS = 13;
+
+    // The last slot counts everything above the largest bound.
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 1);
+
+    void record(final Duration latency) {
+        counts.incrementAndGet(bucket(latency.toMillis()));
+    }
+
+    long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * The upper bound of the bucket holding the {@code percentile} (between 0 and 1) of the recorded latencies,
+     * or null if nothing was recorded. Latencies above the largest bound answer with the largest bound.
+     */
+    Duration percentile(final double percentile) {
+        final long count = count();
+        if (count == 0) {
+            return null;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(Math.min(i, BUCKETS - 1));
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static Duration upperBound(final int bucket) {
+        return FIRST_BUCKET.multipliedBy(1L << bucket);
+    }
+
+    private static int bucket(final long millis) {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (millis <= upperBound(i).toMillis()) {
+                return i;
+            }
+        }
+        return BUCKETS;
+    }
+}
@@ -0,0 +1,118 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures every SDK call of the clients built by {@link ClientBuilder} and hands a {@link CallMetric} to the
+ * sink once the call completes, successfully or not. Calls made outside a {@link MetricsScope} are tagged with
+ * the service operation alone.
+ */
+final class MetricsInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<Recording> RECORDING = new ExecutionAttribute<>("IoTAnalyticsCallMetric");
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private final MetricsSink sink;
+    private final LongSupplier nanoClock;
+
+    MetricsInterceptor(final MetricsSink sink, final LongSupplier nanoClock) {
+        this.sink = sink;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(RECORDING, new Recording(MetricsScope.current(), nanoClock.getAsLong()));
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context,
+                                   final ExecutionAttributes executionAttributes) {
+        final Recording recording = executionAttributes.getAttribute(RECORDING);
+        if (recording != null) {
+            recording.attempt(contentLength(context.httpRequest()));
+        }
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context,
+                                  final ExecutionAttributes executionAttributes) {
+        final Recording recording = executionAttributes.getAttribute(RECORDING);
+        if (recording != null) {
+            recording.response(context.httpResponse().statusCode() == TOO_MANY_REQUESTS,
+                    contentLength(context.httpResponse()));
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        emit(executionAttributes, false);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context,
+                                   final ExecutionAttributes executionAttributes) {
+        emit(executionAttributes, true);
+    }
+
+    private void emit(final ExecutionAttributes executionAttributes, final boolean failed) {
+        final Recording recording = executionAttributes.getAttribute(RECORDING);
+        if (recording == null) {
+            return;
+        }
+        final String serviceOperation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        final MetricsScope scope = recording.scope;
+        synchronized (recording) {
+            sink.emit(CallMetric.builder()
+                    .operation(scope == null ? serviceOperation : scope.getOperation())
+                    .callGraph(scope == null ? null : scope.getCallGraph())
+                    .serviceOperation(serviceOperation)
+                    .latency(Duration.ofNanos(nanoClock.getAsLong() - recording.startNanos))
+                    .attempts(recording.attempts)
+                    .throttles(recording.throttles)
+                    .requestBytes(recording.requestBytes)
+                    .responseBytes(recording.responseBytes)
+                    .failed(failed)
+                    .build());
+        }
+    }
+
+    private static long contentLength(final SdkHttpHeaders headers) {
+        return headers.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong).orElse(0L);
+    }
+
+    // Attempts of an async call may run on different threads, one after the other.
+    private static final class Recording {
+        private final MetricsScope scope;
+        private final long startNanos;
+        private int attempts;
+        private int throttles;
+        private long requestBytes;
+        private long responseBytes;
+
+        private Recording(final MetricsScope scope, final long startNanos) {
+            this.scope = scope;
+            this.startNanos = startNanos;
+        }
+
+        private synchronized void attempt(final long bytes) {
+            attempts++;
+            requestBytes += bytes;
+        }
+
+        private synchronized void response(final boolean throttled, final long bytes) {
+            if (throttled) {
+                throttles++;
+            }
+            responseBytes += bytes;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.amazonaws.iotanalytics.common;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * Names the handler operation and call graph of the SDK calls made on the current thread, so that their
+ * {@link CallMetric}s can be tagged with them. Only the start of a call has to happen inside the scope: the
+ * SDK reads it before the call leaves the calling thread.
+ */
+public final class MetricsScope {
+    private static final ThreadLocal<MetricsScope> CURRENT = new ThreadLocal<>();
+
+    private final String operation;
+    @Nullable
+    private final String callGraph;
+
+    private MetricsScope(final String operation, @Nullable final String callGraph) {
+        this.operation = operation;
+        this.callGraph = callGraph;
+    }
+
+    public static <T> T record(final String operation, @Nullable final String callGraph, final Supplier<T> call) {
+        return within(new MetricsScope(operation, callGraph), call);
+    }
+
+    /**
+     * Carries the scope of the calling thread over to {@code call}, for calls that are handed to another thread.
+     */
+    static <T> Supplier<T> propagate(final Supplier<T> call) {
+        final MetricsScope scope = CURRENT.get();
+        return scope == null ? call : () -> within(scope, call);
+    }
+
+    @Nullable
+    static MetricsScope current() {
+        return CURRENT.get();
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    @Nullable
+    String getCallGraph() {
+        return callGraph;
+    }
+
+    private static <T> T within(final MetricsScope scope, final Supplier<T> call) {
+        final MetricsScope previous = CURRENT.get();
+        CURRENT.set(scope);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.util.function.Function;
+
+/**
+ * Where {@link CallMetric}s, {@link CacheMetric}s and {@link BackoffMetric}s go.
+ */
+public interface MetricsSink {
+    String METRICS = "IOTANALYTICS_METRICS";
+    String METRICS_NAMESPACE = "IOTANALYTICS_METRICS_NAMESPACE";
+    String DEFAULT_NAMESPACE = "IoTAnalytics/ResourceHandlers";
+
+    MetricsSink NONE = metric -> { };
+
+    void emit(CallMetric metric);
+
+    default void emit(final CacheMetric metric) {
+    }
+
+    default void emit(final BackoffMetric metric) {
+    }
+
+    /**
+     * Embedded Metric Format on stdout, which Lambda ships to the function's log group, when
+     * {@code IOTANALYTICS_METRICS} is {@code emf}. Off by default, as every service call then adds a line to the
+     * handler's logs; any other value than {@code emf} or {@code none} is ignored with a warning.
+     */
+    static MetricsSink from(final Function<String, String> environment) {
+        final boolean emf = EnvironmentSettings.parse(METRICS, environment.apply(METRICS), value -> {
+            if ("emf".equalsIgnoreCase(value)) {
+                return true;
+            } else if ("none".equalsIgnoreCase(value)) {
+                return false;
+            }
+            throw new IllegalArgumentException("must be emf or none");
+        }, false);
+        if (!emf) {
+            return NONE;
+        }
+        final String namespace = environment.apply(METRICS_NAMESPACE);
+        return new EmfMetricsSink(namespace == null || namespace.trim().isEmpty() ? DEFAULT_NAMESPACE : namespace.trim(),
+                System.out::println);
+    }
+}
@@ -0,0 +1,129 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Sets;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The properties that differ between two resource models, compared through their JSON form so it works for the
+ * generated model of any resource type. Changed properties are reported as dotted paths of their JSON names, e.g.
+ * {@code RetentionPeriod.NumberOfDays}; a property added or removed as a whole, or a change anywhere in an array, is
+ * reported at that property.
+ * <p>
+ * A null property is the same as an absent one. Arrays are compared regardless of order, since every array of the
+ * IoT Analytics resource schemas is declared with {@code insertionOrder: false}.
+ */
+public final class ModelDiff {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SortedSet<String> changedProperties;
+
+    private ModelDiff(final SortedSet<String> changedProperties) {
+        this.changedProperties = Collections.unmodifiableSortedSet(changedProperties);
+    }
+
+    public static ModelDiff between(@Nullable final Object previousModel, @Nullable final Object desiredModel) {
+        final SortedSet<String> changedProperties = new TreeSet<>();
+        diff("", MAPPER.valueToTree(previousModel), MAPPER.valueToTree(desiredModel), changedProperties);
+        return new ModelDiff(changedProperties);
+    }
+
+    /**
+     * Leaves out the changes under the given top-level properties, e.g. the tags, which are not updated by the
+     * resource's own update call.
+     */
+    public ModelDiff ignoring(@Nonnull final String... properties) {
+        final Set<String> ignored = Sets.newHashSet(Arrays.asList(properties));
+        final SortedSet<String> changedProperties = new TreeSet<>();
+        for (final String property : this.changedProperties) {
+            final int dot = property.indexOf('.');
+            if (!ignored.contains(dot < 0 ? property : property.substring(0, dot))) {
+                changedProperties.add(property);
+            }
+        }
+        return new ModelDiff(changedProperties);
+    }
+
+    public SortedSet<String> getChangedProperties() {
+        return changedProperties;
+    }
+
+    public boolean isEmpty() {
+        return changedProperties.isEmpty();
+    }
+
+    private static void diff(final String path, @Nullable final JsonNode previous, @Nullable final JsonNode desired,
+                             final Set<String> changedProperties) {
+        if (isAbsent(previous) && isAbsent(desired)) {
+            return;
+        }
+        if (!isAbsent(previous) && !isAbsent(desired) && previous.isObject() && desired.isObject()) {
+            final Set<String> fieldNames = new TreeSet<>();
+            previous.fieldNames().forEachRemaining(fieldNames::add);
+            desired.fieldNames().forEachRemaining(fieldNames::add);
+            for (final String fieldName : fieldNames) {
+                diff(path.isEmpty() ? fieldName : path + "." + fieldName,
+                        previous.get(fieldName), desired.get(fieldName), changedProperties);
+            }
+        } else if (!equivalent(previous, desired)) {
+            changedProperties.add(path);
+        }
+    }
+
+    private static boolean equivalent(@Nullable final JsonNode previous, @Nullable final JsonNode desired) {
+        if (isAbsent(previous) || isAbsent(desired)) {
+            return isAbsent(previous) && isAbsent(desired);
+        }
+        if (previous.isObject() && desired.isObject()) {
+            final Set<String> fieldNames = new TreeSet<>();
+            previous.fieldNames().forEachRemaining(fieldNames::add);
+            desired.fieldNames().forEachRemaining(fieldNames::add);
+            for (final String fieldName : fieldNames) {
+                if (!equivalent(previous.get(fieldName), desired.get(fieldName))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (previous.isArray() && desired.isArray()) {
+            if (previous.size() != desired.size()) {
+                return false;
+            }
+            // Matches every previous element to a distinct desired one, so duplicates count.
+            final List<JsonNode> unmatched = new LinkedList<>();
+            desired.forEach(unmatched::add);
+            for (final JsonNode element : previous) {
+                if (!removeEquivalent(unmatched, element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return previous.equals(desired);
+    }
+
+    private static boolean removeEquivalent(final List<JsonNode> candidates, final JsonNode element) {
+        for (final Iterator<JsonNode> iterator = candidates.iterator(); iterator.hasNext(); ) {
+            if (equivalent(element, iterator.next())) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAbsent(@Nullable final JsonNode node) {
+        return node == null || node.isNull() || node.isMissingNode();
+    }
+}
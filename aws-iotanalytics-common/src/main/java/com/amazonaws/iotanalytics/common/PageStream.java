@@ -0,0 +1,74 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads the pages of a paginated list call, e.g. an SDK {@code listDatasetsPaginator}, for as long as the time budget
+ * of an invocation allows. Pages are only fetched when the previous one has been turned into items, and a next page
+ * is only fetched when the slowest page so far would still fit in the budget, so one invocation returns as many
+ * items as it can and the token to resume from.
+ * <p>
+ * The first page is always read. Items are converted a page at a time, so that per-page work such as hydrating the
+ * models counts against the budget too.
+ */
+public final class PageStream {
+
+    private PageStream() {}
+
+    @lombok.Value
+    public static class Result<ItemT> {
+        List<ItemT> items;
+        // The token of the last page read, null once every page has been read.
+        @Nullable
+        String nextToken;
+        int pages;
+    }
+
+    public static <PageT, ItemT> Result<ItemT> collect(final String operation,
+                                                       final Iterable<PageT> pages,
+                                                       final Function<PageT, List<ItemT>> toItems,
+                                                       final Function<PageT, String> nextToken,
+                                                       final Duration budget) {
+        return collect(operation, pages, toItems, nextToken, budget, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    static <PageT, ItemT> Result<ItemT> collect(final String operation,
+                                                final Iterable<PageT> pages,
+                                                final Function<PageT, List<ItemT>> toItems,
+                                                final Function<PageT, String> nextToken,
+                                                final Duration budget,
+                                                final LongSupplier nanoClock) {
+        final long startedNanos = nanoClock.getAsLong();
+        final List<ItemT> items = new ArrayList<>();
+        final Iterator<PageT> iterator = pages.iterator();
+        String token = null;
+        int pageCount = 0;
+        long slowestPageNanos = 0;
+        while (pageCount == 0 || nanoClock.getAsLong() - startedNanos + slowestPageNanos <= budget.toNanos()) {
+            final long pageStartedNanos = nanoClock.getAsLong();
+            // The SDK paginators call the service from the iterator, which has to happen within the metrics scope.
+            if (!MetricsScope.record(operation, null, iterator::hasNext)) {
+                break;
+            }
+            final PageT page = MetricsScope.record(operation, null, iterator::next);
+            items.addAll(toItems.apply(page));
+            token = nextToken.apply(page);
+            pageCount++;
+            slowestPageNanos = Math.max(slowestPageNanos, nanoClock.getAsLong() - pageStartedNanos);
+            if (token == null) {
+                break;
+            }
+        }
+        return new Result<>(Collections.unmodifiableList(items), token, pageCount);
+    }
+}
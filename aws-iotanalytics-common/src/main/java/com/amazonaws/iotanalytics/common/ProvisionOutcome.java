@@ -0,0 +1,45 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import java.time.Duration;
+
+/**
+ * How the create of one resource by a {@link StackProvisioner} went, with the times it started and finished relative
+ * to the start of the run.
+ */
+@lombok.Value
+public class ProvisionOutcome {
+    public enum Status {
+        CREATED,
+        FAILED,
+        // Never created, because a resource it depends on failed. A skipped resource has no error code of its own.
+        SKIPPED
+    }
+
+    Duration started;
+    Duration finished;
+    Status status;
+    // Null unless the create failed.
+    HandlerErrorCode errorCode;
+
+    static ProvisionOutcome created(final Duration started, final Duration finished) {
+        return new ProvisionOutcome(started, finished, Status.CREATED, null);
+    }
+
+    static ProvisionOutcome failed(final Duration started, final Duration finished, final HandlerErrorCode errorCode) {
+        return new ProvisionOutcome(started, finished, Status.FAILED, errorCode);
+    }
+
+    static ProvisionOutcome skipped(final Duration at) {
+        return new ProvisionOutcome(at, at, Status.SKIPPED, null);
+    }
+
+    public Duration getLatency() {
+        return finished.minus(started);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.CREATED;
+    }
+}
@@ -0,0 +1,74 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * What a {@link StackProvisioner} run cost: its wall time, how the create of every resource went, and the critical
+ * path - the chain of creates, each started as the one before it finished, that the wall time comes down to.
+ */
+public final class ProvisioningReport<K> {
+    private final Duration wallTime;
+    private final Map<K, ProvisionOutcome> outcomes;
+    private final List<K> criticalPath;
+
+    ProvisioningReport(final Duration wallTime, final Map<K, ProvisionOutcome> outcomes, final List<K> criticalPath) {
+        this.wallTime = wallTime;
+        this.outcomes = outcomes;
+        this.criticalPath = criticalPath;
+    }
+
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * The outcome of every resource, in the order the resources were added.
+     */
+    public Map<K, ProvisionOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * From the first resource created to the last one.
+     */
+    public List<K> getCriticalPath() {
+        return criticalPath;
+    }
+
+    public int getFailureCount() {
+        return count(ProvisionOutcome.Status.FAILED);
+    }
+
+    public int getSkippedCount() {
+        return count(ProvisionOutcome.Status.SKIPPED);
+    }
+
+    /**
+     * Prints the totals and the critical path, each resource on it under its {@code label}.
+     */
+    public void print(final PrintStream out, final Function<? super K, String> label) {
+        out.printf("PROVISION: %d resources in %.2fs, %d failed, %d skipped%n", outcomes.size(),
+                wallTime.toNanos() / 1e9, getFailureCount(), getSkippedCount());
+        out.printf("  critical path of %d resources%n", criticalPath.size());
+        out.printf("  %-43s %9s %9s%n", "resource", "start ms", "create ms");
+        for (final K resource : criticalPath) {
+            final ProvisionOutcome outcome = outcomes.get(resource);
+            out.printf("  %-43s %9d %9d%n", label.apply(resource), outcome.getStarted().toMillis(),
+                    outcome.getLatency().toMillis());
+        }
+    }
+
+    private int count(final ProvisionOutcome.Status status) {
+        int count = 0;
+        for (final ProvisionOutcome outcome : outcomes.values()) {
+            if (outcome.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,84 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Client-side request rates of the IoT Analytics APIs, in requests per second. Each API family can be overridden
+ * with an environment variable, e.g. {@code IOTANALYTICS_RATE_LIMIT_DESCRIBE=10}; a rate of 0 turns limiting of
+ * that family off. A value that is not a rate is ignored with a warning, see {@link EnvironmentSettings}.
+ */
+class RateLimitConfiguration {
+    static final String RATE_LIMIT_PREFIX = "IOTANALYTICS_RATE_LIMIT_";
+
+    enum Api {
+        DESCRIBE(20), LIST(20), LIST_TAGS(20), TAG(10), CREATE(5), UPDATE(5), DELETE(5);
+
+        private final double defaultPermitsPerSecond;
+
+        Api(final double defaultPermitsPerSecond) {
+            this.defaultPermitsPerSecond = defaultPermitsPerSecond;
+        }
+
+        /**
+         * Returns the family of a service operation, or null when the operation is not rate limited.
+         */
+        static Api of(final String operationName) {
+            if (operationName == null) {
+                return null;
+            } else if (operationName.equals("ListTagsForResource")) {
+                return LIST_TAGS;
+            } else if (operationName.equals("TagResource") || operationName.equals("UntagResource")) {
+                return TAG;
+            } else if (operationName.startsWith("Describe")) {
+                return DESCRIBE;
+            } else if (operationName.startsWith("List")) {
+                return LIST;
+            } else if (operationName.startsWith("Create")) {
+                return CREATE;
+            } else if (operationName.startsWith("Update")) {
+                return UPDATE;
+            } else if (operationName.startsWith("Delete")) {
+                return DELETE;
+            }
+            return null;
+        }
+    }
+
+    private final Map<Api, Double> permitsPerSecond;
+
+    private RateLimitConfiguration(final Map<Api, Double> permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    static RateLimitConfiguration fromEnvironment() {
+        return from(System::getenv);
+    }
+
+    static RateLimitConfiguration from(final Function<String, String> environment) {
+        final Map<Api, Double> permitsPerSecond = new EnumMap<>(Api.class);
+        for (final Api api : Api.values()) {
+            final String variable = RATE_LIMIT_PREFIX + api.name();
+            permitsPerSecond.put(api, EnvironmentSettings.parse(variable, environment.apply(variable),
+                    RateLimitConfiguration::rate, api.defaultPermitsPerSecond));
+        }
+        return new RateLimitConfiguration(permitsPerSecond);
+    }
+
+    private static double rate(final String value) {
+        final double rate = Double.parseDouble(value);
+        // NaN is neither negative nor positive and would never hand out a permit.
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("must be a rate of 0 or more requests per second");
+        }
+        return rate;
+    }
+
+    /**
+     * Returns the configured rate of {@code api}, 0 when it is not limited.
+     */
+    double getPermitsPerSecond(final Api api) {
+        return permitsPerSecond.get(api);
+    }
+}
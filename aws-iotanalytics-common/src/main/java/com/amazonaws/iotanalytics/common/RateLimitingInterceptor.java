@@ -0,0 +1,115 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces the IoT Analytics calls of this process with one {@link TokenBucket} per API family, shared by the sync
+ * and async clients. Every sync attempt waits for a permit, SDK retries included, and every response feeds the rate
+ * back: a throttled attempt slows its family down before the next calls are rejected as well.
+ * <p>
+ * Waiting would block a thread of the async client's pipeline, so the {@link #nonBlocking()} view registered on the
+ * async client never waits. Async calls take the permit of their first attempt with {@link #reserve(String)} before
+ * they are issued, and are scheduled after the wait it returns, see {@link AsyncInvoker}. Their retries are charged
+ * to the bucket without waiting, so that the calls after them wait in their place; the retries themselves are only
+ * spaced by the SDK's backoff.
+ */
+final class RateLimitingInterceptor implements ExecutionInterceptor {
+    private static final int TOO_MANY_REQUESTS = 429;
+    // Set on the first attempt of an execution, so that the non-blocking view can tell retries apart.
+    private static final ExecutionAttribute<Boolean> ATTEMPTED =
+            new ExecutionAttribute<>("IoTAnalyticsRateLimitAttempted");
+
+    private final Map<RateLimitConfiguration.Api, TokenBucket> buckets;
+    private final boolean blocking;
+
+    RateLimitingInterceptor(final RateLimitConfiguration configuration, final LongSupplier nanoClock) {
+        this(new EnumMap<>(RateLimitConfiguration.Api.class), true);
+        for (final RateLimitConfiguration.Api api : RateLimitConfiguration.Api.values()) {
+            final double permitsPerSecond = configuration.getPermitsPerSecond(api);
+            if (permitsPerSecond > 0) {
+                buckets.put(api, new TokenBucket(permitsPerSecond, nanoClock));
+            }
+        }
+    }
+
+    private RateLimitingInterceptor(final Map<RateLimitConfiguration.Api, TokenBucket> buckets,
+                                    final boolean blocking) {
+        this.buckets = buckets;
+        this.blocking = blocking;
+    }
+
+    /**
+     * A view sharing the rate limits of this interceptor that never waits for a permit.
+     */
+    RateLimitingInterceptor nonBlocking() {
+        return new RateLimitingInterceptor(buckets, false);
+    }
+
+    /**
+     * Takes a permit for the operation and returns how many nanoseconds the caller has to wait before using it,
+     * 0 when the operation is not limited.
+     */
+    long reserve(final String operationName) {
+        final RateLimitConfiguration.Api api = RateLimitConfiguration.Api.of(operationName);
+        final TokenBucket bucket = api == null ? null : buckets.get(api);
+        return bucket == null ? 0 : bucket.reserve();
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context,
+                                   final ExecutionAttributes executionAttributes) {
+        final TokenBucket bucket = bucket(executionAttributes);
+        if (bucket == null) {
+            return;
+        }
+        if (!blocking) {
+            // The first attempt's permit was reserved before the call was issued.
+            if (executionAttributes.getAttribute(ATTEMPTED) != null) {
+                bucket.reserve();
+            }
+            executionAttributes.putAttribute(ATTEMPTED, Boolean.TRUE);
+            return;
+        }
+        try {
+            bucket.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message("Interrupted while waiting for a rate limit permit").build();
+        }
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context,
+                                  final ExecutionAttributes executionAttributes) {
+        final TokenBucket bucket = bucket(executionAttributes);
+        if (bucket == null) {
+            return;
+        }
+        if (context.httpResponse().statusCode() == TOO_MANY_REQUESTS) {
+            bucket.onThrottled();
+        } else {
+            bucket.onSuccess();
+        }
+    }
+
+    @VisibleForTesting
+    TokenBucket bucket(final RateLimitConfiguration.Api api) {
+        return buckets.get(api);
+    }
+
+    private TokenBucket bucket(final ExecutionAttributes executionAttributes) {
+        final RateLimitConfiguration.Api api = RateLimitConfiguration.Api.of(
+                executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        return api == null ? null : buckets.get(api);
+    }
+}
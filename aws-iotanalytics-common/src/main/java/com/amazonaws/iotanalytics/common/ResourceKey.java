@@ -0,0 +1,19 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Identifies one resource across the invocations of a handler process: its type, the account and region of the
+ * request, and its name.
+ */
+@lombok.Value(staticConstructor = "create")
+class ResourceKey {
+    String typeName;
+    String accountId;
+    String region;
+    String name;
+
+    static ResourceKey of(final String typeName, final ResourceHandlerRequest<?> request, final String name) {
+        return create(typeName, request.getAwsAccountId(), request.getRegion(), name);
+    }
+}
@@ -0,0 +1,112 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Waits for one resource to converge after a create or delete. The first probe comes after a short wait - the
+ * median latency the call graph was observed to stabilize in, {@link #INITIAL_PROBE} until there is one - and
+ * the following waits grow by {@link #GROWTH} up to {@link #MAX_DELAY}. No probe is made past {@link #DEADLINE}
+ * from the mutation, or from the first wait when the mutation was issued by an earlier invocation.
+ * <p>
+ * Handlers call {@link #start()} when they issue the mutation and {@link #stabilized()} as soon as they see the
+ * resource converged, whether from a probe or from the mutation's own response, which skips probing entirely.
+ * Each stabilization is recorded in a latency histogram per call graph.
+ */
+public final class Stabilizer {
+    static final Duration INITIAL_PROBE = Duration.ofMillis(500);
+    static final Duration MIN_PROBE = Duration.ofMillis(250);
+    static final Duration MAX_DELAY = BackoffDelays.MAX_DELAY;
+    static final Duration DEADLINE = BackoffDelays.TIMEOUT;
+    static final double GROWTH = 1.5;
+
+    private static final String STABILIZED_FORMAT =
+            "Stabilized callGraph=%s latencyMillis=%d p50Millis=%d p90Millis=%d samples=%d";
+    private static final ConcurrentMap<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private final String callGraph;
+    private final HandlerLogger logger;
+    private final LongSupplier nanoClock;
+    // Only set when this invocation issued the mutation, a callback invocation cannot tell how long it has taken.
+    private Long startedNanos;
+
+    @VisibleForTesting
+    Stabilizer(final String callGraph, final HandlerLogger logger, final LongSupplier nanoClock) {
+        this.callGraph = callGraph;
+        this.logger = logger;
+        this.nanoClock = nanoClock;
+    }
+
+    public static Stabilizer forCallGraph(final String callGraph, final HandlerLogger logger) {
+        return new Stabilizer(callGraph, logger, System::nanoTime);
+    }
+
+    public Delay delay() {
+        final Duration initialProbe = initialProbe(callGraph);
+        return BackoffDelays.logged(callGraph, attempt -> nextDelay(initialProbe, attempt), logger);
+    }
+
+    public void start() {
+        startedNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Records how long the resource took to converge, and returns true so a stabilize predicate can return it.
+     */
+    public boolean stabilized() {
+        if (startedNanos != null) {
+            final Duration latency = Duration.ofNanos(nanoClock.getAsLong() - startedNanos);
+            startedNanos = null;
+            final LatencyHistogram histogram = histogram(callGraph);
+            histogram.record(latency);
+            logger.info(STABILIZED_FORMAT, callGraph, latency.toMillis(), histogram.percentile(0.5).toMillis(),
+                    histogram.percentile(0.9).toMillis(), histogram.count());
+        }
+        return true;
+    }
+
+    @VisibleForTesting
+    Duration nextDelay(final Duration initialProbe, final int attempt) {
+        long accruedMillis = 0;
+        long nextMillis = initialProbe.toMillis();
+        for (int i = 1; i <= Math.max(attempt, 1); i++) {
+            nextMillis = Math.min(MAX_DELAY.toMillis(), Math.round(initialProbe.toMillis() * Math.pow(GROWTH, i - 1)));
+            accruedMillis += nextMillis;
+        }
+        if (accruedMillis > DEADLINE.toMillis()) {
+            return Duration.ZERO;
+        }
+        if (startedNanos != null
+                && Duration.ofNanos(nanoClock.getAsLong() - startedNanos).toMillis() + nextMillis > DEADLINE.toMillis()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(nextMillis);
+    }
+
+    static Duration initialProbe(final String callGraph) {
+        final LatencyHistogram histogram = HISTOGRAMS.get(callGraph);
+        final Duration median = histogram == null ? null : histogram.percentile(0.5);
+        if (median == null) {
+            return INITIAL_PROBE;
+        } else if (median.compareTo(MIN_PROBE) < 0) {
+            return MIN_PROBE;
+        } else if (median.compareTo(MAX_DELAY) > 0) {
+            return MAX_DELAY;
+        }
+        return median;
+    }
+
+    static LatencyHistogram histogram(final String callGraph) {
+        return HISTOGRAMS.computeIfAbsent(callGraph, name -> new LatencyHistogram());
+    }
+
+    @VisibleForTesting
+    static void resetHistograms() {
+        HISTOGRAMS.clear();
+    }
+}
@@ -0,0 +1,226 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Creates a graph of resources that reference each other, e.g. hundreds of channel, pipeline, datastore and dataset
+ * topologies for a load test, as fast as the references allow. The resources that depend on nothing are created
+ * first, up to {@code concurrency} at a time. Every other resource is created as soon as the last resource it
+ * depends on has been created and has stabilized. A dependency on a resource outside the graph is taken to exist
+ * already, and a cycle of dependencies is rejected before anything is created.
+ * <p>
+ * The {@link ProvisioningReport} tells how each create went, and which chain of creates, each waiting on the one
+ * before it, the run took: its critical path.
+ *
+ * @param <K> the resources, used as map keys, so with value equality
+ */
+public final class StackProvisioner<K> {
+    private final int concurrency;
+    private final LongSupplier nanoClock;
+    private final Map<K, Node<K>> nodes = new LinkedHashMap<>();
+
+    public StackProvisioner(final int concurrency) {
+        this(concurrency, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    StackProvisioner(final int concurrency, final LongSupplier nanoClock) {
+        this.concurrency = concurrency;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Adds a resource to the graph, to be created by {@code create} once the {@code dependencies} in the graph are.
+     * {@code create} returns the final event of the create, e.g. that of a handler run to completion.
+     */
+    public StackProvisioner<K> add(final K resource, final Set<K> dependencies,
+                                   final Callable<? extends ProgressEvent<?, ?>> create) {
+        if (nodes.putIfAbsent(resource, new Node<>(dependencies, create)) != null) {
+            throw new IllegalArgumentException("Duplicate resource " + resource);
+        }
+        return this;
+    }
+
+    public ProvisioningReport<K> provision() throws InterruptedException {
+        final Map<K, Set<K>> parents = new LinkedHashMap<>();
+        final Map<K, List<K>> children = new HashMap<>();
+        for (final Map.Entry<K, Node<K>> entry : nodes.entrySet()) {
+            final Set<K> inGraph = new LinkedHashSet<>();
+            for (final K dependency : entry.getValue().dependencies) {
+                if (nodes.containsKey(dependency) && inGraph.add(dependency)) {
+                    children.computeIfAbsent(dependency, resource -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+            parents.put(entry.getKey(), inGraph);
+        }
+        checkAcyclic(parents, children);
+
+        final Map<K, ProvisionOutcome> outcomes = new HashMap<>();
+        final Map<K, Integer> waitingOn = new HashMap<>();
+        parents.forEach((resource, dependencies) -> waitingOn.put(resource, dependencies.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final CompletionService<Map.Entry<K, ProvisionOutcome>> completions =
+                new ExecutorCompletionService<>(executor);
+        final long startedNanos = nanoClock.getAsLong();
+        int running = 0;
+        try {
+            for (final K resource : parents.keySet()) {
+                if (waitingOn.get(resource) == 0) {
+                    completions.submit(create(resource, startedNanos));
+                    running++;
+                }
+            }
+            while (running > 0) {
+                final Map.Entry<K, ProvisionOutcome> created = completions.take().get();
+                running--;
+                outcomes.put(created.getKey(), created.getValue());
+                if (created.getValue().getStatus() == ProvisionOutcome.Status.FAILED) {
+                    skipDependents(created.getKey(), children, outcomes, elapsed(startedNanos));
+                    continue;
+                }
+                for (final K child : children.getOrDefault(created.getKey(), Collections.emptyList())) {
+                    if (waitingOn.merge(child, -1, Integer::sum) == 0 && !outcomes.containsKey(child)) {
+                        completions.submit(create(child, startedNanos));
+                        running++;
+                    }
+                }
+            }
+        } catch (final ExecutionException e) {
+            // The creates catch everything themselves.
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        final Duration wallTime = elapsed(startedNanos);
+
+        final Map<K, ProvisionOutcome> ordered = new LinkedHashMap<>();
+        for (final K resource : nodes.keySet()) {
+            ordered.put(resource, outcomes.get(resource));
+        }
+        return new ProvisioningReport<>(wallTime, ordered, criticalPath(parents, ordered));
+    }
+
+    private Callable<Map.Entry<K, ProvisionOutcome>> create(final K resource, final long startedNanos) {
+        final Callable<? extends ProgressEvent<?, ?>> create = nodes.get(resource).create;
+        return () -> {
+            final Duration started = elapsed(startedNanos);
+            ProvisionOutcome outcome;
+            try {
+                final ProgressEvent<?, ?> event = create.call();
+                outcome = event.isSuccess()
+                        ? ProvisionOutcome.created(started, elapsed(startedNanos))
+                        : ProvisionOutcome.failed(started, elapsed(startedNanos), event.getErrorCode());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = ProvisionOutcome.failed(started, elapsed(startedNanos), HandlerErrorCode.InternalFailure);
+            } catch (final Exception e) {
+                // A bug in a handler rather than a service error, the wrapper reports those as internal failures.
+                outcome = ProvisionOutcome.failed(started, elapsed(startedNanos), HandlerErrorCode.InternalFailure);
+            }
+            return new AbstractMap.SimpleImmutableEntry<>(resource, outcome);
+        };
+    }
+
+    private Duration elapsed(final long startedNanos) {
+        return Duration.ofNanos(nanoClock.getAsLong() - startedNanos);
+    }
+
+    private static <K> void skipDependents(final K failed,
+                                           final Map<K, List<K>> children,
+                                           final Map<K, ProvisionOutcome> outcomes,
+                                           final Duration now) {
+        final Deque<K> dependents = new ArrayDeque<>(children.getOrDefault(failed, Collections.emptyList()));
+        while (!dependents.isEmpty()) {
+            final K dependent = dependents.pop();
+            if (!outcomes.containsKey(dependent)) {
+                outcomes.put(dependent, ProvisionOutcome.skipped(now));
+                dependents.addAll(children.getOrDefault(dependent, Collections.emptyList()));
+            }
+        }
+    }
+
+    private static <K> void checkAcyclic(final Map<K, Set<K>> parents,
+                                         final Map<K, List<K>> children) {
+        final Map<K, Integer> waitingOn = new HashMap<>();
+        final Deque<K> ready = new ArrayDeque<>();
+        parents.forEach((resource, dependencies) -> {
+            waitingOn.put(resource, dependencies.size());
+            if (dependencies.isEmpty()) {
+                ready.add(resource);
+            }
+        });
+        while (!ready.isEmpty()) {
+            final K resource = ready.pop();
+            waitingOn.remove(resource);
+            for (final K child : children.getOrDefault(resource, Collections.emptyList())) {
+                if (waitingOn.merge(child, -1, Integer::sum) == 0) {
+                    ready.add(child);
+                }
+            }
+        }
+        if (!waitingOn.isEmpty()) {
+            throw new IllegalArgumentException("Dependency cycle between " + waitingOn.keySet());
+        }
+    }
+
+    /**
+     * Walks back from the resource created last, each time to the dependency that was created last, which is the
+     * one the resource was waiting on.
+     */
+    private static <K> List<K> criticalPath(final Map<K, Set<K>> parents,
+                                            final Map<K, ProvisionOutcome> outcomes) {
+        K last = null;
+        for (final Map.Entry<K, ProvisionOutcome> entry : outcomes.entrySet()) {
+            if (entry.getValue().getStatus() != ProvisionOutcome.Status.SKIPPED && (last == null
+                    || entry.getValue().getFinished().compareTo(outcomes.get(last).getFinished()) > 0)) {
+                last = entry.getKey();
+            }
+        }
+        final LinkedList<K> path = new LinkedList<>();
+        while (last != null) {
+            path.addFirst(last);
+            K previous = null;
+            for (final K parent : parents.get(last)) {
+                if (previous == null
+                        || outcomes.get(parent).getFinished().compareTo(outcomes.get(previous).getFinished()) > 0) {
+                    previous = parent;
+                }
+            }
+            last = previous;
+        }
+        return path;
+    }
+
+    private static final class Node<K> {
+        private final Set<K> dependencies;
+        private final Callable<? extends ProgressEvent<?, ?>> create;
+
+        private Node(final Set<K> dependencies, final Callable<? extends ProgressEvent<?, ?>> create) {
+            this.dependencies = dependencies;
+            this.create = create;
+        }
+    }
+}
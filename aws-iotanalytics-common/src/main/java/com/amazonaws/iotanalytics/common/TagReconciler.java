@@ -0,0 +1,135 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import software.amazon.awssdk.services.iotanalytics.model.Tag;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The tag changes that turn the previous tags of a resource into the desired ones: the keys to untag, and the
+ * tags to add or overwrite. Both are handed out in chunks of at most {@link #MAX_TAGS_PER_CALL}, the most a single
+ * TagResource or UntagResource call accepts.
+ */
+public final class TagReconciler {
+    public static final int MAX_TAGS_PER_CALL = 50;
+
+    private final Map<String, String> tagsToRemove;
+    private final Map<String, String> tagsToAdd;
+
+    private TagReconciler(final Map<String, String> tagsToRemove, final Map<String, String> tagsToAdd) {
+        this.tagsToRemove = Collections.unmodifiableMap(tagsToRemove);
+        this.tagsToAdd = Collections.unmodifiableMap(tagsToAdd);
+    }
+
+    public static TagReconciler reconcile(@Nonnull final Map<String, String> previousTags,
+                                          @Nonnull final Map<String, String> desiredTags) {
+        final Map<String, String> tagsToRemove = new HashMap<>();
+        // Get all the tag keys are contained by previousTags and not contained by desiredTags.
+        // Ex, old {a: 1}, {b: 2}, new {a: 2}
+        // return {b: 2}
+        for (final String key : Sets.difference(previousTags.keySet(), desiredTags.keySet())) {
+            tagsToRemove.put(key, previousTags.get(key));
+        }
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        // Get all tag elements that are contained by desiredTags and not by previousTags.
+        // Ex, old {a: 1}, {b: 2}, new {a: 1}, {b: 3}
+        // return {b: 3}
+        for (final Map.Entry<String, String> entry : Sets.difference(desiredTags.entrySet(), previousTags.entrySet())) {
+            tagsToAdd.put(entry.getKey(), entry.getValue());
+        }
+        return new TagReconciler(tagsToRemove, tagsToAdd);
+    }
+
+    /**
+     * Reconciles against the tags the resource carries right now. Only keys the previous model managed are
+     * removed, and only if they are still there; tags already carrying their desired value are not sent again. An
+     * update that failed part way through therefore resumes with just the changes that did not go through.
+     */
+    public static TagReconciler reconcile(@Nonnull final Map<String, String> previousTags,
+                                          @Nonnull final Map<String, String> desiredTags,
+                                          @Nonnull final Map<String, String> liveTags) {
+        final Map<String, String> tagsToRemove = new HashMap<>();
+        for (final String key : Sets.difference(previousTags.keySet(), desiredTags.keySet())) {
+            if (liveTags.containsKey(key)) {
+                tagsToRemove.put(key, liveTags.get(key));
+            }
+        }
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        for (final Map.Entry<String, String> entry : Sets.difference(desiredTags.entrySet(), liveTags.entrySet())) {
+            tagsToAdd.put(entry.getKey(), entry.getValue());
+        }
+        return new TagReconciler(tagsToRemove, tagsToAdd);
+    }
+
+    /**
+     * Collects the resource model tags of any resource type into a map.
+     */
+    public static <T> Map<String, String> toMap(@Nullable final List<T> tags,
+                                                @Nonnull final Function<T, String> key,
+                                                @Nonnull final Function<T, String> value) {
+        final Map<String, String> tagsMap = new HashMap<>();
+        if (tags != null) {
+            for (final T tag : tags) {
+                tagsMap.put(key.apply(tag), value.apply(tag));
+            }
+        }
+        return tagsMap;
+    }
+
+    public static List<Tag> toSdkTags(@Nonnull final Map<String, String> tagsMap) {
+        final List<Tag> tags = new ArrayList<>(tagsMap.size());
+        for (final Map.Entry<String, String> entry : tagsMap.entrySet()) {
+            tags.add(Tag.builder().key(entry.getKey()).value(entry.getValue()).build());
+        }
+        return tags;
+    }
+
+    public static Map<String, String> fromSdkTags(@Nullable final List<Tag> tags) {
+        return toMap(tags, Tag::key, Tag::value);
+    }
+
+    public Map<String, String> getTagsToRemove() {
+        return tagsToRemove;
+    }
+
+    public Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public List<List<String>> getTagKeysToRemoveInChunks() {
+        return Lists.partition(new ArrayList<>(tagsToRemove.keySet()), MAX_TAGS_PER_CALL);
+    }
+
+    public List<List<Tag>> getTagsToAddInChunks() {
+        return Lists.partition(toSdkTags(tagsToAdd), MAX_TAGS_PER_CALL);
+    }
+
+    /**
+     * The tags to add in chunks, as maps that a callback context can carry from one invocation to the next.
+     */
+    public List<Map<String, String>> getTagMapsToAddInChunks() {
+        final List<Map<String, String>> chunks = new ArrayList<>();
+        for (final List<String> keys : Lists.partition(new ArrayList<>(tagsToAdd.keySet()), MAX_TAGS_PER_CALL)) {
+            final Map<String, String> chunk = new HashMap<>();
+            for (final String key : keys) {
+                chunk.put(key, tagsToAdd.get(key));
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    public boolean isEmpty() {
+        return tagsToRemove.isEmpty() && tagsToAdd.isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.amazonaws.iotanalytics.common;
+
+/**
+ * What a {@link TieredTeardown} needs to know about the resources it deletes: their delete tier, the calls that
+ * delete and describe one, and the names those calls and the resource go by in logs and error codes.
+ * <p>
+ * {@link #delete} and {@link #describe} throw the service's exceptions: a
+ * {@link software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException} once the resource is gone, and
+ * a {@link software.amazon.awssdk.services.iotanalytics.model.ThrottlingException} when the call should be retried.
+ *
+ * @param <R> the resources, used as map keys, so with value equality
+ */
+public interface TeardownOperations<R> {
+    /**
+     * Resources of a lower tier are deleted before those of a higher one.
+     */
+    int getDeleteTier(R resource);
+
+    /**
+     * The CloudFormation type name of the resource, e.g. {@code AWS::IoTAnalytics::Channel}.
+     */
+    String getTypeName(R resource);
+
+    String getName(R resource);
+
+    String getDeleteOperation(R resource);
+
+    String getDescribeOperation(R resource);
+
+    void delete(R resource);
+
+    void describe(R resource);
+}
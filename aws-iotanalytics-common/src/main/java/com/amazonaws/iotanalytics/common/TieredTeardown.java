@@ -0,0 +1,206 @@
+package com.amazonaws.iotanalytics.common;
+
+import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Deletes many resources at once, instead of running a delete handler - and its own stabilization loop - per
+ * resource. Resources are deleted a {@link TeardownOperations#getDeleteTier delete tier} at a time, so that nothing
+ * is deleted while a resource referencing it may still exist. Within a tier, the deletes are all issued in the first
+ * round, and every following round describes all the resources still there, on one polling grid spaced like a
+ * {@link Stabilizer}'s probes. A tier thus takes about as long as its slowest resource.
+ * <p>
+ * A resource already gone counts as deleted. Throttled calls are retried in the next round. Any other service error
+ * fails the resource, as does still being there once the stabilizer gives up.
+ *
+ * @param <R> the resources, as {@link TeardownOperations} knows them
+ */
+public final class TieredTeardown<R> {
+    private enum State { DELETING, GONE, THROTTLED }
+
+    private final TeardownOperations<R> operations;
+    private final String callGraph;
+    private final int concurrency;
+    private final HandlerLogger log;
+    private final LongSupplier nanoClock;
+    private final Consumer<Duration> sleeper;
+
+    /**
+     * @param callGraph   the call graph the polling grid is learnt under, as for a {@link Stabilizer}
+     * @param concurrency how many calls are made at the same time within a round
+     */
+    public TieredTeardown(final TeardownOperations<R> operations, final String callGraph, final int concurrency,
+                          final Logger logger) {
+        this(operations, callGraph, concurrency, logger, System::nanoTime, TieredTeardown::sleep);
+    }
+
+    /**
+     * Reads the time from {@code nanoClock} and waits between rounds with {@code sleeper}, e.g. those of a fake
+     * service with a simulated clock.
+     */
+    public TieredTeardown(final TeardownOperations<R> operations, final String callGraph, final int concurrency,
+                          final Logger logger, final LongSupplier nanoClock, final Consumer<Duration> sleeper) {
+        this.operations = operations;
+        this.callGraph = callGraph;
+        this.concurrency = concurrency;
+        this.log = HandlerLogger.of(logger);
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Deletes the resources tier by tier, and returns how each delete ended, in the order the resources were given.
+     */
+    public Map<R, DeleteOutcome> delete(final Collection<R> resources) throws InterruptedException {
+        final Map<Integer, List<R>> tiers = new TreeMap<>();
+        for (final R resource : new LinkedHashSet<>(resources)) {
+            tiers.computeIfAbsent(operations.getDeleteTier(resource), tier -> new ArrayList<>()).add(resource);
+        }
+        final Map<R, DeleteOutcome> outcomes = new LinkedHashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (final List<R> tier : tiers.values()) {
+                outcomes.putAll(deleteTier(tier, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        final Map<R, DeleteOutcome> ordered = new LinkedHashMap<>();
+        for (final R resource : resources) {
+            ordered.put(resource, outcomes.get(resource));
+        }
+        return ordered;
+    }
+
+    private Map<R, DeleteOutcome> deleteTier(final List<R> tier, final ExecutorService executor)
+            throws InterruptedException {
+        final Stabilizer stabilizer = Stabilizer.forCallGraph(callGraph, log);
+        final Delay delay = stabilizer.delay();
+        stabilizer.start();
+        final long startedNanos = nanoClock.getAsLong();
+        final Map<R, DeleteOutcome> outcomes = new LinkedHashMap<>();
+        final Set<R> toDelete = new LinkedHashSet<>(tier);
+        final Set<R> deleting = new LinkedHashSet<>();
+        int attempt = 0;
+        while (true) {
+            final List<R> round = new ArrayList<>(toDelete);
+            round.addAll(deleting);
+            final List<Callable<State>> calls = new ArrayList<>(round.size());
+            for (final R resource : round) {
+                final boolean issueDelete = toDelete.contains(resource);
+                calls.add(() -> issueDelete ? issueDelete(resource) : probe(resource));
+            }
+            final List<Future<State>> results = executor.invokeAll(calls);
+            final Duration latency = Duration.ofNanos(nanoClock.getAsLong() - startedNanos);
+            for (int i = 0; i < round.size(); i++) {
+                final R resource = round.get(i);
+                final boolean issuedDelete = toDelete.contains(resource);
+                try {
+                    final State state = results.get(i).get();
+                    if (state == State.THROTTLED) {
+                        continue;
+                    }
+                    toDelete.remove(resource);
+                    if (state == State.GONE) {
+                        deleting.remove(resource);
+                        outcomes.put(resource, new DeleteOutcome(latency, null));
+                    } else {
+                        deleting.add(resource);
+                    }
+                } catch (final ExecutionException e) {
+                    toDelete.remove(resource);
+                    deleting.remove(resource);
+                    outcomes.put(resource, new DeleteOutcome(latency, errorCode(resource, issuedDelete, e.getCause())));
+                }
+            }
+            if (toDelete.isEmpty() && deleting.isEmpty()) {
+                break;
+            }
+            final Duration next = delay.nextDelay(++attempt);
+            if (next.isZero()) {
+                for (final R resource : round) {
+                    if (toDelete.contains(resource) || deleting.contains(resource)) {
+                        log.error("%s [%s] still exists after deleting", operations.getTypeName(resource),
+                                operations.getName(resource));
+                        outcomes.put(resource, new DeleteOutcome(latency, HandlerErrorCode.NotStabilized));
+                    }
+                }
+                return outcomes;
+            }
+            sleeper.accept(next);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        stabilizer.stabilized();
+        return outcomes;
+    }
+
+    private State issueDelete(final R resource) {
+        try {
+            operations.delete(resource);
+            log.info("%s [%s] successfully deleted", operations.getTypeName(resource), operations.getName(resource));
+            return State.DELETING;
+        } catch (final ResourceNotFoundException e) {
+            return State.GONE;
+        } catch (final ThrottlingException e) {
+            return State.THROTTLED;
+        }
+    }
+
+    private State probe(final R resource) {
+        try {
+            operations.describe(resource);
+            return State.DELETING;
+        } catch (final ResourceNotFoundException e) {
+            return State.GONE;
+        } catch (final ThrottlingException e) {
+            return State.THROTTLED;
+        }
+    }
+
+    private HandlerErrorCode errorCode(final R resource, final boolean issuedDelete, final Throwable cause) {
+        final String typeName = operations.getTypeName(resource);
+        final String name = operations.getName(resource);
+        final String operation = issuedDelete
+                ? operations.getDeleteOperation(resource)
+                : operations.getDescribeOperation(resource);
+        log.error("%s [%s] fail to be deleted: %s", typeName, name, cause);
+        if (cause instanceof IoTAnalyticsException) {
+            return ExceptionTranslator.translate((IoTAnalyticsException) cause, operation, typeName, name)
+                    .getErrorCode();
+        }
+        // A bug rather than a service error, the wrapper reports those as internal failures.
+        return HandlerErrorCode.InternalFailure;
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
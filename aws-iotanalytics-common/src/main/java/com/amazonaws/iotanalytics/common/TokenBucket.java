@@ -0,0 +1,74 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out permits at a steady rate, with bursts of up to one second's worth. The rate starts at the configured
+ * maximum, is halved every time the service throttles a call and recovers by a tenth of the maximum for every
+ * call that goes through, much like {@link AdaptiveThrottle} does for concurrency.
+ */
+class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double MIN_RATE_FRACTION = 1.0 / 16;
+    private static final double RECOVERY_FRACTION = 1.0 / 10;
+
+    private final double maxRate;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final double permitsPerSecond, final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("permitsPerSecond must be positive, got %s", permitsPerSecond));
+        }
+        this.maxRate = permitsPerSecond;
+        this.capacity = Math.max(1, permitsPerSecond);
+        this.nanoClock = nanoClock;
+        this.rate = permitsPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    void acquire() throws InterruptedException {
+        final long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a permit and returns how long the caller has to wait before using it. The balance may go negative, so
+     * that concurrent callers queue up behind each other instead of all waking up at once.
+     */
+    synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    synchronized void onThrottled() {
+        refill();
+        rate = Math.max(maxRate * MIN_RATE_FRACTION, rate / 2);
+        // Whatever burst is left would only be throttled as well.
+        tokens = Math.min(tokens, 0);
+    }
+
+    synchronized void onSuccess() {
+        refill();
+        rate = Math.min(maxRate, rate + maxRate * RECOVERY_FRACTION);
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / NANOS_PER_SECOND * rate);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,140 @@
+package com.amazonaws.iotanalytics.common;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * HTTP transport settings of the IoT Analytics clients. The defaults are tuned for Lambda: connections are kept
+ * alive and pooled so that warm invocations reuse them, and timeouts are short enough for a stalled attempt to
+ * be retried within the handler's time budget. Each setting can be overridden with an environment variable.
+ */
+@lombok.Value
+@lombok.Builder
+class TransportConfiguration {
+    static final String HTTP_CLIENT = "IOTANALYTICS_HTTP_CLIENT";
+    static final String ASYNC_HTTP_CLIENT = "IOTANALYTICS_ASYNC_HTTP_CLIENT";
+    static final String MAX_CONNECTIONS = "IOTANALYTICS_HTTP_MAX_CONNECTIONS";
+    static final String TCP_KEEP_ALIVE = "IOTANALYTICS_HTTP_TCP_KEEP_ALIVE";
+    static final String CONNECTION_TTL_MILLIS = "IOTANALYTICS_HTTP_CONNECTION_TTL_MILLIS";
+    static final String CONNECTION_MAX_IDLE_MILLIS = "IOTANALYTICS_HTTP_CONNECTION_MAX_IDLE_MILLIS";
+    static final String CONNECTION_TIMEOUT_MILLIS = "IOTANALYTICS_HTTP_CONNECTION_TIMEOUT_MILLIS";
+    static final String SOCKET_TIMEOUT_MILLIS = "IOTANALYTICS_HTTP_SOCKET_TIMEOUT_MILLIS";
+    static final String API_CALL_ATTEMPT_TIMEOUT_MILLIS = "IOTANALYTICS_API_CALL_ATTEMPT_TIMEOUT_MILLIS";
+    static final String API_CALL_TIMEOUT_MILLIS = "IOTANALYTICS_API_CALL_TIMEOUT_MILLIS";
+    static final String NUM_RETRIES = "IOTANALYTICS_NUM_RETRIES";
+
+    private static final String CRT_HTTP_CLIENT_CLASS = "software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient";
+
+    enum HttpClientType { APACHE, URL_CONNECTION }
+
+    enum AsyncHttpClientType { NETTY, CRT }
+
+    @lombok.Builder.Default
+    HttpClientType httpClient = HttpClientType.APACHE;
+    @lombok.Builder.Default
+    AsyncHttpClientType asyncHttpClient = AsyncHttpClientType.NETTY;
+    @lombok.Builder.Default
+    int maxConnections = 50;
+    @lombok.Builder.Default
+    boolean tcpKeepAlive = true;
+    @lombok.Builder.Default
+    Duration connectionTimeToLive = Duration.ofMinutes(5);
+    @lombok.Builder.Default
+    Duration connectionMaxIdleTime = Duration.ofMinutes(1);
+    @lombok.Builder.Default
+    Duration connectionTimeout = Duration.ofSeconds(2);
+    @lombok.Builder.Default
+    Duration socketTimeout = Duration.ofSeconds(20);
+    @lombok.Builder.Default
+    Duration apiCallAttemptTimeout = Duration.ofSeconds(20);
+    @lombok.Builder.Default
+    Duration apiCallTimeout = Duration.ofSeconds(60);
+    @lombok.Builder.Default
+    int numRetries = 3;
+
+    static TransportConfiguration fromEnvironment() {
+        return from(System::getenv);
+    }
+
+    /**
+     * A value that does not parse is ignored with a warning, see {@link EnvironmentSettings}.
+     */
+    static TransportConfiguration from(final Function<String, String> environment) {
+        final TransportConfiguration defaults = builder().build();
+        final TransportConfigurationBuilder builder = builder();
+        ifSet(environment, HTTP_CLIENT, value -> HttpClientType.valueOf(enumName(value)),
+                defaults.getHttpClient(), builder::httpClient);
+        ifSet(environment, ASYNC_HTTP_CLIENT, value -> AsyncHttpClientType.valueOf(enumName(value)),
+                defaults.getAsyncHttpClient(), builder::asyncHttpClient);
+        ifSet(environment, MAX_CONNECTIONS, TransportConfiguration::positive,
+                defaults.getMaxConnections(), builder::maxConnections);
+        ifSet(environment, TCP_KEEP_ALIVE, Boolean::parseBoolean, defaults.isTcpKeepAlive(), builder::tcpKeepAlive);
+        ifSet(environment, CONNECTION_TTL_MILLIS, TransportConfiguration::millis,
+                defaults.getConnectionTimeToLive(), builder::connectionTimeToLive);
+        ifSet(environment, CONNECTION_MAX_IDLE_MILLIS, TransportConfiguration::millis,
+                defaults.getConnectionMaxIdleTime(), builder::connectionMaxIdleTime);
+        ifSet(environment, CONNECTION_TIMEOUT_MILLIS, TransportConfiguration::millis,
+                defaults.getConnectionTimeout(), builder::connectionTimeout);
+        ifSet(environment, SOCKET_TIMEOUT_MILLIS, TransportConfiguration::millis,
+                defaults.getSocketTimeout(), builder::socketTimeout);
+        ifSet(environment, API_CALL_ATTEMPT_TIMEOUT_MILLIS, TransportConfiguration::millis,
+                defaults.getApiCallAttemptTimeout(), builder::apiCallAttemptTimeout);
+        ifSet(environment, API_CALL_TIMEOUT_MILLIS, TransportConfiguration::millis,
+                defaults.getApiCallTimeout(), builder::apiCallTimeout);
+        ifSet(environment, NUM_RETRIES, TransportConfiguration::notNegative, defaults.getNumRetries(), builder::numRetries);
+        return builder.build();
+    }
+
+    /**
+     * The CRT client ships a native library and is not bundled by default, so it is only used when present.
+     */
+    boolean useCrtAsyncHttpClient() {
+        if (asyncHttpClient != AsyncHttpClientType.CRT) {
+            return false;
+        }
+        try {
+            Class.forName(CRT_HTTP_CLIENT_CLASS, false, TransportConfiguration.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static <T> void ifSet(final Function<String, String> environment,
+                                  final String variable,
+                                  final Function<String, T> parser,
+                                  final T defaultValue,
+                                  final Consumer<T> setter) {
+        setter.accept(EnvironmentSettings.parse(variable, environment.apply(variable), parser, defaultValue));
+    }
+
+    private static String enumName(final String value) {
+        return value.toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private static Duration millis(final String value) {
+        final long millis = Long.parseLong(value);
+        if (millis < 0) {
+            throw new IllegalArgumentException("must not be negative");
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    private static int positive(final String value) {
+        final int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException("must be positive");
+        }
+        return parsed;
+    }
+
+    private static int notNegative(final String value) {
+        final int parsed = Integer.parseInt(value);
+        if (parsed < 0) {
+            throw new IllegalArgumentException("must not be negative");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,73 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveThrottleTest {
+
+    @Test
+    public void GIVEN_throttled_calls_WHEN_release_THEN_halve_limit_down_to_one() throws InterruptedException {
+        // GIVEN
+        final AdaptiveThrottle throttle = new AdaptiveThrottle(8);
+
+        // WHEN / THEN
+        throttle.acquire();
+        throttle.release(true);
+        assertThat(throttle.getLimit()).isEqualTo(4);
+
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire();
+            throttle.release(true);
+        }
+        assertThat(throttle.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_successful_calls_WHEN_release_THEN_grow_limit_up_to_max() throws InterruptedException {
+        // GIVEN
+        final AdaptiveThrottle throttle = new AdaptiveThrottle(4);
+        throttle.acquire();
+        throttle.release(true);
+
+        // WHEN
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire();
+            throttle.release(false);
+        }
+
+        // THEN
+        assertThat(throttle.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void GIVEN_limit_reached_WHEN_acquire_THEN_wait_for_release() throws InterruptedException {
+        // GIVEN
+        final AdaptiveThrottle throttle = new AdaptiveThrottle(1);
+        throttle.acquire();
+        final Thread waiter = new Thread(() -> {
+            try {
+                throttle.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // WHEN
+        waiter.start();
+        waiter.join(200L);
+        final boolean blocked = waiter.isAlive();
+        throttle.release(false);
+        waiter.join(5000L);
+
+        // THEN
+        assertThat(blocked).isTrue();
+        assertThat(waiter.isAlive()).isFalse();
+    }
+
+    @Test
+    public void GIVEN_non_positive_limit_WHEN_create_THEN_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveThrottle(0));
+    }
+}
@@ -0,0 +1,122 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArnCacheTest {
+    private static final String TYPE_NAME = "AWS::IoTAnalytics::Channel";
+    private static final String CHANNEL_NAME = "test_channel";
+    private static final String CHANNEL_ARN = "arn:aws:iotanalytics:us-east-1:123456789012:channel/test_channel";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ArnCache cache = new ArnCache(2, TTL, clock::get);
+
+    @Test
+    public void GIVEN_put_WHEN_get_THEN_return_arn() {
+        // GIVEN
+        cache.put(TYPE_NAME, request("123456789012", "us-east-1"), CHANNEL_NAME, CHANNEL_ARN);
+
+        // WHEN / THEN
+        assertThat(cache.get(TYPE_NAME, request("123456789012", "us-east-1"), CHANNEL_NAME)).isEqualTo(CHANNEL_ARN);
+    }
+
+    @Test
+    public void GIVEN_put_WHEN_get_other_account_region_or_type_THEN_return_null() {
+        // GIVEN
+        cache.put(TYPE_NAME, request("123456789012", "us-east-1"), CHANNEL_NAME, CHANNEL_ARN);
+
+        // WHEN / THEN
+        assertThat(cache.get(TYPE_NAME, request("210987654321", "us-east-1"), CHANNEL_NAME)).isNull();
+        assertThat(cache.get(TYPE_NAME, request("123456789012", "eu-west-1"), CHANNEL_NAME)).isNull();
+        assertThat(cache.get("AWS::IoTAnalytics::Datastore", request("123456789012", "us-east-1"), CHANNEL_NAME)).isNull();
+    }
+
+    @Test
+    public void GIVEN_request_without_account_and_region_WHEN_put_and_get_THEN_return_arn() {
+        // GIVEN
+        cache.put(TYPE_NAME, request(null, null), CHANNEL_NAME, CHANNEL_ARN);
+
+        // WHEN / THEN
+        assertThat(cache.get(TYPE_NAME, request(null, null), CHANNEL_NAME)).isEqualTo(CHANNEL_ARN);
+    }
+
+    @Test
+    public void GIVEN_missing_name_or_arn_WHEN_put_THEN_ignore() {
+        // WHEN
+        cache.put(TYPE_NAME, request(null, null), null, CHANNEL_ARN);
+        cache.put(TYPE_NAME, request(null, null), CHANNEL_NAME, null);
+        cache.put(TYPE_NAME, request(null, null), CHANNEL_NAME, "");
+
+        // THEN
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(TYPE_NAME, request(null, null), null)).isNull();
+    }
+
+    @Test
+    public void GIVEN_ttl_passed_WHEN_get_THEN_return_null() {
+        // GIVEN
+        cache.put(TYPE_NAME, request(null, null), CHANNEL_NAME, CHANNEL_ARN);
+
+        // WHEN
+        clock.addAndGet(TTL.toNanos());
+
+        // THEN
+        assertThat(cache.get(TYPE_NAME, request(null, null), CHANNEL_NAME)).isNull();
+    }
+
+    @Test
+    public void GIVEN_more_entries_than_maximum_WHEN_put_THEN_evict_least_recently_used() {
+        // GIVEN
+        cache.put(TYPE_NAME, request(null, null), "channel1", "arn1");
+        cache.put(TYPE_NAME, request(null, null), "channel2", "arn2");
+        cache.get(TYPE_NAME, request(null, null), "channel1");
+
+        // WHEN
+        cache.put(TYPE_NAME, request(null, null), "channel3", "arn3");
+
+        // THEN
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(TYPE_NAME, request(null, null), "channel1")).isEqualTo("arn1");
+        assertThat(cache.get(TYPE_NAME, request(null, null), "channel2")).isNull();
+        assertThat(cache.get(TYPE_NAME, request(null, null), "channel3")).isEqualTo("arn3");
+    }
+
+    @Test
+    public void GIVEN_put_WHEN_invalidate_THEN_return_null() {
+        // GIVEN
+        cache.put(TYPE_NAME, request(null, null), CHANNEL_NAME, CHANNEL_ARN);
+        cache.put(TYPE_NAME, request(null, null), "other_channel", "arn2");
+
+        // WHEN
+        cache.invalidate(TYPE_NAME, request(null, null), CHANNEL_NAME);
+        cache.invalidate(TYPE_NAME, request(null, null), null);
+
+        // THEN
+        assertThat(cache.get(TYPE_NAME, request(null, null), CHANNEL_NAME)).isNull();
+        assertThat(cache.get(TYPE_NAME, request(null, null), "other_channel")).isEqualTo("arn2");
+
+        // WHEN
+        cache.invalidateAll();
+
+        // THEN
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void GIVEN_shared_WHEN_called_twice_THEN_return_same_cache() {
+        assertThat(ArnCache.shared()).isSameAs(ArnCache.shared());
+    }
+
+    private static ResourceHandlerRequest<Object> request(final String accountId, final String region) {
+        return ResourceHandlerRequest.<Object>builder()
+                .awsAccountId(accountId)
+                .region(region)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeChannelResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncInvokerTest {
+    private static final DescribeChannelRequest REQUEST = DescribeChannelRequest.builder().channelName("name").build();
+    private static final DescribeChannelResponse RESPONSE = DescribeChannelResponse.builder().build();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void GIVEN_async_client_WHEN_invoke_THEN_call_through_async_client() {
+        // GIVEN
+        final ProxyClient<IoTAnalyticsAsyncClient> asyncProxyClient = mock(ProxyClient.class);
+        final ProxyClient<IoTAnalyticsClient> proxyClient = mock(ProxyClient.class);
+        when(asyncProxyClient.injectCredentialsAndInvokeV2Async(eq(REQUEST), any(Function.class)))
+                .thenReturn(CompletableFuture.completedFuture(RESPONSE));
+
+        // WHEN
+        final DescribeChannelResponse response = AsyncInvoker.join(AsyncInvoker.invoke(asyncProxyClient, proxyClient,
+                REQUEST, IoTAnalyticsAsyncClient::describeChannel, IoTAnalyticsClient::describeChannel));
+
+        // THEN
+        assertThat(response).isSameAs(RESPONSE);
+        verify(asyncProxyClient).injectCredentialsAndInvokeV2Async(eq(REQUEST), any(Function.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void GIVEN_no_async_client_WHEN_invoke_THEN_call_sync_client_in_background() {
+        // GIVEN
+        final ProxyClient<IoTAnalyticsClient> proxyClient = mock(ProxyClient.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(eq(REQUEST), any(Function.class))).thenReturn(RESPONSE);
+
+        // WHEN
+        final DescribeChannelResponse response = AsyncInvoker.join(AsyncInvoker.invoke(null, proxyClient,
+                REQUEST, IoTAnalyticsAsyncClient::describeChannel, IoTAnalyticsClient::describeChannel));
+
+        // THEN
+        assertThat(response).isSameAs(RESPONSE);
+    }
+
+    @Test
+    public void GIVEN_metrics_scope_WHEN_schedule_THEN_delayed_call_runs_in_scope() {
+        // WHEN
+        final CompletableFuture<String> future = MetricsScope.record("Hydrate", "AWS-IoTAnalytics-Dataset::List",
+                () -> AsyncInvoker.schedule(
+                        () -> CompletableFuture.completedFuture(MetricsScope.current().getCallGraph()),
+                        TimeUnit.MILLISECONDS.toNanos(1)));
+
+        // THEN
+        assertThat(AsyncInvoker.join(future)).isEqualTo("AWS-IoTAnalytics-Dataset::List");
+    }
+
+    @Test
+    public void GIVEN_scheduled_call_throws_WHEN_join_THEN_rethrow() {
+        final CompletableFuture<DescribeChannelResponse> future = AsyncInvoker.schedule(() -> {
+            throw ResourceNotFoundException.builder().build();
+        }, 1);
+
+        assertThrows(ResourceNotFoundException.class, () -> AsyncInvoker.join(future));
+    }
+
+    @Test
+    public void GIVEN_request_WHEN_operationName_THEN_strip_request_suffix() {
+        assertThat(AsyncInvoker.operationName(REQUEST)).isEqualTo("DescribeChannel");
+    }
+
+    @Test
+    public void GIVEN_failed_call_WHEN_join_THEN_rethrow_service_exception() {
+        final CompletableFuture<DescribeChannelResponse> future = new CompletableFuture<>();
+        future.completeExceptionally(ResourceNotFoundException.builder().build());
+
+        assertThrows(ResourceNotFoundException.class, () -> AsyncInvoker.join(future));
+    }
+}
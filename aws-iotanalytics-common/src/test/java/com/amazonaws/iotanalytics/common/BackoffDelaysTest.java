@@ -0,0 +1,78 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BackoffDelaysTest {
+    private static final String CALL_GRAPH_CREATE = "AWS-IoTAnalytics-Dataset::Create";
+    private static final String CALL_GRAPH_READ = "AWS-IoTAnalytics-Dataset::Read";
+    private static final String CALL_GRAPH_CHANNEL_CREATE = "AWS-IoTAnalytics-Channel::Create";
+
+    private final HandlerLogger logger = HandlerLogger.of(new LoggerProxy());
+
+    @Test
+    public void GIVEN_create_call_graph_WHEN_forCallGraph_THEN_return_exponential_delay() {
+        // WHEN
+        final Delay delay = BackoffDelays.forCallGraph(CALL_GRAPH_CREATE, logger);
+
+        // THEN
+        assertThat(delay.nextDelay(1)).isEqualTo(BackoffDelays.MIN_DELAY);
+        assertThat(delay.nextDelay(2)).isEqualTo(BackoffDelays.MIN_DELAY.multipliedBy(2));
+        assertThat(delay.nextDelay(100)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void GIVEN_read_or_unknown_call_graph_WHEN_forCallGraph_THEN_return_jittered_delay() {
+        // WHEN
+        final Delay readDelay = BackoffDelays.forCallGraph(CALL_GRAPH_READ, logger);
+        final Delay unknownDelay = BackoffDelays.forCallGraph("unknown", logger);
+
+        // THEN
+        assertThat(readDelay.nextDelay(4)).isBetween(Duration.ofSeconds(4), BackoffDelays.MAX_DELAY);
+        assertThat(unknownDelay.nextDelay(4)).isBetween(Duration.ofSeconds(4), BackoffDelays.MAX_DELAY);
+    }
+
+    @Test
+    public void GIVEN_call_graphs_of_other_resource_WHEN_forCallGraph_THEN_pick_strategy_by_action() {
+        // WHEN
+        final Delay delay = BackoffDelays.forCallGraph(CALL_GRAPH_CHANNEL_CREATE, logger);
+
+        // THEN
+        assertThat(delay.nextDelay(1)).isEqualTo(BackoffDelays.MIN_DELAY);
+        assertThat(delay.nextDelay(2)).isEqualTo(BackoffDelays.MIN_DELAY.multipliedBy(2));
+    }
+
+    @Test
+    public void GIVEN_delay_WHEN_nextDelay_THEN_emit_backoff_metric() {
+        // GIVEN
+        final InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+        final Delay delay = BackoffDelays.recorded(CALL_GRAPH_CREATE,
+                attempt -> attempt < 3 ? BackoffDelays.MIN_DELAY : Duration.ZERO, logger, metrics);
+
+        // WHEN
+        MetricsScope.record("CreateDataset", CALL_GRAPH_CREATE, () -> delay.nextDelay(1));
+        delay.nextDelay(3);
+
+        // THEN
+        assertThat(metrics.getBackoffMetrics()).containsExactly(
+                BackoffMetric.builder()
+                        .operation("CreateDataset")
+                        .callGraph(CALL_GRAPH_CREATE)
+                        .attempt(1)
+                        .delay(BackoffDelays.MIN_DELAY)
+                        .timedOut(false)
+                        .build(),
+                BackoffMetric.builder()
+                        .operation(BackoffDelays.OPERATION)
+                        .callGraph(CALL_GRAPH_CREATE)
+                        .attempt(3)
+                        .delay(Duration.ZERO)
+                        .timedOut(true)
+                        .build());
+    }
+}
@@ -0,0 +1,45 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+    @Test
+    public void testClientBuilder() {
+        assertThat(ClientBuilder.getClient()).isSameAs(ClientBuilder.getClient());
+    }
+
+    @Test
+    public void testAsyncClientBuilder() {
+        assertThat(ClientBuilder.getAsyncClient()).isSameAs(ClientBuilder.getAsyncClient());
+    }
+
+    @Test
+    public void testHttpClientSelection() {
+        try (SdkHttpClient apache = ClientBuilder.buildHttpClient(TransportConfiguration.builder().build());
+             SdkHttpClient urlConnection = ClientBuilder.buildHttpClient(TransportConfiguration.builder()
+                     .httpClient(TransportConfiguration.HttpClientType.URL_CONNECTION)
+                     .build())) {
+            assertThat(apache).isInstanceOf(ApacheHttpClient.class);
+            assertThat(urlConnection).isInstanceOf(UrlConnectionHttpClient.class);
+        }
+    }
+
+    @Test
+    public void testAsyncHttpClientSelection() {
+        try (SdkAsyncHttpClient netty = ClientBuilder.buildAsyncHttpClient(TransportConfiguration.builder().build());
+             SdkAsyncHttpClient crt = ClientBuilder.buildAsyncHttpClient(TransportConfiguration.builder()
+                     .asyncHttpClient(TransportConfiguration.AsyncHttpClientType.CRT)
+                     .build())) {
+            assertThat(netty).isInstanceOf(NettyNioAsyncHttpClient.class);
+            assertThat(crt).isInstanceOf(AwsCrtAsyncHttpClient.class);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DescribeCacheTest {
+    private static final String TYPE_NAME = "AWS::IoTAnalytics::Dataset";
+    private static final String DATASET_NAME = "test_dataset";
+    private static final String OPERATION = "DescribeDataset";
+    private static final String CALL_GRAPH = "AWS-IoTAnalytics-Dataset::Read";
+    private static final Duration TTL = Duration.ofSeconds(5);
+    private static final ResourceHandlerRequest<Object> REQUEST = ResourceHandlerRequest.<Object>builder()
+            .awsAccountId("123456789012")
+            .region("us-east-1")
+            .build();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger describeCalls = new AtomicInteger();
+    private final InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+    private final DescribeCache cache = new DescribeCache(TTL, metrics, clock::get);
+
+    @Test
+    public void GIVEN_cached_response_WHEN_describe_within_ttl_THEN_return_it_without_calling() {
+        // GIVEN
+        describe(false);
+
+        // WHEN
+        final String response = describe(false);
+
+        // THEN
+        assertThat(response).isEqualTo("response1");
+        assertThat(describeCalls.get()).isEqualTo(1);
+        assertThat(metrics.getCacheMetrics()).extracting(CacheMetric::isHit).containsExactly(false, true);
+        assertThat(metrics.getCacheMetrics().get(0).getOperation()).isEqualTo(OPERATION);
+        assertThat(metrics.getCacheMetrics().get(0).getCallGraph()).isEqualTo(CALL_GRAPH);
+        assertThat(metrics.getCacheMetrics().get(0).getCache()).isEqualTo(DescribeCache.CACHE_NAME);
+    }
+
+    @Test
+    public void GIVEN_ttl_passed_WHEN_describe_THEN_call_again() {
+        // GIVEN
+        describe(false);
+        clock.addAndGet(TTL.toNanos());
+
+        // WHEN
+        final String response = describe(false);
+
+        // THEN
+        assertThat(response).isEqualTo("response2");
+        assertThat(metrics.getCacheMetrics()).extracting(CacheMetric::isHit).containsExactly(false, false);
+    }
+
+    @Test
+    public void GIVEN_bypass_WHEN_describe_THEN_call_and_cache_fresh_response() {
+        // GIVEN
+        describe(false);
+
+        // WHEN
+        final String bypassed = describe(true);
+        final String cached = describe(false);
+
+        // THEN
+        assertThat(bypassed).isEqualTo("response2");
+        assertThat(cached).isEqualTo("response2");
+        assertThat(describeCalls.get()).isEqualTo(2);
+        assertThat(metrics.getCacheMetrics()).extracting(CacheMetric::isHit).containsExactly(false, true);
+    }
+
+    @Test
+    public void GIVEN_invalidated_WHEN_describe_THEN_call_again() {
+        // GIVEN
+        describe(false);
+
+        // WHEN
+        cache.invalidate(TYPE_NAME, REQUEST, DATASET_NAME);
+
+        // THEN
+        assertThat(describe(false)).isEqualTo("response2");
+
+        // WHEN
+        cache.invalidateAll();
+
+        // THEN
+        assertThat(describe(false)).isEqualTo("response3");
+    }
+
+    @Test
+    public void GIVEN_invalidation_during_describe_WHEN_describe_THEN_do_not_cache_response() {
+        // GIVEN
+        final Supplier<String> describeRacingUpdate = () -> {
+            cache.invalidate(TYPE_NAME, REQUEST, DATASET_NAME);
+            return "stale";
+        };
+
+        // WHEN
+        cache.describe(TYPE_NAME, REQUEST, DATASET_NAME, false, describeRacingUpdate);
+
+        // THEN
+        assertThat(describe(false)).isEqualTo("response1");
+    }
+
+    @Test
+    public void GIVEN_describe_throws_WHEN_describe_THEN_do_not_cache() {
+        // GIVEN
+        assertThrows(IllegalStateException.class, () -> cache.describe(TYPE_NAME, REQUEST, DATASET_NAME, false, () -> {
+            throw new IllegalStateException();
+        }));
+
+        // WHEN / THEN
+        assertThat(describe(false)).isEqualTo("response1");
+    }
+
+    @Test
+    public void GIVEN_other_resource_WHEN_describe_THEN_miss() {
+        // GIVEN
+        describe(false);
+
+        // WHEN
+        final String response = cache.describe(TYPE_NAME, REQUEST, "other_dataset", false, () -> "other");
+
+        // THEN
+        assertThat(response).isEqualTo("other");
+    }
+
+    @Test
+    public void GIVEN_zero_ttl_WHEN_describe_THEN_always_call_without_metrics() {
+        // GIVEN
+        final DescribeCache disabled = DescribeCache.from(variable -> null, metrics, clock::get);
+
+        // WHEN
+        disabled.describe(TYPE_NAME, REQUEST, DATASET_NAME, false, () -> "response");
+        disabled.describe(TYPE_NAME, REQUEST, DATASET_NAME, false, () -> "response");
+        disabled.invalidate(TYPE_NAME, REQUEST, DATASET_NAME);
+        disabled.invalidateAll();
+
+        // THEN
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(metrics.getCacheMetrics()).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_environment_WHEN_from_THEN_parse_ttl() {
+        assertThat(DescribeCache.from(variable -> " 2000 ", metrics, clock::get).isEnabled()).isTrue();
+        assertThat(DescribeCache.from(variable -> "0", metrics, clock::get).isEnabled()).isFalse();
+        assertThat(DescribeCache.from(variable -> "-1", metrics, clock::get).isEnabled()).isFalse();
+        assertThat(DescribeCache.from(variable -> "2s", metrics, clock::get).isEnabled()).isFalse();
+        assertThat(DescribeCache.shared()).isSameAs(DescribeCache.shared());
+    }
+
+    @Test
+    public void GIVEN_lookup_outside_metrics_scope_WHEN_describe_THEN_tag_with_cache_name() {
+        // WHEN
+        cache.describe(TYPE_NAME, REQUEST, DATASET_NAME, false, () -> "response");
+        cache.describe(TYPE_NAME, REQUEST, null, false, () -> "response");
+
+        // THEN
+        assertThat(metrics.getCacheMetrics()).hasSize(1);
+        assertThat(metrics.getCacheMetrics().get(0).getOperation()).isEqualTo(DescribeCache.CACHE_NAME);
+        assertThat(metrics.getCacheMetrics().get(0).getCallGraph()).isNull();
+    }
+
+    private String describe(final boolean bypass) {
+        return MetricsScope.record(OPERATION, CALL_GRAPH, () -> cache.describe(TYPE_NAME, REQUEST, DATASET_NAME, bypass,
+                () -> "response" + describeCalls.incrementAndGet()));
+    }
+}
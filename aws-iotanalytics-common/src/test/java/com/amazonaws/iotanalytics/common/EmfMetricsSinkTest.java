@@ -0,0 +1,132 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmfMetricsSinkTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final List<String> lines = new ArrayList<>();
+    private final EmfMetricsSink sink = new EmfMetricsSink("Test/Namespace", lines::add,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    public void GIVEN_metric_with_call_graph_WHEN_emit_THEN_write_emf_record() throws Exception {
+        // WHEN
+        sink.emit(metric("AWS-IoTAnalytics-Pipeline::Update-Add-Tag"));
+
+        // THEN
+        assertThat(lines).hasSize(1);
+        final JsonNode record = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode directive = record.get("_aws");
+        assertThat(directive.get("Timestamp").asLong()).isEqualTo(NOW.toEpochMilli());
+        final JsonNode metrics = directive.get("CloudWatchMetrics").get(0);
+        assertThat(metrics.get("Namespace").asText()).isEqualTo("Test/Namespace");
+        assertThat(metrics.get("Dimensions").toString()).isEqualTo("[[\"Operation\",\"CallGraph\"]]");
+        assertThat(metrics.get("Metrics")).hasSize(5);
+        assertThat(record.get("Operation").asText()).isEqualTo("UpdatePipeline_AddTags");
+        assertThat(record.get("CallGraph").asText()).isEqualTo("AWS-IoTAnalytics-Pipeline::Update-Add-Tag");
+        assertThat(record.get("ServiceOperation").asText()).isEqualTo("TagResource");
+        assertThat(record.get("Latency").asDouble()).isEqualTo(12.5);
+        assertThat(record.get("Attempts").asInt()).isEqualTo(2);
+        assertThat(record.get("Throttles").asInt()).isEqualTo(1);
+        assertThat(record.get("RequestBytes").asLong()).isEqualTo(100);
+        assertThat(record.get("ResponseBytes").asLong()).isEqualTo(0);
+        assertThat(record.get("Failed").asBoolean()).isFalse();
+    }
+
+    @Test
+    public void GIVEN_metric_without_call_graph_WHEN_emit_THEN_use_operation_dimension_only() throws Exception {
+        sink.emit(metric(null));
+
+        final JsonNode record = new ObjectMapper().readTree(lines.get(0));
+        assertThat(record.get("_aws").get("CloudWatchMetrics").get(0).get("Dimensions").toString())
+                .isEqualTo("[[\"Operation\"]]");
+        assertThat(record.has("CallGraph")).isFalse();
+    }
+
+    @Test
+    public void GIVEN_cache_metric_WHEN_emit_THEN_write_hit_and_miss_counts() throws Exception {
+        // WHEN
+        sink.emit(CacheMetric.builder()
+                .cache("Describe")
+                .operation("DescribeDataset")
+                .callGraph("AWS-IoTAnalytics-Dataset::Read")
+                .hit(true)
+                .build());
+        sink.emit(CacheMetric.builder().cache("Describe").operation("DescribeDataset").hit(false).build());
+
+        // THEN
+        assertThat(lines).hasSize(2);
+        final JsonNode hit = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode metrics = hit.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(metrics.get("Dimensions").toString()).isEqualTo("[[\"Operation\",\"CallGraph\"]]");
+        assertThat(metrics.get("Metrics")).extracting(definition -> definition.get("Name").asText())
+                .containsExactly("CacheHits", "CacheMisses");
+        assertThat(hit.get("Cache").asText()).isEqualTo("Describe");
+        assertThat(hit.get("Operation").asText()).isEqualTo("DescribeDataset");
+        assertThat(hit.get("CacheHits").asInt()).isEqualTo(1);
+        assertThat(hit.get("CacheMisses").asInt()).isEqualTo(0);
+        final JsonNode miss = new ObjectMapper().readTree(lines.get(1));
+        assertThat(miss.has("CallGraph")).isFalse();
+        assertThat(miss.get("CacheHits").asInt()).isEqualTo(0);
+        assertThat(miss.get("CacheMisses").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_backoff_metric_WHEN_emit_THEN_write_delay_and_attempt() throws Exception {
+        // WHEN
+        sink.emit(BackoffMetric.builder()
+                .operation("CreateDataset")
+                .callGraph("AWS-IoTAnalytics-Dataset::Create")
+                .attempt(3)
+                .delay(Duration.ofSeconds(4))
+                .timedOut(false)
+                .build());
+
+        // THEN
+        assertThat(lines).hasSize(1);
+        final JsonNode record = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode metrics = record.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(metrics.get("Dimensions").toString()).isEqualTo("[[\"Operation\",\"CallGraph\"]]");
+        assertThat(metrics.get("Metrics")).extracting(definition -> definition.get("Name").asText())
+                .containsExactly("BackoffDelay", "BackoffAttempt");
+        assertThat(record.get("CallGraph").asText()).isEqualTo("AWS-IoTAnalytics-Dataset::Create");
+        assertThat(record.get("BackoffDelay").asLong()).isEqualTo(4000);
+        assertThat(record.get("BackoffAttempt").asInt()).isEqualTo(3);
+        assertThat(record.get("TimedOut").asBoolean()).isFalse();
+    }
+
+    @Test
+    public void GIVEN_environment_WHEN_from_THEN_select_sink() {
+        assertThat(MetricsSink.from(variable -> null)).isSameAs(MetricsSink.NONE);
+        assertThat(MetricsSink.from(variable -> variable.equals(MetricsSink.METRICS) ? " EMF " : null))
+                .isInstanceOf(EmfMetricsSink.class);
+        assertThat(MetricsSink.from(variable -> variable.equals(MetricsSink.METRICS) ? " None " : null))
+                .isSameAs(MetricsSink.NONE);
+        assertThat(MetricsSink.from(variable -> variable.equals(MetricsSink.METRICS) ? "cloudwatch" : null))
+                .isSameAs(MetricsSink.NONE);
+    }
+
+    private static CallMetric metric(final String callGraph) {
+        return CallMetric.builder()
+                .operation("UpdatePipeline_AddTags")
+                .callGraph(callGraph)
+                .serviceOperation("TagResource")
+                .latency(Duration.ofMicros(12_500))
+                .attempts(2)
+                .throttles(1)
+                .requestBytes(100)
+                .build();
+    }
+}
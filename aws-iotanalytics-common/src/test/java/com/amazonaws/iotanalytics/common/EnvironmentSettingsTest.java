@@ -0,0 +1,43 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnvironmentSettingsTest {
+    private static final String VARIABLE = "IOTANALYTICS_TEST";
+
+    private final List<String> warnings = new ArrayList<>();
+
+    @Test
+    public void GIVEN_value_not_set_WHEN_parse_THEN_return_default_silently() {
+        // WHEN / THEN
+        assertThat(EnvironmentSettings.parse(VARIABLE, null, Integer::parseInt, 7, warnings::add)).isEqualTo(7);
+        assertThat(EnvironmentSettings.parse(VARIABLE, " ", Integer::parseInt, 7, warnings::add)).isEqualTo(7);
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_valid_value_WHEN_parse_THEN_return_trimmed_value_parsed() {
+        // WHEN
+        final int value = EnvironmentSettings.parse(VARIABLE, " 3 ", Integer::parseInt, 7, warnings::add);
+
+        // THEN
+        assertThat(value).isEqualTo(3);
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_invalid_value_WHEN_parse_THEN_warn_and_return_default() {
+        // WHEN
+        final int value = EnvironmentSettings.parse(VARIABLE, "three", Integer::parseInt, 7, warnings::add);
+
+        // THEN
+        assertThat(value).isEqualTo(7);
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0)).startsWith("WARN IOTANALYTICS_TEST=three is invalid, using the default 7");
+    }
+}
@@ -0,0 +1,67 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExceptionTranslatorTest {
+    private static final String OPERATION = "operation";
+    private static final String TYPE_NAME = "AWS::IoTAnalytics::Test";
+    private static final String NAME = "name";
+
+    @Test
+    public void GIVEN_service_exceptions_WHEN_translate_THEN_return_matching_handler_exceptions() {
+        assertThat(ExceptionTranslator.translate(ResourceAlreadyExistsException.builder().build(), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        assertThat(ExceptionTranslator.translate(ThrottlingException.builder().build(), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnThrottlingException.class);
+        assertThat(ExceptionTranslator.translate(ServiceUnavailableException.builder().build(), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnGeneralServiceException.class);
+        assertThat(ExceptionTranslator.translate(LimitExceededException.builder().build(), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnServiceLimitExceededException.class);
+    }
+
+    @Test
+    public void GIVEN_not_found_WHEN_translate_THEN_name_the_resource_when_known() {
+        assertThat(ExceptionTranslator.translate(ResourceNotFoundException.builder().build(), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnNotFoundException.class)
+                .hasMessageContaining(TYPE_NAME)
+                .hasMessageContaining(NAME);
+        assertThat(ExceptionTranslator.translate(ResourceNotFoundException.builder().build(), OPERATION, TYPE_NAME, null))
+                .isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void GIVEN_error_code_WHEN_translate_THEN_tell_access_denied_from_internal_error() {
+        assertThat(ExceptionTranslator.translate(exception("AccessDeniedException"), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnAccessDeniedException.class);
+        assertThat(ExceptionTranslator.translate(exception("some_code"), OPERATION, TYPE_NAME, NAME))
+                .isInstanceOf(CfnServiceInternalErrorException.class);
+    }
+
+    private static IoTAnalyticsException exception(final String errorCode) {
+        return (IoTAnalyticsException) IoTAnalyticsException
+                .builder()
+                .awsErrorDetails(AwsErrorDetails
+                        .builder()
+                        .errorCode(errorCode)
+                        .errorMessage("test_message")
+                        .serviceName("test_service")
+                        .build())
+                .build();
+    }
+}
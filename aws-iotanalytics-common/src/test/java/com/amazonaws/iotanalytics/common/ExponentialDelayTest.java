@@ -0,0 +1,70 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExponentialDelayTest {
+
+    @Test
+    public void GIVEN_no_jitter_WHEN_nextDelay_THEN_double_up_to_max() {
+        // GIVEN
+        final ExponentialDelay delay = new ExponentialDelay(
+                Duration.ofMillis(500), Duration.ofSeconds(3), Duration.ofMinutes(5), false);
+
+        // WHEN / THEN
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofMillis(500));
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMillis(500));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(3));
+        assertThat(delay.nextDelay(40)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void GIVEN_timeout_exceeded_WHEN_nextDelay_THEN_return_zero() {
+        // GIVEN
+        final ExponentialDelay delay = new ExponentialDelay(
+                Duration.ofSeconds(1), Duration.ofSeconds(4), Duration.ofSeconds(10), false);
+
+        // WHEN / THEN
+        // 1 + 2 + 4 = 7s accrued, a fourth wait would take it to 11s.
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void GIVEN_jitter_WHEN_nextDelay_THEN_return_upper_half_of_nominal_delay() {
+        // GIVEN
+        final ExponentialDelay delay = new ExponentialDelay(
+                Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(5), true);
+
+        // WHEN / THEN
+        for (int i = 0; i < 100; i++) {
+            assertThat(delay.nextDelay(3)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+        }
+    }
+
+    @Test
+    public void GIVEN_jitter_and_one_milli_WHEN_nextDelay_THEN_never_return_zero() {
+        // GIVEN
+        final ExponentialDelay delay = new ExponentialDelay(
+                Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMinutes(5), true);
+
+        // WHEN / THEN
+        for (int i = 0; i < 100; i++) {
+            assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMillis(1));
+        }
+    }
+
+    @Test
+    public void GIVEN_invalid_bounds_WHEN_create_THEN_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialDelay(
+                Duration.ZERO, Duration.ofSeconds(1), Duration.ofMinutes(5), false));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialDelay(
+                Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMinutes(5), false));
+    }
+}
@@ -0,0 +1,124 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLoggerTest {
+    private final List<String> lines = new ArrayList<>();
+    private final Logger logger = lines::add;
+
+    @Test
+    public void GIVEN_info_level_WHEN_log_THEN_prefix_all_but_info() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.INFO, 10);
+
+        // WHEN
+        log.info("%s [%s] successfully created", "AWS::IoTAnalytics::Channel", "channel");
+        log.warn("%s throttled", "AWS::IoTAnalytics::Channel");
+        log.error("%s [%s] fail to be created: %s", "AWS::IoTAnalytics::Channel", "channel", "boom");
+
+        // THEN
+        assertThat(lines).containsExactly(
+                "AWS::IoTAnalytics::Channel [channel] successfully created",
+                "WARN AWS::IoTAnalytics::Channel throttled",
+                "ERROR AWS::IoTAnalytics::Channel [channel] fail to be created: boom");
+    }
+
+    @Test
+    public void GIVEN_error_level_WHEN_log_below_level_THEN_drop_without_formatting() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.ERROR, 10);
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("formatted a dropped message");
+            }
+        };
+
+        // WHEN
+        log.debug("%s", argument);
+        log.info("%s", argument);
+        log.warn("%s", argument);
+
+        // THEN
+        assertThat(lines).isEmpty();
+        assertThat(log.isEnabled(HandlerLogger.Level.WARN)).isFalse();
+        assertThat(log.isEnabled(HandlerLogger.Level.ERROR)).isTrue();
+    }
+
+    @Test
+    public void GIVEN_debug_level_WHEN_debug_THEN_log() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.DEBUG, 10);
+
+        // WHEN
+        log.debug("attempt %d", 3);
+
+        // THEN
+        assertThat(lines).containsExactly("DEBUG attempt 3");
+    }
+
+    @Test
+    public void GIVEN_repeated_message_WHEN_sampled_THEN_log_first_and_every_nth() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.INFO, 10);
+
+        // WHEN
+        for (int i = 0; i < 25; i++) {
+            log.sampled(HandlerLogger.Level.ERROR, "%s [%s] still exists after deleting", "type", "name");
+        }
+
+        // THEN
+        assertThat(lines).containsExactly(
+                "ERROR type [name] still exists after deleting",
+                "ERROR type [name] still exists after deleting (occurrence 11)",
+                "ERROR type [name] still exists after deleting (occurrence 21)");
+    }
+
+    @Test
+    public void GIVEN_different_formats_WHEN_sampled_THEN_count_separately() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.INFO, 10);
+
+        // WHEN
+        log.sampled(HandlerLogger.Level.INFO, "first %s", "a");
+        log.sampled(HandlerLogger.Level.INFO, "second %s", "b");
+
+        // THEN
+        assertThat(lines).containsExactly("first a", "second b");
+    }
+
+    @Test
+    public void GIVEN_disabled_level_WHEN_sampled_THEN_not_counted() {
+        // GIVEN
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.WARN, 2);
+
+        // WHEN
+        log.sampled(HandlerLogger.Level.INFO, "retry %d", 1);
+
+        // THEN
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_environment_value_WHEN_level_THEN_parse() {
+        assertThat(HandlerLogger.level(null)).isEqualTo(HandlerLogger.Level.INFO);
+        assertThat(HandlerLogger.level("")).isEqualTo(HandlerLogger.Level.INFO);
+        assertThat(HandlerLogger.level(" debug ")).isEqualTo(HandlerLogger.Level.DEBUG);
+        assertThat(HandlerLogger.level("ERROR")).isEqualTo(HandlerLogger.Level.ERROR);
+        assertThat(HandlerLogger.level("verbose")).isEqualTo(HandlerLogger.Level.INFO);
+    }
+
+    @Test
+    public void GIVEN_environment_value_WHEN_sampleEvery_THEN_parse() {
+        assertThat(HandlerLogger.sampleEvery(null)).isEqualTo(HandlerLogger.DEFAULT_SAMPLE_EVERY);
+        assertThat(HandlerLogger.sampleEvery("5")).isEqualTo(5);
+        assertThat(HandlerLogger.sampleEvery("0")).isEqualTo(1);
+        assertThat(HandlerLogger.sampleEvery("ten")).isEqualTo(HandlerLogger.DEFAULT_SAMPLE_EVERY);
+    }
+}
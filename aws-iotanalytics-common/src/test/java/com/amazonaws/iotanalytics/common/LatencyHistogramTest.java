@@ -0,0 +1,42 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void GIVEN_empty_histogram_WHEN_percentile_THEN_return_null() {
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.percentile(0.5)).isNull();
+    }
+
+    @Test
+    public void GIVEN_latencies_WHEN_percentile_THEN_return_bucket_upper_bound() {
+        // GIVEN
+        histogram.record(Duration.ofMillis(50));
+        histogram.record(Duration.ofMillis(150));
+        histogram.record(Duration.ofMillis(300));
+        histogram.record(Duration.ofSeconds(3));
+
+        // WHEN / THEN
+        assertThat(histogram.count()).isEqualTo(4);
+        assertThat(histogram.percentile(0.25)).isEqualTo(Duration.ofMillis(100));
+        assertThat(histogram.percentile(0.5)).isEqualTo(Duration.ofMillis(200));
+        assertThat(histogram.percentile(0.75)).isEqualTo(Duration.ofMillis(400));
+        assertThat(histogram.percentile(1)).isEqualTo(Duration.ofMillis(3200));
+    }
+
+    @Test
+    public void GIVEN_latency_above_largest_bound_WHEN_percentile_THEN_return_largest_bound() {
+        // GIVEN
+        histogram.record(Duration.ofHours(1));
+
+        // WHEN / THEN
+        assertThat(histogram.percentile(0.5)).isEqualTo(LatencyHistogram.upperBound(LatencyHistogram.BUCKETS - 1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsInterceptorTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+    private final MetricsInterceptor interceptor = new MetricsInterceptor(sink, clock::get);
+
+    @Test
+    public void GIVEN_throttled_then_successful_attempt_WHEN_call_completes_THEN_emit_one_metric_in_scope() {
+        // GIVEN
+        final ExecutionAttributes attributes = attributes("DescribeDataset");
+        MetricsScope.record("DescribeDataset_ListTags", "AWS-IoTAnalytics-Dataset::Read", () -> {
+            interceptor.beforeExecution(mock(Context.BeforeExecution.class), attributes);
+            return null;
+        });
+
+        // WHEN
+        interceptor.beforeTransmission(request(40), attributes);
+        interceptor.afterTransmission(response(429, 60), attributes);
+        interceptor.beforeTransmission(request(40), attributes);
+        interceptor.afterTransmission(response(200, 500), attributes);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(25));
+        interceptor.afterExecution(mock(Context.AfterExecution.class), attributes);
+
+        // THEN
+        assertThat(sink.getMetrics()).containsExactly(CallMetric.builder()
+                .operation("DescribeDataset_ListTags")
+                .callGraph("AWS-IoTAnalytics-Dataset::Read")
+                .serviceOperation("DescribeDataset")
+                .latency(Duration.ofMillis(25))
+                .attempts(2)
+                .throttles(1)
+                .requestBytes(80)
+                .responseBytes(560)
+                .failed(false)
+                .build());
+    }
+
+    @Test
+    public void GIVEN_call_outside_scope_WHEN_call_fails_THEN_tag_with_service_operation() {
+        // GIVEN
+        final ExecutionAttributes attributes = attributes("ListDatasets");
+        interceptor.beforeExecution(mock(Context.BeforeExecution.class), attributes);
+
+        // WHEN
+        interceptor.onExecutionFailure(mock(Context.FailedExecution.class), attributes);
+
+        // THEN
+        assertThat(sink.getMetrics()).hasSize(1);
+        final CallMetric metric = sink.getMetrics().get(0);
+        assertThat(metric.getOperation()).isEqualTo("ListDatasets");
+        assertThat(metric.getCallGraph()).isNull();
+        assertThat(metric.getAttempts()).isZero();
+        assertThat(metric.isFailed()).isTrue();
+    }
+
+    private static ExecutionAttributes attributes(final String operationName) {
+        return new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+    }
+
+    private static Context.BeforeTransmission request(final long contentLength) {
+        final Context.BeforeTransmission context = mock(Context.BeforeTransmission.class);
+        when(context.httpRequest()).thenReturn(SdkHttpFullRequest.builder()
+                .method(SdkHttpMethod.GET)
+                .protocol("https")
+                .host("iotanalytics.us-west-2.amazonaws.com")
+                .putHeader("Content-Length", Long.toString(contentLength))
+                .build());
+        return context;
+    }
+
+    private static Context.AfterTransmission response(final int statusCode, final long contentLength) {
+        final Context.AfterTransmission context = mock(Context.AfterTransmission.class);
+        when(context.httpResponse()).thenReturn(SdkHttpResponse.builder()
+                .statusCode(statusCode)
+                .putHeader("Content-Length", Long.toString(contentLength))
+                .build());
+        return context;
+    }
+}
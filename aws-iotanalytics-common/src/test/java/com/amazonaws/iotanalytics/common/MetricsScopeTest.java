@@ -0,0 +1,39 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsScopeTest {
+
+    @Test
+    public void GIVEN_nested_scopes_WHEN_record_THEN_restore_outer_scope() {
+        MetricsScope.record("Outer", "AWS-IoTAnalytics-Channel::Update", () -> {
+            MetricsScope.record("Inner", null, () -> {
+                assertThat(MetricsScope.current().getOperation()).isEqualTo("Inner");
+                assertThat(MetricsScope.current().getCallGraph()).isNull();
+                return null;
+            });
+            assertThat(MetricsScope.current().getOperation()).isEqualTo("Outer");
+            return null;
+        });
+
+        assertThat(MetricsScope.current()).isNull();
+    }
+
+    @Test
+    public void GIVEN_scope_WHEN_propagate_to_another_thread_THEN_call_runs_in_scope() {
+        // GIVEN
+        final Supplier<String> call = MetricsScope.record("Hydrate", null,
+                () -> MetricsScope.propagate(() -> MetricsScope.current().getOperation()));
+
+        // WHEN
+        final String operation = CompletableFuture.supplyAsync(call).join();
+
+        // THEN
+        assertThat(operation).isEqualTo("Hydrate");
+    }
+}
@@ -0,0 +1,118 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelDiffTest {
+    private static final Map<String, Object> RETENTION_PERIOD = ImmutableMap.of("NumberOfDays", 10, "Unlimited", false);
+    private static final Map<String, Object> TAG1 = ImmutableMap.of("Key", "key1", "Value", "value1");
+    private static final Map<String, Object> TAG2 = ImmutableMap.of("Key", "key2", "Value", "value2");
+
+    @Test
+    public void GIVEN_same_models_WHEN_between_THEN_return_empty() {
+        // GIVEN
+        final Map<String, Object> model = ImmutableMap.of("ChannelName", "channel", "RetentionPeriod", RETENTION_PERIOD);
+
+        // WHEN
+        final ModelDiff diff = ModelDiff.between(model, new HashMap<>(model));
+
+        // THEN
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_nested_property_changed_WHEN_between_THEN_return_its_path() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("ChannelName", "channel", "RetentionPeriod", RETENTION_PERIOD);
+        final Map<String, Object> desired = ImmutableMap.of("ChannelName", "channel",
+                "RetentionPeriod", ImmutableMap.of("NumberOfDays", 20, "Unlimited", false));
+
+        // WHEN
+        final ModelDiff diff = ModelDiff.between(previous, desired);
+
+        // THEN
+        assertThat(diff.getChangedProperties()).containsExactly("RetentionPeriod.NumberOfDays");
+    }
+
+    @Test
+    public void GIVEN_property_added_or_removed_WHEN_between_THEN_return_it() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("ChannelName", "channel", "RetentionPeriod", RETENTION_PERIOD);
+        final Map<String, Object> desired = ImmutableMap.of("ChannelName", "channel",
+                "ChannelStorage", ImmutableMap.of("ServiceManagedS3", Collections.emptyMap()));
+
+        // WHEN
+        final ModelDiff diff = ModelDiff.between(previous, desired);
+
+        // THEN
+        assertThat(diff.getChangedProperties()).containsExactly("ChannelStorage", "RetentionPeriod");
+    }
+
+    @Test
+    public void GIVEN_null_and_absent_property_WHEN_between_THEN_return_empty() {
+        // GIVEN
+        final Map<String, Object> previous = new HashMap<>();
+        previous.put("ChannelName", "channel");
+        previous.put("RetentionPeriod", null);
+        final Map<String, Object> desired = ImmutableMap.of("ChannelName", "channel");
+
+        // WHEN / THEN
+        assertThat(ModelDiff.between(previous, desired).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_reordered_array_WHEN_between_THEN_return_empty() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("Tags", Arrays.asList(TAG1, TAG2));
+        final Map<String, Object> desired = ImmutableMap.of("Tags", Arrays.asList(TAG2, TAG1));
+
+        // WHEN / THEN
+        assertThat(ModelDiff.between(previous, desired).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_array_with_different_duplicates_WHEN_between_THEN_return_array() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("Tags", Arrays.asList(TAG1, TAG1, TAG2));
+        final Map<String, Object> desired = ImmutableMap.of("Tags", Arrays.asList(TAG1, TAG2, TAG2));
+
+        // WHEN / THEN
+        assertThat(ModelDiff.between(previous, desired).getChangedProperties()).containsExactly("Tags");
+    }
+
+    @Test
+    public void GIVEN_only_ignored_properties_changed_WHEN_ignoring_THEN_return_empty() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("Id", "arn1", "Tags", Collections.singletonList(TAG1),
+                "RetentionPeriod", RETENTION_PERIOD);
+        final Map<String, Object> desired = ImmutableMap.of("Tags", Collections.singletonList(TAG2),
+                "RetentionPeriod", RETENTION_PERIOD);
+
+        // WHEN
+        final ModelDiff diff = ModelDiff.between(previous, desired);
+
+        // THEN
+        assertThat(diff.getChangedProperties()).containsExactly("Id", "Tags");
+        assertThat(diff.ignoring("Id", "Tags").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_other_properties_changed_WHEN_ignoring_THEN_keep_them() {
+        // GIVEN
+        final Map<String, Object> previous = ImmutableMap.of("Tags", Collections.singletonList(TAG1),
+                "RetentionPeriod", RETENTION_PERIOD);
+        final Map<String, Object> desired = ImmutableMap.of("Tags", Collections.singletonList(TAG2),
+                "RetentionPeriod", ImmutableMap.of("Unlimited", true));
+
+        // WHEN / THEN
+        assertThat(ModelDiff.between(previous, desired).ignoring("Tags").getChangedProperties())
+                .containsExactly("RetentionPeriod.NumberOfDays", "RetentionPeriod.Unlimited");
+    }
+}
@@ -0,0 +1,118 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageStreamTest {
+    private static final String OPERATION = "ListDatasets";
+    private static final Duration PAGE_LATENCY = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger fetched = new AtomicInteger();
+
+    @Test
+    public void GIVEN_pages_within_budget_WHEN_collect_THEN_read_every_page() {
+        // WHEN
+        final PageStream.Result<String> result = PageStream.collect(OPERATION, pages(3), page -> page.items,
+                page -> page.nextToken, Duration.ofSeconds(10), clock::get);
+
+        // THEN
+        assertThat(result.getItems()).containsExactly("item0", "item1", "item2");
+        assertThat(result.getNextToken()).isNull();
+        assertThat(result.getPages()).isEqualTo(3);
+        assertThat(fetched.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void GIVEN_budget_for_some_pages_WHEN_collect_THEN_stop_before_next_page_and_return_its_token() {
+        // WHEN
+        final PageStream.Result<String> result = PageStream.collect(OPERATION, pages(10), page -> page.items,
+                page -> page.nextToken, Duration.ofMillis(350), clock::get);
+
+        // THEN
+        // A fourth page would end at 400ms, past the budget.
+        assertThat(result.getItems()).containsExactly("item0", "item1", "item2");
+        assertThat(result.getNextToken()).isEqualTo("token3");
+        assertThat(fetched.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void GIVEN_budget_spent_by_first_page_WHEN_collect_THEN_still_read_it() {
+        // WHEN
+        final PageStream.Result<String> result = PageStream.collect(OPERATION, pages(10), page -> page.items,
+                page -> page.nextToken, Duration.ZERO, clock::get);
+
+        // THEN
+        assertThat(result.getItems()).containsExactly("item0");
+        assertThat(result.getNextToken()).isEqualTo("token1");
+        assertThat(result.getPages()).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_no_pages_WHEN_collect_THEN_return_empty() {
+        // WHEN
+        final PageStream.Result<String> result = PageStream.collect(OPERATION, Collections::emptyIterator,
+                page -> Collections.singletonList("item"), page -> "token", Duration.ofSeconds(1), clock::get);
+
+        // THEN
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getNextToken()).isNull();
+        assertThat(result.getPages()).isZero();
+    }
+
+    @Test
+    public void GIVEN_default_clock_WHEN_collect_THEN_read_every_page() {
+        // WHEN
+        final PageStream.Result<String> result = PageStream.collect(OPERATION,
+                Arrays.asList(new Page(Collections.singletonList("item0"), "token1"),
+                        new Page(Collections.singletonList("item1"), null)),
+                page -> page.items, page -> page.nextToken, Duration.ofSeconds(10));
+
+        // THEN
+        assertThat(result.getItems()).containsExactly("item0", "item1");
+    }
+
+    /**
+     * Pages like an SDK paginator's: each one is fetched when the iterator moves to it, and takes
+     * {@link #PAGE_LATENCY} on the clock.
+     */
+    private Iterable<Page> pages(final int count) {
+        return () -> new Iterator<Page>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Page next() {
+                clock.addAndGet(PAGE_LATENCY.toNanos());
+                fetched.incrementAndGet();
+                final int index = next++;
+                return new Page(new ArrayList<>(Collections.singletonList("item" + index)),
+                        next < count ? "token" + next : null);
+            }
+        };
+    }
+
+    private static class Page {
+        private final List<String> items;
+        private final String nextToken;
+
+        Page(final List<String> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitConfigurationTest {
+
+    @Test
+    public void GIVEN_empty_environment_WHEN_from_THEN_return_defaults() {
+        final RateLimitConfiguration configuration = RateLimitConfiguration.from(variable -> null);
+
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.DESCRIBE)).isEqualTo(20);
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.TAG)).isEqualTo(10);
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.CREATE)).isEqualTo(5);
+    }
+
+    @Test
+    public void GIVEN_environment_overrides_WHEN_from_THEN_apply_overrides() {
+        // GIVEN
+        final Map<String, String> environment = new HashMap<>();
+        environment.put("IOTANALYTICS_RATE_LIMIT_DESCRIBE", " 2.5 ");
+        environment.put("IOTANALYTICS_RATE_LIMIT_LIST_TAGS", "0");
+
+        // WHEN
+        final RateLimitConfiguration configuration = RateLimitConfiguration.from(environment::get);
+
+        // THEN
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.DESCRIBE)).isEqualTo(2.5);
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.LIST_TAGS)).isZero();
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.LIST)).isEqualTo(20);
+    }
+
+    @Test
+    public void GIVEN_invalid_rates_WHEN_from_THEN_keep_defaults() {
+        // GIVEN
+        final Map<String, String> environment = new HashMap<>();
+        environment.put("IOTANALYTICS_RATE_LIMIT_CREATE", "-1");
+        environment.put("IOTANALYTICS_RATE_LIMIT_DELETE", "fast");
+        environment.put("IOTANALYTICS_RATE_LIMIT_UPDATE", "NaN");
+
+        // WHEN
+        final RateLimitConfiguration configuration = RateLimitConfiguration.from(environment::get);
+
+        // THEN
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.CREATE)).isEqualTo(5);
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.DELETE)).isEqualTo(5);
+        assertThat(configuration.getPermitsPerSecond(RateLimitConfiguration.Api.UPDATE)).isEqualTo(5);
+    }
+
+    @Test
+    public void GIVEN_operation_names_WHEN_api_of_THEN_return_family() {
+        assertThat(RateLimitConfiguration.Api.of("DescribeDataset")).isEqualTo(RateLimitConfiguration.Api.DESCRIBE);
+        assertThat(RateLimitConfiguration.Api.of("ListPipelines")).isEqualTo(RateLimitConfiguration.Api.LIST);
+        assertThat(RateLimitConfiguration.Api.of("ListTagsForResource")).isEqualTo(RateLimitConfiguration.Api.LIST_TAGS);
+        assertThat(RateLimitConfiguration.Api.of("TagResource")).isEqualTo(RateLimitConfiguration.Api.TAG);
+        assertThat(RateLimitConfiguration.Api.of("UntagResource")).isEqualTo(RateLimitConfiguration.Api.TAG);
+        assertThat(RateLimitConfiguration.Api.of("CreateChannel")).isEqualTo(RateLimitConfiguration.Api.CREATE);
+        assertThat(RateLimitConfiguration.Api.of("UpdateDatastore")).isEqualTo(RateLimitConfiguration.Api.UPDATE);
+        assertThat(RateLimitConfiguration.Api.of("DeletePipeline")).isEqualTo(RateLimitConfiguration.Api.DELETE);
+        assertThat(RateLimitConfiguration.Api.of("BatchPutMessage")).isNull();
+        assertThat(RateLimitConfiguration.Api.of(null)).isNull();
+    }
+}
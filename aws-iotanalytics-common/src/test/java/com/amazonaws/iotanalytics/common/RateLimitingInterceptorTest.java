@@ -0,0 +1,111 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimitingInterceptorTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final RateLimitingInterceptor interceptor = new RateLimitingInterceptor(
+            RateLimitConfiguration.from(variable -> variable.equals("IOTANALYTICS_RATE_LIMIT_LIST") ? "0" : null),
+            clock::get);
+
+    @Test
+    public void GIVEN_throttled_response_WHEN_afterTransmission_THEN_slow_down_only_that_api() {
+        // WHEN
+        interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes("DescribeDataset"));
+        interceptor.afterTransmission(response(429), attributes("DescribeDataset"));
+
+        // THEN
+        assertThat(interceptor.bucket(RateLimitConfiguration.Api.DESCRIBE).getRate()).isEqualTo(10);
+        assertThat(interceptor.bucket(RateLimitConfiguration.Api.CREATE).getRate()).isEqualTo(5);
+    }
+
+    @Test
+    public void GIVEN_successful_response_WHEN_afterTransmission_THEN_recover_rate() {
+        // GIVEN
+        interceptor.afterTransmission(response(429), attributes("TagResource"));
+
+        // WHEN
+        interceptor.afterTransmission(response(200), attributes("UntagResource"));
+
+        // THEN
+        assertThat(interceptor.bucket(RateLimitConfiguration.Api.TAG).getRate()).isEqualTo(6);
+    }
+
+    @Test
+    public void GIVEN_unlimited_api_WHEN_intercept_THEN_pass_through() {
+        interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes("ListDatasets"));
+        interceptor.afterTransmission(response(429), attributes("ListDatasets"));
+        interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes("BatchPutMessage"));
+        interceptor.afterTransmission(response(429), attributes("BatchPutMessage"));
+
+        assertThat(interceptor.bucket(RateLimitConfiguration.Api.LIST)).isNull();
+    }
+
+    @Test
+    public void GIVEN_non_blocking_view_WHEN_intercept_THEN_share_rates_without_taking_permits() {
+        // GIVEN
+        final RateLimitingInterceptor nonBlocking = interceptor.nonBlocking();
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            nonBlocking.beforeTransmission(mock(Context.BeforeTransmission.class), attributes("CreateDataset"));
+        }
+        nonBlocking.afterTransmission(response(429), attributes("DeleteDataset"));
+
+        // THEN
+        // the burst of 5 creates is untouched
+        assertThat(interceptor.reserve("CreateDataset")).isZero();
+        assertThat(interceptor.bucket(RateLimitConfiguration.Api.DELETE).getRate()).isEqualTo(2.5);
+    }
+
+    @Test
+    public void GIVEN_non_blocking_view_WHEN_retry_THEN_charge_bucket_without_waiting() {
+        // GIVEN
+        final RateLimitingInterceptor nonBlocking = interceptor.nonBlocking();
+        final ExecutionAttributes attributes = attributes("CreateDataset");
+
+        // WHEN
+        // the first attempt's permit was reserved by the caller, the four retries take the rest of the burst
+        for (int i = 0; i < 5; i++) {
+            nonBlocking.beforeTransmission(mock(Context.BeforeTransmission.class), attributes);
+        }
+
+        // THEN
+        assertThat(interceptor.reserve("CreateDataset")).isZero();
+        assertThat(interceptor.reserve("CreateDataset")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void GIVEN_burst_used_up_WHEN_reserve_THEN_return_wait() {
+        // GIVEN
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.reserve("CreateDataset")).isZero();
+        }
+
+        // WHEN / THEN
+        assertThat(interceptor.reserve("CreateDataset")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(interceptor.reserve("ListDatasets")).isZero();
+        assertThat(interceptor.reserve("BatchPutMessage")).isZero();
+    }
+
+    private static ExecutionAttributes attributes(final String operationName) {
+        return new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+    }
+
+    private static Context.AfterTransmission response(final int statusCode) {
+        final Context.AfterTransmission context = mock(Context.AfterTransmission.class);
+        when(context.httpResponse()).thenReturn(SdkHttpResponse.builder().statusCode(statusCode).build());
+        return context;
+    }
+}
@@ -0,0 +1,129 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizerTest {
+    private static final String CALL_GRAPH_DELETE = "AWS-IoTAnalytics-Dataset::Delete";
+    private static final String CALL_GRAPH_CHANNEL_DELETE = "AWS-IoTAnalytics-Channel::Delete";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final HandlerLogger logger = HandlerLogger.of(new LoggerProxy());
+
+    @AfterEach
+    public void tearDown() {
+        Stabilizer.resetHistograms();
+    }
+
+    @Test
+    public void GIVEN_no_history_WHEN_delay_THEN_probe_early_then_grow_geometrically() {
+        // GIVEN
+        final Delay delay = stabilizer(CALL_GRAPH_DELETE).delay();
+
+        // WHEN / THEN
+        assertThat(delay.nextDelay(1)).isEqualTo(Stabilizer.INITIAL_PROBE);
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofMillis(750));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofMillis(1125));
+        assertThat(delay.nextDelay(20)).isEqualTo(Stabilizer.MAX_DELAY);
+    }
+
+    @Test
+    public void GIVEN_waits_past_deadline_WHEN_delay_THEN_stop() {
+        // GIVEN
+        final Delay delay = stabilizer(CALL_GRAPH_DELETE).delay();
+
+        // WHEN / THEN
+        assertThat(delay.nextDelay(1000)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void GIVEN_mutation_started_long_ago_WHEN_delay_THEN_stop_at_hard_deadline() {
+        // GIVEN
+        final Stabilizer stabilizer = stabilizer(CALL_GRAPH_DELETE);
+        stabilizer.start();
+        final Delay delay = stabilizer.delay();
+
+        // WHEN
+        clock.addAndGet(Stabilizer.DEADLINE.toNanos());
+
+        // THEN
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void GIVEN_stabilized_WHEN_next_delay_THEN_start_from_median_latency() {
+        // GIVEN
+        for (int i = 0; i < 3; i++) {
+            final Stabilizer stabilizer = stabilizer(CALL_GRAPH_DELETE);
+            stabilizer.start();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(700));
+            assertThat(stabilizer.stabilized()).isTrue();
+        }
+
+        // WHEN
+        final Delay delay = stabilizer(CALL_GRAPH_DELETE).delay();
+
+        // THEN
+        assertThat(Stabilizer.histogram(CALL_GRAPH_DELETE).count()).isEqualTo(3);
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMillis(800));
+    }
+
+    @Test
+    public void GIVEN_median_out_of_bounds_WHEN_initialProbe_THEN_clamp() {
+        // GIVEN
+        Stabilizer.histogram(CALL_GRAPH_DELETE).record(Duration.ofMillis(10));
+        Stabilizer.histogram(CALL_GRAPH_CHANNEL_DELETE).record(Duration.ofMinutes(1));
+
+        // WHEN / THEN
+        assertThat(Stabilizer.initialProbe(CALL_GRAPH_DELETE)).isEqualTo(Stabilizer.MIN_PROBE);
+        assertThat(Stabilizer.initialProbe(CALL_GRAPH_CHANNEL_DELETE)).isEqualTo(Stabilizer.MAX_DELAY);
+    }
+
+    @Test
+    public void GIVEN_not_started_WHEN_stabilized_THEN_record_nothing() {
+        // GIVEN
+        final Stabilizer stabilizer = stabilizer(CALL_GRAPH_DELETE);
+
+        // WHEN
+        final boolean stabilized = stabilizer.stabilized();
+
+        // THEN
+        assertThat(stabilized).isTrue();
+        assertThat(Stabilizer.histogram(CALL_GRAPH_DELETE).count()).isZero();
+    }
+
+    @Test
+    public void GIVEN_stabilized_twice_WHEN_stabilized_THEN_record_once() {
+        // GIVEN
+        final Stabilizer stabilizer = stabilizer(CALL_GRAPH_DELETE);
+        stabilizer.start();
+
+        // WHEN
+        stabilizer.stabilized();
+        stabilizer.stabilized();
+
+        // THEN
+        assertThat(Stabilizer.histogram(CALL_GRAPH_DELETE).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_latency_of_one_resource_WHEN_initialProbe_of_another_THEN_not_shared() {
+        // GIVEN
+        Stabilizer.histogram(CALL_GRAPH_DELETE).record(Duration.ofSeconds(3));
+
+        // WHEN / THEN
+        assertThat(Stabilizer.initialProbe(CALL_GRAPH_CHANNEL_DELETE)).isEqualTo(Stabilizer.INITIAL_PROBE);
+    }
+
+    private Stabilizer stabilizer(final String callGraph) {
+        return new Stabilizer(callGraph, logger, clock::get);
+    }
+}
@@ -0,0 +1,150 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StackProvisionerTest {
+    private static final String CHANNEL = "channel";
+    private static final String DATASTORE = "datastore";
+    private static final String PIPELINE = "pipeline";
+    private static final String DATASET = "dataset";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void GIVEN_topology_WHEN_provision_THEN_create_dependencies_first_and_report_critical_path() throws InterruptedException {
+        // GIVEN
+        final StackProvisioner<String> provisioner = new StackProvisioner<>(1, clock::get)
+                .add(PIPELINE, dependencies(CHANNEL, DATASTORE), created(5))
+                .add(DATASET, dependencies(DATASTORE), created(5))
+                .add(CHANNEL, Collections.emptySet(), created(10))
+                .add(DATASTORE, Collections.emptySet(), created(30));
+
+        // WHEN
+        final ProvisioningReport<String> report = provisioner.provision();
+
+        // THEN
+        assertThat(report.getOutcomes().keySet()).containsExactly(PIPELINE, DATASET, CHANNEL, DATASTORE);
+        assertThat(report.getOutcomes().values()).allMatch(ProvisionOutcome::isSuccess);
+        final ProvisionOutcome pipeline = report.getOutcomes().get(PIPELINE);
+        assertThat(pipeline.getStarted()).isGreaterThanOrEqualTo(report.getOutcomes().get(CHANNEL).getFinished());
+        assertThat(pipeline.getStarted()).isGreaterThanOrEqualTo(report.getOutcomes().get(DATASTORE).getFinished());
+        assertThat(report.getOutcomes().get(DATASET).getLatency()).isEqualTo(Duration.ofMillis(5));
+        assertThat(report.getCriticalPath()).containsExactly(DATASTORE, DATASET);
+        assertThat(report.getWallTime()).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void GIVEN_failed_create_WHEN_provision_THEN_skip_its_dependents() throws InterruptedException {
+        // GIVEN
+        final StackProvisioner<String> provisioner = new StackProvisioner<>(4, clock::get)
+                .add(CHANNEL, Collections.emptySet(), created(10))
+                .add(DATASTORE, Collections.emptySet(),
+                        () -> ProgressEvent.failed(null, null, HandlerErrorCode.ServiceLimitExceeded, "limit"))
+                .add(PIPELINE, dependencies(CHANNEL, DATASTORE), created(5))
+                .add(DATASET, dependencies(DATASTORE), created(5));
+
+        // WHEN
+        final ProvisioningReport<String> report = provisioner.provision();
+
+        // THEN
+        assertThat(report.getOutcomes().get(CHANNEL).isSuccess()).isTrue();
+        assertThat(report.getOutcomes().get(DATASTORE).getStatus()).isEqualTo(ProvisionOutcome.Status.FAILED);
+        assertThat(report.getOutcomes().get(DATASTORE).getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(report.getOutcomes().get(PIPELINE).getStatus()).isEqualTo(ProvisionOutcome.Status.SKIPPED);
+        assertThat(report.getOutcomes().get(PIPELINE).isSuccess()).isFalse();
+        assertThat(report.getOutcomes().get(DATASET).getStatus()).isEqualTo(ProvisionOutcome.Status.SKIPPED);
+        assertThat(report.getOutcomes().get(DATASET).getErrorCode()).isNull();
+        assertThat(report.getFailureCount()).isEqualTo(1);
+        assertThat(report.getSkippedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void GIVEN_dependency_outside_graph_WHEN_provision_THEN_create_right_away() throws InterruptedException {
+        // GIVEN
+        final StackProvisioner<String> provisioner = new StackProvisioner<>(2, clock::get)
+                .add(PIPELINE, dependencies(CHANNEL), created(5));
+
+        // WHEN
+        final ProvisioningReport<String> report = provisioner.provision();
+
+        // THEN
+        assertThat(report.getOutcomes().get(PIPELINE).isSuccess()).isTrue();
+        assertThat(report.getCriticalPath()).containsExactly(PIPELINE);
+    }
+
+    @Test
+    public void GIVEN_create_throws_WHEN_provision_THEN_fail_as_internal_failure() throws InterruptedException {
+        // GIVEN
+        final StackProvisioner<String> provisioner = new StackProvisioner<>(2, clock::get)
+                .add(CHANNEL, Collections.emptySet(), () -> {
+                    throw new IllegalStateException("bug");
+                });
+
+        // WHEN
+        final ProvisioningReport<String> report = provisioner.provision();
+
+        // THEN
+        assertThat(report.getOutcomes().get(CHANNEL).getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(report.getCriticalPath()).containsExactly(CHANNEL);
+    }
+
+    @Test
+    public void GIVEN_cycle_or_duplicate_WHEN_provision_THEN_throw() {
+        // GIVEN
+        final String other = "other";
+        final StackProvisioner<String> provisioner = new StackProvisioner<>(2, clock::get)
+                .add(DATASET, dependencies(other), created(5))
+                .add(other, dependencies(DATASET), created(5));
+
+        // WHEN / THEN
+        assertThrows(IllegalArgumentException.class, provisioner::provision);
+        assertThrows(IllegalArgumentException.class,
+                () -> provisioner.add(DATASET, Collections.emptySet(), created(5)));
+    }
+
+    @Test
+    public void GIVEN_report_WHEN_print_THEN_list_critical_path() throws InterruptedException {
+        // GIVEN
+        final ProvisioningReport<String> report = new StackProvisioner<String>(2, clock::get)
+                .add(CHANNEL, Collections.emptySet(), created(10))
+                .add(PIPELINE, dependencies(CHANNEL), created(5))
+                .provision();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // WHEN
+        report.print(new PrintStream(output, true), resource -> resource);
+
+        // THEN
+        assertThat(output.toString()).startsWith("PROVISION: 2 resources").contains("critical path of 2 resources")
+                .contains("pipeline");
+    }
+
+    private static Set<String> dependencies(final String... resources) {
+        return new HashSet<>(Arrays.asList(resources));
+    }
+
+    /**
+     * A create that takes {@code millis} on the clock.
+     */
+    private Callable<ProgressEvent<Object, Object>> created(final long millis) {
+        return () -> {
+            clock.addAndGet(Duration.ofMillis(millis).toNanos());
+            return ProgressEvent.defaultSuccessHandler(null);
+        };
+    }
+}
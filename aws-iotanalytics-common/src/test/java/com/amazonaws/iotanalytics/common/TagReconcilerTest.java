@@ -0,0 +1,116 @@
+package com.amazonaws.iotanalytics.common;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.model.Tag;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagReconcilerTest {
+
+    @Test
+    public void GIVEN_changed_tags_WHEN_reconcile_THEN_remove_dropped_keys_and_add_new_values() {
+        // GIVEN
+        final Map<String, String> previous = ImmutableMap.of("a", "1", "b", "2", "c", "3");
+        final Map<String, String> desired = ImmutableMap.of("a", "1", "b", "4", "d", "5");
+
+        // WHEN
+        final TagReconciler tags = TagReconciler.reconcile(previous, desired);
+
+        // THEN
+        assertThat(tags.isEmpty()).isFalse();
+        assertThat(tags.getTagsToRemove()).isEqualTo(ImmutableMap.of("c", "3"));
+        assertThat(tags.getTagsToAdd()).isEqualTo(ImmutableMap.of("b", "4", "d", "5"));
+    }
+
+    @Test
+    public void GIVEN_same_tags_WHEN_reconcile_THEN_nothing_to_do() {
+        final Map<String, String> tags = ImmutableMap.of("a", "1");
+
+        assertThat(TagReconciler.reconcile(tags, tags).isEmpty()).isTrue();
+        assertThat(TagReconciler.reconcile(Collections.emptyMap(), Collections.emptyMap()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_tag_list_WHEN_toMap_THEN_key_by_tag_key() {
+        final List<Tag> tags = Arrays.asList(
+                Tag.builder().key("a").value("1").build(),
+                Tag.builder().key("b").value("2").build());
+
+        assertThat(TagReconciler.toMap(tags, Tag::key, Tag::value)).isEqualTo(ImmutableMap.of("a", "1", "b", "2"));
+        assertThat(TagReconciler.toMap(null, Tag::key, Tag::value)).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_tag_map_WHEN_toSdkTags_THEN_return_one_tag_per_entry() {
+        assertThat(TagReconciler.toSdkTags(ImmutableMap.of("a", "1", "b", "2"))).containsExactlyInAnyOrder(
+                Tag.builder().key("a").value("1").build(),
+                Tag.builder().key("b").value("2").build());
+    }
+
+    @Test
+    public void GIVEN_live_tags_WHEN_reconcile_THEN_only_send_what_is_not_in_place() {
+        // GIVEN
+        final Map<String, String> previous = ImmutableMap.of("a", "1", "b", "2", "c", "3");
+        final Map<String, String> desired = ImmutableMap.of("b", "4", "d", "5");
+        // "a" is already gone and "d" already applied, e.g. by an attempt that failed part way through; "aws:x"
+        // was never managed by the model.
+        final Map<String, String> live = ImmutableMap.of("b", "2", "c", "3", "d", "5", "aws:x", "y");
+
+        // WHEN
+        final TagReconciler tags = TagReconciler.reconcile(previous, desired, live);
+
+        // THEN
+        assertThat(tags.getTagsToRemove()).isEqualTo(ImmutableMap.of("c", "3"));
+        assertThat(tags.getTagsToAdd()).isEqualTo(ImmutableMap.of("b", "4"));
+    }
+
+    @Test
+    public void GIVEN_live_tags_already_desired_WHEN_reconcile_THEN_nothing_to_do() {
+        final Map<String, String> desired = ImmutableMap.of("b", "4");
+
+        assertThat(TagReconciler.reconcile(ImmutableMap.of("a", "1"), desired, desired).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_more_tags_than_one_call_takes_WHEN_get_chunks_THEN_split_by_service_limit() {
+        // GIVEN
+        final Map<String, String> previous = new HashMap<>();
+        final Map<String, String> desired = new HashMap<>();
+        for (int i = 0; i < 120; i++) {
+            previous.put("old" + i, "1");
+            desired.put("new" + i, "1");
+        }
+
+        // WHEN
+        final TagReconciler tags = TagReconciler.reconcile(previous, desired);
+
+        // THEN
+        assertThat(tags.getTagKeysToRemoveInChunks()).extracting(List::size).containsExactly(50, 50, 20);
+        assertThat(tags.getTagsToAddInChunks()).extracting(List::size).containsExactly(50, 50, 20);
+        assertThat(tags.getTagsToAddInChunks().stream().mapToInt(List::size).sum()).isEqualTo(120);
+        assertThat(tags.getTagMapsToAddInChunks()).extracting(Map::size).containsExactly(50, 50, 20);
+    }
+
+    @Test
+    public void GIVEN_no_changes_WHEN_get_chunks_THEN_return_none() {
+        final TagReconciler tags = TagReconciler.reconcile(Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(tags.getTagKeysToRemoveInChunks()).isEmpty();
+        assertThat(tags.getTagsToAddInChunks()).isEmpty();
+        assertThat(tags.getTagMapsToAddInChunks()).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_sdk_tags_WHEN_fromSdkTags_THEN_key_by_tag_key() {
+        assertThat(TagReconciler.fromSdkTags(Collections.singletonList(Tag.builder().key("a").value("1").build())))
+                .isEqualTo(ImmutableMap.of("a", "1"));
+        assertThat(TagReconciler.fromSdkTags(null)).isEmpty();
+    }
+}
@@ -0,0 +1,180 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TieredTeardownTest {
+    private static final String CALL_GRAPH = "AWS-IoTAnalytics-Test::Teardown";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Duration> waits = new ArrayList<>();
+    private final FakeOperations operations = new FakeOperations();
+
+    @AfterEach
+    public void tearDown() {
+        Stabilizer.resetHistograms();
+    }
+
+    @Test
+    public void GIVEN_tiers_WHEN_delete_THEN_delete_lower_tier_first_and_poll_on_one_grid() throws InterruptedException {
+        // GIVEN
+        final List<String> resources = Arrays.asList("channel_0", "pipeline_0", "channel_1", "pipeline_1");
+        operations.existing.addAll(resources);
+
+        // WHEN
+        final Map<String, DeleteOutcome> outcomes = teardown().delete(resources);
+
+        // THEN
+        assertThat(outcomes.keySet()).containsExactlyElementsOf(resources);
+        assertThat(outcomes.values()).allMatch(DeleteOutcome::isSuccess);
+        assertThat(operations.existing).isEmpty();
+        assertThat(operations.calls.subList(0, 2)).containsOnly("delete pipeline_0", "delete pipeline_1");
+        assertThat(operations.calls.subList(2, 4)).containsOnly("describe pipeline_0", "describe pipeline_1");
+        assertThat(operations.calls.subList(4, 6)).containsOnly("delete channel_0", "delete channel_1");
+        // One wait per tier, shared by all of its resources.
+        assertThat(waits).hasSize(2);
+    }
+
+    @Test
+    public void GIVEN_resource_already_gone_WHEN_delete_THEN_succeed() throws InterruptedException {
+        // WHEN
+        final Map<String, DeleteOutcome> outcomes = teardown().delete(Collections.singletonList("channel_gone"));
+
+        // THEN
+        assertThat(outcomes.get("channel_gone").isSuccess()).isTrue();
+        assertThat(operations.calls).containsExactly("delete channel_gone");
+        assertThat(waits).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_throttling_WHEN_delete_THEN_retry_in_next_round() throws InterruptedException {
+        // GIVEN
+        operations.existing.add("channel_0");
+        operations.throttleOnce.add("channel_0");
+
+        // WHEN
+        final Map<String, DeleteOutcome> outcomes = teardown().delete(Collections.singletonList("channel_0"));
+
+        // THEN
+        assertThat(outcomes.get("channel_0").isSuccess()).isTrue();
+        assertThat(operations.calls).containsExactly("delete channel_0", "delete channel_0", "describe channel_0");
+    }
+
+    @Test
+    public void GIVEN_resource_never_gone_WHEN_delete_THEN_fail_not_stabilized() throws InterruptedException {
+        // GIVEN
+        operations.existing.add("channel_stuck");
+        operations.stuck.add("channel_stuck");
+
+        // WHEN
+        final Map<String, DeleteOutcome> outcomes = teardown().delete(Collections.singletonList("channel_stuck"));
+
+        // THEN
+        assertThat(outcomes.get("channel_stuck").getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(outcomes.get("channel_stuck").getLatency()).isGreaterThanOrEqualTo(Duration.ofMinutes(4));
+    }
+
+    @Test
+    public void GIVEN_service_error_WHEN_delete_THEN_fail_resource_and_delete_the_others() throws InterruptedException {
+        // GIVEN
+        final List<String> resources = Arrays.asList("channel_0", "channel_1", "pipeline_0");
+        operations.existing.addAll(resources);
+        operations.failing.add("channel_0");
+
+        // WHEN
+        final Map<String, DeleteOutcome> outcomes = teardown().delete(resources);
+
+        // THEN
+        assertThat(outcomes.get("channel_0").getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(outcomes.get("channel_1").isSuccess()).isTrue();
+        assertThat(outcomes.get("pipeline_0").isSuccess()).isTrue();
+    }
+
+    private TieredTeardown<String> teardown() {
+        return new TieredTeardown<>(operations, CALL_GRAPH, 4, new LoggerProxy(), clock::get, duration -> {
+            waits.add(duration);
+            clock.addAndGet(duration.toNanos());
+        });
+    }
+
+    /**
+     * Resources named after their type: pipelines are in tier 0, channels in tier 1. A deleted resource is gone by
+     * the time it is first described, unless it is stuck.
+     */
+    private static class FakeOperations implements TeardownOperations<String> {
+        private final Set<String> existing = ConcurrentHashMap.newKeySet();
+        private final Set<String> deleting = ConcurrentHashMap.newKeySet();
+        private final Set<String> throttleOnce = ConcurrentHashMap.newKeySet();
+        private final Set<String> stuck = ConcurrentHashMap.newKeySet();
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public int getDeleteTier(final String resource) {
+            return resource.startsWith("pipeline") ? 0 : 1;
+        }
+
+        @Override
+        public String getTypeName(final String resource) {
+            return "AWS::IoTAnalytics::Test";
+        }
+
+        @Override
+        public String getName(final String resource) {
+            return resource;
+        }
+
+        @Override
+        public String getDeleteOperation(final String resource) {
+            return "DeleteTest";
+        }
+
+        @Override
+        public String getDescribeOperation(final String resource) {
+            return "DescribeTest";
+        }
+
+        @Override
+        public void delete(final String resource) {
+            calls.add("delete " + resource);
+            if (throttleOnce.remove(resource)) {
+                throw ThrottlingException.builder().message("Rate exceeded").build();
+            }
+            if (failing.contains(resource)) {
+                throw InvalidRequestException.builder().message("in use").build();
+            }
+            if (!existing.contains(resource)) {
+                throw ResourceNotFoundException.builder().build();
+            }
+            deleting.add(resource);
+        }
+
+        @Override
+        public void describe(final String resource) {
+            calls.add("describe " + resource);
+            if (deleting.contains(resource) && !stuck.contains(resource)) {
+                existing.remove(resource);
+            }
+            if (!existing.contains(resource)) {
+                throw ResourceNotFoundException.builder().build();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenBucketTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void GIVEN_full_bucket_WHEN_reserve_THEN_allow_one_second_burst_then_pace() {
+        // GIVEN
+        final TokenBucket bucket = new TokenBucket(10, clock::get);
+
+        // WHEN / THEN
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.reserve()).isZero();
+        }
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void GIVEN_time_passes_WHEN_reserve_THEN_refill_up_to_capacity() {
+        // GIVEN
+        final TokenBucket bucket = new TokenBucket(2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        // WHEN
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // THEN
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isPositive();
+    }
+
+    @Test
+    public void GIVEN_throttled_calls_WHEN_onThrottled_THEN_halve_rate_and_drop_burst() {
+        // GIVEN
+        final TokenBucket bucket = new TokenBucket(16, clock::get);
+
+        // WHEN
+        bucket.onThrottled();
+
+        // THEN
+        assertThat(bucket.getRate()).isEqualTo(8);
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(125));
+
+        for (int i = 0; i < 10; i++) {
+            bucket.onThrottled();
+        }
+        assertThat(bucket.getRate()).isEqualTo(1);
+    }
+
+    @Test
+    public void GIVEN_slowed_down_bucket_WHEN_onSuccess_THEN_recover_up_to_max() {
+        // GIVEN
+        final TokenBucket bucket = new TokenBucket(10, clock::get);
+        bucket.onThrottled();
+
+        // WHEN / THEN
+        bucket.onSuccess();
+        assertThat(bucket.getRate()).isEqualTo(6);
+        for (int i = 0; i < 10; i++) {
+            bucket.onSuccess();
+        }
+        assertThat(bucket.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    public void GIVEN_non_positive_rate_WHEN_construct_THEN_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, clock::get));
+    }
+}
@@ -0,0 +1,82 @@
+package com.amazonaws.iotanalytics.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransportConfigurationTest {
+
+    @Test
+    public void GIVEN_empty_environment_WHEN_from_THEN_return_defaults() {
+        // WHEN
+        final TransportConfiguration transport = TransportConfiguration.from(variable -> null);
+
+        // THEN
+        assertThat(transport).isEqualTo(TransportConfiguration.builder().build());
+        assertThat(transport.getHttpClient()).isEqualTo(TransportConfiguration.HttpClientType.APACHE);
+        assertThat(transport.getAsyncHttpClient()).isEqualTo(TransportConfiguration.AsyncHttpClientType.NETTY);
+        assertThat(transport.isTcpKeepAlive()).isTrue();
+        assertThat(transport.getNumRetries()).isEqualTo(3);
+        assertThat(transport.getApiCallTimeout()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(transport.useCrtAsyncHttpClient()).isFalse();
+    }
+
+    @Test
+    public void GIVEN_environment_overrides_WHEN_from_THEN_apply_overrides() {
+        // GIVEN
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(TransportConfiguration.HTTP_CLIENT, "url-connection");
+        environment.put(TransportConfiguration.ASYNC_HTTP_CLIENT, "crt");
+        environment.put(TransportConfiguration.MAX_CONNECTIONS, "10");
+        environment.put(TransportConfiguration.TCP_KEEP_ALIVE, "false");
+        environment.put(TransportConfiguration.CONNECTION_TTL_MILLIS, "1000");
+        environment.put(TransportConfiguration.CONNECTION_MAX_IDLE_MILLIS, "2000");
+        environment.put(TransportConfiguration.CONNECTION_TIMEOUT_MILLIS, "3000");
+        environment.put(TransportConfiguration.SOCKET_TIMEOUT_MILLIS, "4000");
+        environment.put(TransportConfiguration.API_CALL_ATTEMPT_TIMEOUT_MILLIS, " 5000 ");
+        environment.put(TransportConfiguration.API_CALL_TIMEOUT_MILLIS, "6000");
+        environment.put(TransportConfiguration.NUM_RETRIES, "1");
+        environment.put("UNRELATED", "");
+
+        // WHEN
+        final TransportConfiguration transport = TransportConfiguration.from(environment::get);
+
+        // THEN
+        assertThat(transport.getHttpClient()).isEqualTo(TransportConfiguration.HttpClientType.URL_CONNECTION);
+        assertThat(transport.getAsyncHttpClient()).isEqualTo(TransportConfiguration.AsyncHttpClientType.CRT);
+        assertThat(transport.getMaxConnections()).isEqualTo(10);
+        assertThat(transport.isTcpKeepAlive()).isFalse();
+        assertThat(transport.getConnectionTimeToLive()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(transport.getConnectionMaxIdleTime()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(transport.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(transport.getSocketTimeout()).isEqualTo(Duration.ofSeconds(4));
+        assertThat(transport.getApiCallAttemptTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(transport.getApiCallTimeout()).isEqualTo(Duration.ofSeconds(6));
+        assertThat(transport.getNumRetries()).isEqualTo(1);
+        // aws-crt-client is a provided dependency, so it is on the test classpath.
+        assertThat(transport.useCrtAsyncHttpClient()).isTrue();
+    }
+
+    @Test
+    public void GIVEN_invalid_values_WHEN_from_THEN_keep_defaults() {
+        // GIVEN
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(TransportConfiguration.HTTP_CLIENT, "okhttp");
+        environment.put(TransportConfiguration.MAX_CONNECTIONS, "many");
+        environment.put(TransportConfiguration.CONNECTION_TIMEOUT_MILLIS, "-1");
+        environment.put(TransportConfiguration.NUM_RETRIES, "1");
+
+        // WHEN
+        final TransportConfiguration transport = TransportConfiguration.from(environment::get);
+
+        // THEN
+        assertThat(transport.getHttpClient()).isEqualTo(TransportConfiguration.HttpClientType.APACHE);
+        assertThat(transport.getMaxConnections()).isEqualTo(50);
+        assertThat(transport.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(transport.getNumRetries()).isEqualTo(1);
+    }
+}
@@ -1,18 +1,27 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.AsyncInvoker;
+import com.amazonaws.iotanalytics.common.ClientBuilder;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 public abstract class BaseIoTAnalyticsHandler extends BaseHandler<CallbackContext> {
-    protected static final Constant DELAY_CONSTANT = Constant.of().timeout(Duration.ofMinutes(5))
-            .delay(Duration.ofSeconds(10)).build();
+    static {
+        // Handlers are instantiated by the wrapper during the init phase, which is where priming belongs.
+        Priming.register(System::getenv);
+    }
+
+    private ProxyClient<IoTAnalyticsAsyncClient> asyncProxyClient;
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -21,6 +30,8 @@ public abstract class BaseIoTAnalyticsHandler extends BaseHandler<CallbackContex
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        this.asyncProxyClient = proxy.newProxy(ClientBuilder::getAsyncClient);
+
         return handleRequest(
                 proxy,
                 request,
@@ -35,4 +46,23 @@ public abstract class BaseIoTAnalyticsHandler extends BaseHandler<CallbackContex
             final CallbackContext callbackContext,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger);
+
+    /**
+     * Issues a service call without blocking the calling thread, through the async client bound to this invocation
+     * when there is one. See {@link AsyncInvoker#invoke}.
+     */
+    protected <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+            final ProxyClient<IoTAnalyticsClient> proxyClient,
+            final RequestT request,
+            final BiFunction<IoTAnalyticsAsyncClient, RequestT, CompletableFuture<ResponseT>> asyncCall,
+            final BiFunction<IoTAnalyticsClient, RequestT, ResponseT> syncCall) {
+        return AsyncInvoker.invoke(asyncProxyClient, proxyClient, request, asyncCall, syncCall);
+    }
+
+    /**
+     * Waits for the result of {@link #invokeAsync}, rethrowing the service exception the call failed with.
+     */
+    protected static <ResponseT> ResponseT join(final CompletableFuture<ResponseT> future) {
+        return AsyncInvoker.join(future);
+    }
 }
@@ -1,10 +1,17 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.CreateDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,9 +23,11 @@ import software.amazon.cloudformation.resource.IdentifierUtils;
 public class CreateHandler extends BaseIoTAnalyticsHandler {
     private static final String CALL_GRAPH = "AWS-IoTAnalytics-Dataset::Create";
     private static final String OPERATION = "CreateDataset";
+    private static final String OPERATION_READ = "CreateDataset_Read";
     private static final int MAX_NAME_LENGTH = 128;
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,12 +37,13 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         if (!StringUtils.isEmpty(model.getId())) {
-            logger.log(String.format("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId()));
+            log.info("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId());
             return ProgressEvent.failed(model, null, HandlerErrorCode.InvalidRequest,
                     "Id is a read-only property and cannot be set.");
         }
@@ -44,7 +54,7 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                     request.getClientRequestToken(),
                     MAX_NAME_LENGTH
             ).replaceAll("-", "_");
-            logger.log(String.format("Missing datasetName. Generated datasetName for %s: %s", ResourceModel.TYPE_NAME, datasetName));
+            log.info("Missing datasetName. Generated datasetName for %s: %s", ResourceModel.TYPE_NAME, datasetName);
             model.setDatasetName(datasetName);
         }
 
@@ -52,22 +62,26 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateDatasetRequest)
-                                .backoffDelay(DELAY_CONSTANT)
+                                .backoffDelay(stabilizer.delay())
                                 .makeServiceCall(this::createDataset)
-                                .progress())
+                                .stabilize(this::stabilizedOnCreate)
+                                .done(response -> created(model, request, callbackContext, response.datasetArn())))
+                // Only reached when the ARN could not be worked out locally.
                 .then(progress ->
-                        new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        new ReadHandler(true).handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
     }
 
     private CreateDatasetResponse createDataset(final CreateDatasetRequest request, final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final CreateDatasetResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
-                    proxyClient.client()::createDataset);
-            logger.log(String.format("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.datasetName()));
+            stabilizer.start();
+            final CreateDatasetResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(request,
+                            proxyClient.client()::createDataset));
+            log.info("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.datasetName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.datasetName(), e.toString()));
+            log.error("%s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.datasetName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -75,4 +89,47 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             );
         }
     }
+
+    /**
+     * The create request holds every property of the dataset, the service only computes its ARN. The ARN comes with
+     * the create response, or follows from the account and region of the request; if neither has it, the create
+     * stays in progress and the dataset is read back.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> created(
+            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final String datasetArn) {
+        final String arn = datasetArn != null ? datasetArn : Translator.translateToDatasetArn(model, request);
+        if (arn == null) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        model.setId(arn);
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, model.getDatasetName(), arn);
+        DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatasetName());
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
+    private boolean stabilizedOnCreate(
+            final CreateDatasetRequest request,
+            final CreateDatasetResponse response,
+            final ProxyClient<IoTAnalyticsClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+        // The create response only carries the ARN once the dataset exists, so there is nothing to probe.
+        if (response.datasetArn() != null) {
+            return stabilizer.stabilized();
+        }
+        try {
+            final DescribeDatasetRequest describeDatasetRequest = Translator.translateToDescribeDatasetRequest(model);
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeDatasetRequest, proxyClient.client()::describeDataset));
+            return stabilizer.stabilized();
+        } catch (final ResourceNotFoundException e) {
+            log.sampled(HandlerLogger.Level.INFO, "%s [%s] not found yet after creating", ResourceModel.TYPE_NAME, request.datasetName());
+            return false;
+        } catch (final IoTAnalyticsException e) {
+            throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getDatasetName());
+        }
+    }
 }
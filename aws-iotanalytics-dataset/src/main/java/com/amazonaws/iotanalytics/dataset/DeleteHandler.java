@@ -1,5 +1,10 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetResponse;
@@ -17,7 +22,8 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
     private static final String OPERATION = "DeleteDataset";
     private static final String OPERATION_READ = "DeleteDataset_Read";
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,28 +33,35 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteDatasetRequest)
-                .backoffDelay(DELAY_CONSTANT)
+                .backoffDelay(stabilizer.delay())
                 .makeServiceCall(this::deleteDataset)
                 .stabilize(this::stabilizedOnDelete)
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+                .done(response -> {
+                    ArnCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatasetName());
+                    DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatasetName());
+                    return ProgressEvent.defaultSuccessHandler(null);
+                });
     }
 
     private DeleteDatasetResponse deleteDataset(final DeleteDatasetRequest request,
                                                 final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final DeleteDatasetResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request,
-                    proxyClient.client()::deleteDataset);
-            logger.log(String.format("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.datasetName()));
+            stabilizer.start();
+            final DeleteDatasetResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(
+                            request,
+                            proxyClient.client()::deleteDataset));
+            log.info("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.datasetName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.datasetName(), e.toString()));
+            log.error("%s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.datasetName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -65,11 +78,12 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
         try {
             final DescribeDatasetRequest describeDatasetRequest =
                     DescribeDatasetRequest.builder().datasetName(model.getDatasetName()).build();
-            proxyClient.injectCredentialsAndInvokeV2(describeDatasetRequest, proxyClient.client()::describeDataset);
-            logger.log(String.format("ERROR %s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.datasetName()));
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeDatasetRequest, proxyClient.client()::describeDataset));
+            log.sampled(HandlerLogger.Level.ERROR, "%s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.datasetName());
             return false;
         } catch (final ResourceNotFoundException e) {
-            return true;
+            return stabilizer.stabilized();
         } catch (final IoTAnalyticsException e) {
             throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getDatasetName());
         }
@@ -0,0 +1,108 @@
+package com.amazonaws.iotanalytics.dataset;
+
+import com.amazonaws.iotanalytics.common.ClientBuilder;
+import com.amazonaws.iotanalytics.common.EnvironmentSettings;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.services.iotanalytics.model.Dataset;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Moves the expensive one-off work of a cold start - building the clients, loading the SDK model and Translator
+ * classes and warming the Jackson mappers - out of the first request. IOTANALYTICS_PRIMING selects when it runs:
+ * <ul>
+ *     <li>{@code off} (default) - not at all, everything is loaded lazily by the first request;</li>
+ *     <li>{@code init} - while the handler classes are loaded, i.e. during the Lambda init phase;</li>
+ *     <li>{@code checkpoint} - right before a SnapStart or CRaC checkpoint, so that restored sandboxes start
+ *     primed. On runtimes without checkpoint support the registration is a no-op.</li>
+ * </ul>
+ * Priming never calls the service.
+ */
+final class Priming implements Resource {
+    static final String PRIMING_ENVIRONMENT_VARIABLE = "IOTANALYTICS_PRIMING";
+
+    enum Mode { OFF, INIT, CHECKPOINT }
+
+    // CRaC only keeps weak references to registered resources.
+    private static final Priming INSTANCE = new Priming();
+    private static final String PRIMING_NAME = "priming";
+
+    private static volatile boolean primed;
+
+    private Priming() {}
+
+    static Mode register(final Function<String, String> environment) {
+        return register(environment, Priming::prime, System.err::println);
+    }
+
+    /**
+     * Neither an unknown mode nor a failure to prime may fail the handler classes' initialization, which would fail
+     * every request of the sandbox: both are reported to {@code warnings}, and the first request loads lazily.
+     */
+    static Mode register(final Function<String, String> environment,
+                         final Runnable primer,
+                         final Consumer<String> warnings) {
+        final Mode mode = EnvironmentSettings.parse(PRIMING_ENVIRONMENT_VARIABLE,
+                environment.apply(PRIMING_ENVIRONMENT_VARIABLE), value -> Mode.valueOf(value.toUpperCase(Locale.ROOT)),
+                Mode.OFF);
+        try {
+            if (mode == Mode.INIT) {
+                primer.run();
+            } else if (mode == Mode.CHECKPOINT) {
+                Core.getGlobalContext().register(INSTANCE);
+            }
+        } catch (final RuntimeException | LinkageError e) {
+            warnings.accept(String.format("WARN %s=%s failed, continuing without priming: %s",
+                    PRIMING_ENVIRONMENT_VARIABLE, mode, e));
+        }
+        return mode;
+    }
+
+    static synchronized void prime() {
+        if (primed) {
+            return;
+        }
+        ClientBuilder.getClient();
+        ClientBuilder.getAsyncClient();
+
+        final ResourceModel model = Translator.translateFromDescribeResponse(
+                DescribeDatasetResponse.builder().dataset(Dataset.builder().name(PRIMING_NAME).build()).build(),
+                ListTagsForResourceResponse.builder().build());
+        Translator.translateToDescribeDatasetRequest(model);
+        Translator.translateExceptionToHandlerException(ResourceNotFoundException.builder().build(), PRIMING_NAME, PRIMING_NAME);
+
+        final Serializer serializer = new Serializer();
+        try {
+            serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+            serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        primed = true;
+    }
+
+    static boolean isPrimed() {
+        return primed;
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        prime();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        // Nothing to do, pooled connections that did not survive the restore are replaced by the SDK on use.
+    }
+}
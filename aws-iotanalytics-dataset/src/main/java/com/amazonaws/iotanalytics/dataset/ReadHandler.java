@@ -1,5 +1,11 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.BackoffDelays;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsAsyncClient;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
@@ -12,12 +18,27 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public class ReadHandler extends BaseIoTAnalyticsHandler {
     private static final String OPERATION_DESCRIBE = "DescribeDataset";
     private static final String OPERATION_LIST_TAGS = "DescribeDataset_ListTags";
     private static final String CALL_GRAPH = "AWS-IoTAnalytics-Dataset::Read";
 
-    private Logger logger;
+    private HandlerLogger log;
+    private final boolean bypassDescribeCache;
+
+    public ReadHandler() {
+        this(false);
+    }
+
+    /**
+     * @param bypassDescribeCache describe the dataset even when the {@link DescribeCache} holds it, for the read that
+     *                            ends a mutation and has to see it
+     */
+    ReadHandler(final boolean bypassDescribeCache) {
+        this.bypassDescribeCache = bypassDescribeCache;
+    }
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,25 +47,40 @@ public class ReadHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
 
         final ResourceModel model = request.getDesiredResourceState();
 
+        // The ARN does not depend on the describe result, so when it is known up front
+        // the tags are listed while the dataset is being described.
+        final String datasetArn = Translator.translateToDatasetArn(model, request);
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture = datasetArn == null
+                ? null
+                : MetricsScope.record(OPERATION_LIST_TAGS, CALL_GRAPH, () -> invokeAsync(proxyClient,
+                        ListTagsForResourceRequest.builder().resourceArn(datasetArn).build(),
+                        IoTAnalyticsAsyncClient::listTagsForResource,
+                        IoTAnalyticsClient::listTagsForResource));
+
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDescribeDatasetRequest)
-                .backoffDelay(DELAY_CONSTANT)
-                .makeServiceCall(this::readDataset)
+                .backoffDelay(BackoffDelays.forCallGraph(CALL_GRAPH, log))
+                .makeServiceCall((describeRequest, sdkProxyClient) -> readDataset(describeRequest, request, sdkProxyClient))
                 .done((describeRequest, describeResponse, sdkProxyClient, resourceModel, context) -> {
+                    ArnCache.shared().put(ResourceModel.TYPE_NAME, request, model.getDatasetName(),
+                            describeResponse.dataset().arn());
+                    final String resourceArn = datasetArn == null ? describeResponse.dataset().arn() : datasetArn;
                     try {
-                        final ListTagsForResourceResponse listTagsForResourceResponse =
-                                sdkProxyClient.injectCredentialsAndInvokeV2(ListTagsForResourceRequest.builder()
-                                                .resourceArn(describeResponse.dataset().arn())
+                        final ListTagsForResourceResponse listTagsForResourceResponse = listTagsFuture == null
+                                ? MetricsScope.record(OPERATION_LIST_TAGS, CALL_GRAPH,
+                                        () -> sdkProxyClient.injectCredentialsAndInvokeV2(ListTagsForResourceRequest.builder()
+                                                .resourceArn(resourceArn)
                                                 .build(),
-                                        sdkProxyClient.client()::listTagsForResource);
-                        logger.log(String.format("%s [%s] has successfully been listed tags", ResourceModel.TYPE_NAME, describeResponse.dataset().arn()));
+                                                sdkProxyClient.client()::listTagsForResource))
+                                : join(listTagsFuture);
+                        log.info("%s [%s] has successfully been listed tags", ResourceModel.TYPE_NAME, resourceArn);
                         return ProgressEvent.defaultSuccessHandler(Translator.translateFromDescribeResponse(describeResponse, listTagsForResourceResponse));
                     } catch (final IoTAnalyticsException e) {
-                        logger.log(String.format("ERROR %s [%s] fail to be listed tags: %s", ResourceModel.TYPE_NAME, describeResponse.dataset().arn(), e.toString()));
+                        log.error("%s [%s] fail to be listed tags: %s", ResourceModel.TYPE_NAME, resourceArn, e);
                         throw Translator.translateExceptionToHandlerException(
                                 e,
                                 OPERATION_LIST_TAGS,
@@ -54,14 +90,18 @@ public class ReadHandler extends BaseIoTAnalyticsHandler {
     }
 
     private DescribeDatasetResponse readDataset(final DescribeDatasetRequest request,
+                                                  final ResourceHandlerRequest<ResourceModel> handlerRequest,
                                                   final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
             final DescribeDatasetResponse response
-                    = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeDataset);
-            logger.log(String.format("%s [%s] has successfully been read", ResourceModel.TYPE_NAME, request.datasetName()));
+                    = MetricsScope.record(OPERATION_DESCRIBE, CALL_GRAPH,
+                            () -> DescribeCache.shared().describe(ResourceModel.TYPE_NAME, handlerRequest, request.datasetName(),
+                                    bypassDescribeCache,
+                                    () -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeDataset)));
+            log.info("%s [%s] has successfully been read", ResourceModel.TYPE_NAME, request.datasetName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be read: %s", ResourceModel.TYPE_NAME, request.datasetName(), e.toString()));
+            log.error("%s [%s] fail to be read: %s", ResourceModel.TYPE_NAME, request.datasetName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION_DESCRIBE,
@@ -1,5 +1,7 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.ExceptionTranslator;
 import com.amazonaws.util.StringUtils;
 import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.iotanalytics.model.ContainerDatasetAction;
@@ -9,37 +11,50 @@ import software.amazon.awssdk.services.iotanalytics.model.DatasetTrigger;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
-import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
-import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.Dataset;
 import software.amazon.awssdk.services.iotanalytics.model.QueryFilter;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iotanalytics.model.SqlQueryDatasetAction;
 import software.amazon.awssdk.services.iotanalytics.model.Tag;
-import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.UpdateDatasetRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public class Translator {
+    private static final String ARN_FORMAT = "arn:%s:iotanalytics:%s:%s:dataset/%s";
+    private static final String DEFAULT_PARTITION = "aws";
+
     private Translator() {}
+
+    /**
+     * Returns the dataset ARN without calling the service: the model's Id when it is set, otherwise the ARN
+     * built from the request's region and account, otherwise the {@link ArnCache cached} ARN for its
+     * name. Returns null when none is available.
+     */
+    @Nullable
+    static String translateToDatasetArn(final ResourceModel model,
+                                        final ResourceHandlerRequest<ResourceModel> request) {
+        if (!StringUtils.isNullOrEmpty(model.getId())) {
+            return model.getId();
+        }
+        if (StringUtils.isNullOrEmpty(model.getDatasetName())) {
+            return null;
+        }
+        if (StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(request.getAwsAccountId())) {
+            return ArnCache.shared().get(ResourceModel.TYPE_NAME, request, model.getDatasetName());
+        }
+        final String partition = StringUtils.isNullOrEmpty(request.getAwsPartition())
+                ? DEFAULT_PARTITION : request.getAwsPartition();
+        return String.format(ARN_FORMAT, partition, request.getRegion(), request.getAwsAccountId(), model.getDatasetName());
+    }
+
     static DescribeDatasetRequest translateToDescribeDatasetRequest(final ResourceModel model) {
         return DescribeDatasetRequest.builder().datasetName(model.getDatasetName()).build();
     }
@@ -95,54 +110,33 @@ public class Translator {
             final String operation,
             @Nullable final String name
     ) {
-        if (e instanceof ResourceAlreadyExistsException) {
-            return new CfnAlreadyExistsException(e);
-        } else if (e instanceof ResourceNotFoundException) {
-            if (StringUtils.isNullOrEmpty(name)) return new CfnNotFoundException(e);
-            return new CfnNotFoundException(ResourceModel.TYPE_NAME, name);
-        } else if (e instanceof InvalidRequestException) {
-            return new CfnInvalidRequestException(e.getMessage(), e);
-        } else if (e instanceof ThrottlingException) {
-            return new CfnThrottlingException(operation, e);
-        } else if (e instanceof ServiceUnavailableException) {
-            return new CfnGeneralServiceException(operation, e);
-        } else if (e instanceof LimitExceededException) {
-            return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage());
-        } else {
-            if (e.awsErrorDetails() != null
-                    && "AccessDeniedException".equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
-                return new CfnAccessDeniedException(operation, e);
-            }
-            return new CfnServiceInternalErrorException(operation, e);
-        }
+        return ExceptionTranslator.translate(e, operation, ResourceModel.TYPE_NAME, name);
     }
 
     private static List<Action> translateDatasetActionsToCfn(
             @Nonnull final List<DatasetAction> actions) { // dataset actions are required and not null
-        return actions
-                .stream()
-                .filter(Objects::nonNull)
-                .map(action ->
-                        Action.builder()
-                                .actionName(action.actionName())
-                                .containerAction(translateContainerActionToCfn(action.containerAction()))
-                                .queryAction(translateSqlQueryActionToCfn(action.queryAction()))
-                                .build()
-                ).collect(Collectors.toList());
+        return translateList(actions, Translator::translateDatasetActionToCfn);
+    }
+
+    private static Action translateDatasetActionToCfn(@Nonnull final DatasetAction action) {
+        return Action.builder()
+                .actionName(action.actionName())
+                .containerAction(translateContainerActionToCfn(action.containerAction()))
+                .queryAction(translateSqlQueryActionToCfn(action.queryAction()))
+                .build();
     }
 
     private static List<DatasetAction> translateDatasetActionsFromCfn(
             @Nonnull final List<Action> cfnActions) { // dataset actions are required and not null
-        return cfnActions
-                .stream()
-                .filter(Objects::nonNull)
-                .map(cfnAction ->
-                        DatasetAction.builder()
-                                .actionName(cfnAction.getActionName())
-                                .containerAction(translateContainerActionFromCfn(cfnAction.getContainerAction()))
-                                .queryAction(translateSqlQueryActionFromCfn(cfnAction.getQueryAction()))
-                                .build())
-                .collect(Collectors.toList());
+        return translateList(cfnActions, Translator::translateDatasetActionFromCfn);
+    }
+
+    private static DatasetAction translateDatasetActionFromCfn(@Nonnull final Action cfnAction) {
+        return DatasetAction.builder()
+                .actionName(cfnAction.getActionName())
+                .containerAction(translateContainerActionFromCfn(cfnAction.getContainerAction()))
+                .queryAction(translateSqlQueryActionFromCfn(cfnAction.getQueryAction()))
+                .build();
     }
 
     private static QueryAction translateSqlQueryActionToCfn(
@@ -173,16 +167,17 @@ public class Translator {
         if (filters == null) {
             return null;
         }
-        return filters.stream().filter(Objects::nonNull).map(
-                queryFilter ->
-                        Filter.builder()
-                                .deltaTime(queryFilter.deltaTime() == null ? null :
-                                        DeltaTime.builder()
-                                                .offsetSeconds(queryFilter.deltaTime().offsetSeconds())
-                                                .timeExpression(queryFilter.deltaTime().timeExpression())
-                                                .build())
+        return translateList(filters, Translator::translateFilterToCfn);
+    }
+
+    private static Filter translateFilterToCfn(@Nonnull final QueryFilter queryFilter) {
+        return Filter.builder()
+                .deltaTime(queryFilter.deltaTime() == null ? null :
+                        DeltaTime.builder()
+                                .offsetSeconds(queryFilter.deltaTime().offsetSeconds())
+                                .timeExpression(queryFilter.deltaTime().timeExpression())
                                 .build())
-                .collect(Collectors.toList());
+                .build();
     }
 
     @VisibleForTesting
@@ -191,17 +186,18 @@ public class Translator {
         if (cfnFilters == null) {
             return null;
         }
-        return cfnFilters.stream().filter(Objects::nonNull).map(
-                cfnFilter ->
-                        QueryFilter.builder()
-                                .deltaTime(cfnFilter.getDeltaTime() == null ? null :
-                                        software.amazon.awssdk.services.iotanalytics.model.DeltaTime
-                                                .builder()
-                                                .offsetSeconds(cfnFilter.getDeltaTime().getOffsetSeconds())
-                                                .timeExpression(cfnFilter.getDeltaTime().getTimeExpression())
-                                                .build())
-                                .build()
-        ).collect(Collectors.toList());
+        return translateList(cfnFilters, Translator::translateFilterFromCfn);
+    }
+
+    private static QueryFilter translateFilterFromCfn(@Nonnull final Filter cfnFilter) {
+        return QueryFilter.builder()
+                .deltaTime(cfnFilter.getDeltaTime() == null ? null :
+                        software.amazon.awssdk.services.iotanalytics.model.DeltaTime
+                                .builder()
+                                .offsetSeconds(cfnFilter.getDeltaTime().getOffsetSeconds())
+                                .timeExpression(cfnFilter.getDeltaTime().getTimeExpression())
+                                .build())
+                .build();
     }
 
     static ContainerAction translateContainerActionToCfn(
@@ -244,25 +240,29 @@ public class Translator {
         if (variableList == null) {
             return null;
         }
-        return variableList.stream().filter(Objects::nonNull).map(variable ->
-                Variable.builder()
-                        .variableName(variable.name())
-                        .doubleValue(variable.doubleValue())
-                        .stringValue(variable.stringValue())
-                        .datasetContentVersionValue(variable.datasetContentVersionValue() == null
-                                ? null
-                                : DatasetContentVersionValue
-                                .builder()
-                                .datasetName(variable.datasetContentVersionValue().datasetName())
-                                .build())
-                        .outputFileUriValue(variable.outputFileUriValue() == null
-                                ? null
-                                : OutputFileUriValue
-                                .builder()
-                                .fileName(variable.outputFileUriValue().fileName())
-                                .build()
-                        )
-                        .build()).collect(Collectors.toList());
+        return translateList(variableList, Translator::translateVariableToCfn);
+    }
+
+    private static Variable translateVariableToCfn(
+            @Nonnull final software.amazon.awssdk.services.iotanalytics.model.Variable variable) {
+        return Variable.builder()
+                .variableName(variable.name())
+                .doubleValue(variable.doubleValue())
+                .stringValue(variable.stringValue())
+                .datasetContentVersionValue(variable.datasetContentVersionValue() == null
+                        ? null
+                        : DatasetContentVersionValue
+                        .builder()
+                        .datasetName(variable.datasetContentVersionValue().datasetName())
+                        .build())
+                .outputFileUriValue(variable.outputFileUriValue() == null
+                        ? null
+                        : OutputFileUriValue
+                        .builder()
+                        .fileName(variable.outputFileUriValue().fileName())
+                        .build()
+                )
+                .build();
     }
 
     @VisibleForTesting
@@ -271,25 +271,29 @@ public class Translator {
         if (cfnVariableList == null) {
             return null;
         }
-        return cfnVariableList.stream().filter(Objects::nonNull).map(cfnVariable ->
-                software.amazon.awssdk.services.iotanalytics.model.Variable.builder()
-                        .name(cfnVariable.getVariableName())
-                        .doubleValue(cfnVariable.getDoubleValue())
-                        .stringValue(cfnVariable.getStringValue())
-                        .datasetContentVersionValue(cfnVariable.getDatasetContentVersionValue() == null
-                                ? null
-                                : software.amazon.awssdk.services.iotanalytics.model.DatasetContentVersionValue
-                                .builder()
-                                .datasetName(cfnVariable.getDatasetContentVersionValue().getDatasetName())
-                                .build())
-                        .outputFileUriValue(cfnVariable.getOutputFileUriValue() == null
-                                ? null
-                                : software.amazon.awssdk.services.iotanalytics.model.OutputFileUriValue
-                                .builder()
-                                .fileName(cfnVariable.getOutputFileUriValue().getFileName())
-                                .build()
-                        )
-                        .build()).collect(Collectors.toList());
+        return translateList(cfnVariableList, Translator::translateVariableFromCfn);
+    }
+
+    private static software.amazon.awssdk.services.iotanalytics.model.Variable translateVariableFromCfn(
+            @Nonnull final Variable cfnVariable) {
+        return software.amazon.awssdk.services.iotanalytics.model.Variable.builder()
+                .name(cfnVariable.getVariableName())
+                .doubleValue(cfnVariable.getDoubleValue())
+                .stringValue(cfnVariable.getStringValue())
+                .datasetContentVersionValue(cfnVariable.getDatasetContentVersionValue() == null
+                        ? null
+                        : software.amazon.awssdk.services.iotanalytics.model.DatasetContentVersionValue
+                        .builder()
+                        .datasetName(cfnVariable.getDatasetContentVersionValue().getDatasetName())
+                        .build())
+                .outputFileUriValue(cfnVariable.getOutputFileUriValue() == null
+                        ? null
+                        : software.amazon.awssdk.services.iotanalytics.model.OutputFileUriValue
+                        .builder()
+                        .fileName(cfnVariable.getOutputFileUriValue().getFileName())
+                        .build()
+                )
+                .build();
     }
 
     @VisibleForTesting
@@ -298,27 +302,27 @@ public class Translator {
         if (datasetContentDeliveryRules == null) {
             return null;
         }
-        return datasetContentDeliveryRules
-                .stream()
-                .filter(Objects::nonNull)
-                .map(datasetContentDeliveryRule ->
-                        DatasetContentDeliveryRule
-                                .builder()
-                                .entryName(datasetContentDeliveryRule.entryName())
-                                .destination(DatasetContentDeliveryRuleDestination
-                                        .builder()
-                                        .iotEventsDestinationConfiguration(translateIotEventsDestinationConfigurationToCfn(
-                                                datasetContentDeliveryRule
-                                                        .destination()
-                                                        .iotEventsDestinationConfiguration())) // Destination is required and not null
-                                        .s3DestinationConfiguration(translateS3DestinationConfigurationToCfn(
-                                                datasetContentDeliveryRule
-                                                        .destination()
-                                                        .s3DestinationConfiguration()
-                                        ))
-                                        .build())
-                                .build())
-                .collect(Collectors.toList());
+        return translateList(datasetContentDeliveryRules, Translator::translateDatasetContentDeliveryRuleToCfn);
+    }
+
+    private static DatasetContentDeliveryRule translateDatasetContentDeliveryRuleToCfn(
+            @Nonnull final software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryRule datasetContentDeliveryRule) {
+        return DatasetContentDeliveryRule
+                .builder()
+                .entryName(datasetContentDeliveryRule.entryName())
+                .destination(DatasetContentDeliveryRuleDestination
+                        .builder()
+                        .iotEventsDestinationConfiguration(translateIotEventsDestinationConfigurationToCfn(
+                                datasetContentDeliveryRule
+                                        .destination()
+                                        .iotEventsDestinationConfiguration())) // Destination is required and not null
+                        .s3DestinationConfiguration(translateS3DestinationConfigurationToCfn(
+                                datasetContentDeliveryRule
+                                        .destination()
+                                        .s3DestinationConfiguration()
+                        ))
+                        .build())
+                .build();
     }
 
     @VisibleForTesting
@@ -327,29 +331,29 @@ public class Translator {
         if (cfnDatasetContentDeliveryRules == null) {
             return null;
         }
-        return cfnDatasetContentDeliveryRules
-                .stream()
-                .filter(Objects::nonNull)
-                .map(cfnDatasetContentDeliveryRule ->
-                        software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryRule
-                                .builder()
-                                .entryName(cfnDatasetContentDeliveryRule.getEntryName())
-                                .destination(software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryDestination
-                                        .builder()
-                                        .iotEventsDestinationConfiguration(translateIotEventsDestinationConfigurationFromCfn(
-                                                cfnDatasetContentDeliveryRule
-                                                        // Destination is required and not null
-                                                        .getDestination()
-                                                        .getIotEventsDestinationConfiguration()))
-                                        .s3DestinationConfiguration(translateS3DestinationConfigurationFromCfn(
-                                                cfnDatasetContentDeliveryRule
-                                                        // Destination is required and not null
-                                                        .getDestination()
-                                                        .getS3DestinationConfiguration()
-                                        ))
-                                        .build())
-                                .build())
-                .collect(Collectors.toList());
+        return translateList(cfnDatasetContentDeliveryRules, Translator::translateDatasetContentDeliveryRuleFromCfn);
+    }
+
+    private static software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryRule translateDatasetContentDeliveryRuleFromCfn(
+            @Nonnull final DatasetContentDeliveryRule cfnDatasetContentDeliveryRule) {
+        return software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryRule
+                .builder()
+                .entryName(cfnDatasetContentDeliveryRule.getEntryName())
+                .destination(software.amazon.awssdk.services.iotanalytics.model.DatasetContentDeliveryDestination
+                        .builder()
+                        .iotEventsDestinationConfiguration(translateIotEventsDestinationConfigurationFromCfn(
+                                cfnDatasetContentDeliveryRule
+                                        // Destination is required and not null
+                                        .getDestination()
+                                        .getIotEventsDestinationConfiguration()))
+                        .s3DestinationConfiguration(translateS3DestinationConfigurationFromCfn(
+                                cfnDatasetContentDeliveryRule
+                                        // Destination is required and not null
+                                        .getDestination()
+                                        .getS3DestinationConfiguration()
+                        ))
+                        .build())
+                .build();
     }
 
     private static S3DestinationConfiguration translateS3DestinationConfigurationToCfn(
@@ -421,27 +425,27 @@ public class Translator {
         if (lateDataRules == null) {
             return null;
         }
-        return lateDataRules
-                .stream()
-                .filter(Objects::nonNull)
-                .map(lateDataRule ->
-                        LateDataRule
-                                .builder()
-                                .ruleName(lateDataRule.ruleName())
-                                .ruleConfiguration(LateDataRuleConfiguration.builder()
-                                        .deltaTimeSessionWindowConfiguration(
-                                                lateDataRule.ruleConfiguration().deltaTimeSessionWindowConfiguration() == null
-                                                        ? null
-                                                        : DeltaTimeSessionWindowConfiguration
-                                                        .builder()
-                                                        .timeoutInMinutes(lateDataRule
-                                                                .ruleConfiguration()
-                                                                .deltaTimeSessionWindowConfiguration()
-                                                                .timeoutInMinutes())
-                                                        .build())
-                                        .build()) // ruleConfiguration is required and not null
-                                .build())
-                .collect(Collectors.toList());
+        return translateList(lateDataRules, Translator::translateLateDataRuleToCfn);
+    }
+
+    private static LateDataRule translateLateDataRuleToCfn(
+            @Nonnull final software.amazon.awssdk.services.iotanalytics.model.LateDataRule lateDataRule) {
+        return LateDataRule
+                .builder()
+                .ruleName(lateDataRule.ruleName())
+                .ruleConfiguration(LateDataRuleConfiguration.builder()
+                        .deltaTimeSessionWindowConfiguration(
+                                lateDataRule.ruleConfiguration().deltaTimeSessionWindowConfiguration() == null
+                                        ? null
+                                        : DeltaTimeSessionWindowConfiguration
+                                        .builder()
+                                        .timeoutInMinutes(lateDataRule
+                                                .ruleConfiguration()
+                                                .deltaTimeSessionWindowConfiguration()
+                                                .timeoutInMinutes())
+                                        .build())
+                        .build()) // ruleConfiguration is required and not null
+                .build();
     }
 
     @VisibleForTesting
@@ -450,28 +454,29 @@ public class Translator {
         if (cfnLateDataRules == null) {
             return null;
         }
-        return cfnLateDataRules.stream().filter(Objects::nonNull)
-                .map(cfnLateDataRule ->
-                        software.amazon.awssdk.services.iotanalytics.model.LateDataRule.builder()
-                                .ruleName(cfnLateDataRule.getRuleName())
-                                .ruleConfiguration(software.amazon.awssdk.services.iotanalytics.model.LateDataRuleConfiguration
+        return translateList(cfnLateDataRules, Translator::translateLateDataRuleFromCfn);
+    }
+
+    private static software.amazon.awssdk.services.iotanalytics.model.LateDataRule translateLateDataRuleFromCfn(
+            @Nonnull final LateDataRule cfnLateDataRule) {
+        return software.amazon.awssdk.services.iotanalytics.model.LateDataRule.builder()
+                .ruleName(cfnLateDataRule.getRuleName())
+                .ruleConfiguration(software.amazon.awssdk.services.iotanalytics.model.LateDataRuleConfiguration
+                        .builder()
+                        .deltaTimeSessionWindowConfiguration(
+                                // ruleConfiguration is required and not null
+                                cfnLateDataRule.getRuleConfiguration().getDeltaTimeSessionWindowConfiguration() == null
+                                        ? null
+                                        : software.amazon.awssdk.services.iotanalytics.model.DeltaTimeSessionWindowConfiguration
                                         .builder()
-                                        .deltaTimeSessionWindowConfiguration(
-                                                // ruleConfiguration is required and not null
-                                                cfnLateDataRule.getRuleConfiguration().getDeltaTimeSessionWindowConfiguration() == null
-                                                        ? null
-                                                        : software.amazon.awssdk.services.iotanalytics.model.DeltaTimeSessionWindowConfiguration
-                                                        .builder()
-                                                        .timeoutInMinutes(cfnLateDataRule
-                                                                .getRuleConfiguration()
-                                                                .getDeltaTimeSessionWindowConfiguration()
-                                                                .getTimeoutInMinutes())
-                                                        .build()
-                                        )
-                                        .build())
-                                .build()
-                )
-                .collect(Collectors.toList());
+                                        .timeoutInMinutes(cfnLateDataRule
+                                                .getRuleConfiguration()
+                                                .getDeltaTimeSessionWindowConfiguration()
+                                                .getTimeoutInMinutes())
+                                        .build()
+                        )
+                        .build())
+                .build();
     }
 
     private static RetentionPeriod translateRetentionPeriodToCfn(
@@ -502,13 +507,14 @@ public class Translator {
         if (datasetTriggers == null) {
             return null;
         }
-        return datasetTriggers.stream().filter(Objects::nonNull)
-                .map(trigger ->
-                    Trigger.builder()
-                            .triggeringDataset(translateTriggeringDatasetToCfn(trigger.dataset()))
-                            .schedule(translateScheduleToCfn(trigger.schedule()))
-                            .build()
-                ).collect(Collectors.toList());
+        return translateList(datasetTriggers, Translator::translateTriggerToCfn);
+    }
+
+    private static Trigger translateTriggerToCfn(@Nonnull final DatasetTrigger trigger) {
+        return Trigger.builder()
+                .triggeringDataset(translateTriggeringDatasetToCfn(trigger.dataset()))
+                .schedule(translateScheduleToCfn(trigger.schedule()))
+                .build();
     }
 
     @VisibleForTesting
@@ -516,13 +522,14 @@ public class Translator {
         if (cfnTriggers == null) {
             return null;
         }
-        return cfnTriggers.stream().filter(Objects::nonNull)
-                .map(cfnTrigger ->
-                        DatasetTrigger.builder()
-                                .dataset(translateTriggeringDatasetFromCfn(cfnTrigger.getTriggeringDataset()))
-                                .schedule(translateScheduleFromCfn(cfnTrigger.getSchedule()))
-                                .build())
-                .collect(Collectors.toList());
+        return translateList(cfnTriggers, Translator::translateTriggerFromCfn);
+    }
+
+    private static DatasetTrigger translateTriggerFromCfn(@Nonnull final Trigger cfnTrigger) {
+        return DatasetTrigger.builder()
+                .dataset(translateTriggeringDatasetFromCfn(cfnTrigger.getTriggeringDataset()))
+                .schedule(translateScheduleFromCfn(cfnTrigger.getSchedule()))
+                .build();
     }
 
     private static TriggeringDataset translateTriggeringDatasetToCfn(
@@ -587,12 +594,10 @@ public class Translator {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
-        return tags.stream().filter(Objects::nonNull).map((tag ->
-                com.amazonaws.iotanalytics.dataset.Tag.builder()
-                        .key(tag.key())
-                        .value(tag.value())
-                        .build()))
-                .collect(Collectors.toList());
+        return translateList(tags, tag -> com.amazonaws.iotanalytics.dataset.Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build());
     }
 
     @VisibleForTesting
@@ -602,12 +607,25 @@ public class Translator {
         if (cfnTagList == null) {
             return null;
         } else {
-            return cfnTagList.stream().filter(Objects::nonNull).map(tag ->
-                    Tag.builder()
-                            .key(tag.getKey())
-                            .value(tag.getValue())
-                            .build()
-            ).collect(Collectors.toList());
+            return translateList(cfnTagList, tag -> Tag.builder()
+                    .key(tag.getKey())
+                    .value(tag.getValue())
+                    .build());
+        }
+    }
+
+    /**
+     * Translates the non-null elements of {@code source} into a list presized to hold all of them. Cheaper than a
+     * stream pipeline: no spliterator, pipeline stages or collector, and the result is never resized.
+     */
+    private static <S, T> List<T> translateList(@Nonnull final List<S> source,
+                                                @Nonnull final Function<S, T> translator) {
+        final List<T> translated = new ArrayList<>(source.size());
+        for (final S element : source) {
+            if (element != null) {
+                translated.add(translator.apply(element));
+            }
         }
+        return translated;
     }
 }
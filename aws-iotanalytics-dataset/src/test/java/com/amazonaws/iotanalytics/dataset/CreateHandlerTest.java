@@ -49,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -239,4 +240,33 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(createDatasetRequest.datasetName()).isNotBlank();
         assertFalse(createDatasetRequest.datasetName().contains("-"));
     }
+
+    @Test
+    public void GIVEN_create_response_with_arn_WHEN_call_handleRequest_THEN_return_model_without_reading_it_back() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder()
+                .datasetName(TEST_DATASET_NAME)
+                .actions(Collections.singletonList(CFN_SQL_ACTION))
+                .retentionPeriod(CFN_RETENTION_DAYS)
+                .build();
+
+        when(proxyClient.client().createDataset(createDatasetRequestArgumentCaptor.capture()))
+                .thenReturn(CreateDatasetResponse.builder().datasetName(TEST_DATASET_NAME).datasetArn(TEST_DATASET_ARN).build());
+
+        // WHEN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASET_ID);
+        assertThat(response.getResourceModel().getActions()).isEqualTo(model.getActions());
+        assertThat(response.getResourceModel().getRetentionPeriod()).isEqualTo(CFN_RETENTION_DAYS);
+        verify(proxyClient.client(), never()).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
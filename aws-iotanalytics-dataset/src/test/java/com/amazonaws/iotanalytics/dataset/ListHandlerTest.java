@@ -1,10 +1,21 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import software.amazon.awssdk.services.iotanalytics.model.Dataset;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatasetResponse;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
 import software.amazon.awssdk.services.iotanalytics.model.ListDatasetsRequest;
 import software.amazon.awssdk.services.iotanalytics.model.ListDatasetsResponse;
 import software.amazon.awssdk.services.iotanalytics.model.DatasetSummary;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.awssdk.services.iotanalytics.paginators.ListDatasetsIterable;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -13,9 +24,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +44,8 @@ public class ListHandlerTest extends AbstractTestBase {
     private static final String TEST_DATASET_NAME_2 = "test_dataset_name_2";
     private static final String TEST_DATASET_NAME_3 = "test_dataset_name_3";
     private static final String TEST_DATASET_NAME_4 = "test_dataset_name_4";
+    private static final String TEST_KEY = "key";
+    private static final String TEST_VALUE = "value";
 
     private ResourceHandlerRequest<ResourceModel> request;
     private ListHandler handler;
@@ -92,4 +110,225 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThrows(CfnGeneralServiceException.class,
                 () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
+
+    @Test
+    public void GIVEN_stream_budget_WHEN_call_handleRequest_THEN_return_models_of_every_page() {
+        // GIVEN
+        final ListHandler streamingHandler = new ListHandler(false, 1, Duration.ofSeconds(10));
+        when(proxyClient.client().listDatasetsPaginator(any(ListDatasetsRequest.class)))
+                .thenAnswer(invocation -> new ListDatasetsIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .datasetSummaries(
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build(),
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_2).build())
+                        .build())
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(DatasetSummary.builder().datasetName(TEST_DATASET_NAME_3).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                streamingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getDatasetName)
+                .containsExactly(TEST_DATASET_NAME_1, TEST_DATASET_NAME_2, TEST_DATASET_NAME_3);
+        assertThat(response.getNextToken()).isNull();
+        verify(proxyClient.client(), times(2)).listDatasets(any(ListDatasetsRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_WHEN_call_handleRequest_THEN_return_full_models() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .datasetSummaries(
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build(),
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenAnswer(invocation -> describeDatasetResponse(
+                        invocation.getArgument(0, DescribeDatasetRequest.class).datasetName()));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder()
+                                .key(TEST_KEY).value(TEST_VALUE).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo(TEST_NEXT_TOKEN);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(response.getResourceModels().get(0).getDatasetName()).isEqualTo(TEST_DATASET_NAME_1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_DATASET_NAME_1 + "_arn");
+        assertThat(response.getResourceModels().get(0).getTags().get(0).getKey()).isEqualTo(TEST_KEY);
+        assertThat(response.getResourceModels().get(1).getDatasetName()).isEqualTo(TEST_DATASET_NAME_2);
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo(TEST_DATASET_NAME_2 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_concurrency_of_one_WHEN_call_handleRequest_THEN_send_one_call_at_a_time() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build(),
+                                DatasetSummary.builder().datasetName(TEST_DATASET_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight, () -> describeDatasetResponse(
+                        invocation.getArgument(0, DescribeDatasetRequest.class).datasetName())));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight,
+                        () -> ListTagsForResourceResponse.builder().build()));
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+
+        verify(proxyClient.client(), times(2)).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_throttles_WHEN_call_handleRequest_THEN_retry_dataset() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenReturn(describeDatasetResponse(TEST_DATASET_NAME_1));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_DATASET_NAME_1 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describeDataset(any(DescribeDatasetRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_always_throttles_WHEN_call_handleRequest_THEN_throw_CfnThrottlingException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenThrow(ThrottlingException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnThrottlingException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client(), times(ListHandler.MAX_HYDRATE_ATTEMPTS)).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_dataset_deleted_WHEN_call_handleRequest_THEN_skip_dataset() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_invalid_request_WHEN_call_handleRequest_THEN_throw_CfnInvalidRequestException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listDatasets(any(ListDatasetsRequest.class)))
+                .thenReturn(ListDatasetsResponse.builder()
+                        .datasetSummaries(DatasetSummary.builder().datasetName(TEST_DATASET_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenThrow(InvalidRequestException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnInvalidRequestException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    @Test
+    public void GIVEN_environment_values_WHEN_parse_THEN_reject_out_of_range() {
+        assertThat(ListHandler.concurrency("8")).isEqualTo(8);
+        assertThrows(IllegalArgumentException.class, () -> ListHandler.concurrency("0"));
+        assertThrows(IllegalArgumentException.class, () -> ListHandler.concurrency("four"));
+        assertThat(ListHandler.streamBudget("500")).isEqualTo(Duration.ofMillis(500));
+        assertThrows(IllegalArgumentException.class, () -> ListHandler.streamBudget("-1"));
+    }
+
+    /**
+     * Answers with {@code response} after a pause long enough for calls sent alongside it to overlap.
+     */
+    private static <T> T inFlight(final AtomicInteger inFlight,
+                                  final AtomicInteger maxInFlight,
+                                  final Supplier<T> response) throws InterruptedException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+            return response.get();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static DescribeDatasetResponse describeDatasetResponse(final String datasetName) {
+        return DescribeDatasetResponse.builder()
+                .dataset(Dataset.builder().name(datasetName).arn(datasetName + "_arn").build())
+                .build();
+    }
 }
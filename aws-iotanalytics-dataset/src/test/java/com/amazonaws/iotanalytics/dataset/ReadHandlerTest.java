@@ -189,4 +189,37 @@ public class ReadHandlerTest extends AbstractTestBase{
         verify(proxyClient.client(), times(1)).describeDataset(any(DescribeDatasetRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_handleRequest_THEN_list_tags_with_computed_arn() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().datasetName(TEST_DATASET_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        when(proxyClient.client().describeDataset(describeDatasetRequestArgumentCaptor.capture()))
+                .thenReturn(describeDatasetResponse);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(describeDatasetRequestArgumentCaptor.getValue().datasetName()).isEqualTo(TEST_DATASET_NAME);
+        assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
+                .isEqualTo("arn:aws:iotanalytics:us-east-1:123456789012:dataset/" + TEST_DATASET_NAME);
+        verify(proxyClient.client(), times(1)).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDatasetName()).isEqualTo(TEST_DATASET_NAME);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASET_ID);
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
 }
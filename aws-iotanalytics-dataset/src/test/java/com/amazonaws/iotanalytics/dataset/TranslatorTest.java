@@ -1,16 +1,25 @@
 package com.amazonaws.iotanalytics.dataset;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class TranslatorTest {
+
+    @BeforeEach
+    public void setUp() {
+        ArnCache.shared().invalidateAll();
+    }
+
     @Test
     public void GIVE_AccessDeniedException_WHEN_call_translate_exception_THEN_return_CfnAccessDeniedException() {
         final IoTAnalyticsException e = (IoTAnalyticsException) IoTAnalyticsException
@@ -81,4 +90,47 @@ public class TranslatorTest {
         assertThat(Translator.translateTagsToCfn(new ArrayList<>())).isNull();
 
     }
+
+    @Test
+    public void GIVEN_model_id_WHEN_call_translateToDatasetArn_THEN_return_id() {
+        final ResourceModel model = ResourceModel.builder().datasetName("name").id("id").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        assertThat(Translator.translateToDatasetArn(model, request)).isEqualTo("id");
+    }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_translateToDatasetArn_THEN_return_arn() {
+        final ResourceModel model = ResourceModel.builder().datasetName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("cn-north-1")
+                .awsAccountId("123456789012")
+                .awsPartition("aws-cn")
+                .build();
+        assertThat(Translator.translateToDatasetArn(model, request))
+                .isEqualTo("arn:aws-cn:iotanalytics:cn-north-1:123456789012:dataset/name");
+    }
+
+    @Test
+    public void GIVEN_no_region_WHEN_call_translateToDatasetArn_THEN_return_null() {
+        final ResourceModel model = ResourceModel.builder().datasetName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        assertThat(Translator.translateToDatasetArn(model, request)).isNull();
+    }
+
+    @Test
+    public void GIVEN_no_region_and_cached_arn_WHEN_call_translateToDatasetArn_THEN_return_cached_arn() {
+        final ResourceModel model = ResourceModel.builder().datasetName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, "name", "arn");
+        assertThat(Translator.translateToDatasetArn(model, request)).isEqualTo("arn");
+    }
 }
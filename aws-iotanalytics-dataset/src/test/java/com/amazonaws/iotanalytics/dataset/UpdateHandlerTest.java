@@ -45,7 +45,6 @@ import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_CONTAINER_AC
 import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_CONTENT_DELIVERY_RULE_IOT_EVENT;
 import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_LATE_DATE_RULE;
 import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_RETENTION_DAYS;
-import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_SQL_ACTION;
 import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_TRIGGER_BY_SCHEDULE;
 import static com.amazonaws.iotanalytics.dataset.TestConstants.IOTA_VERSION_CONFIG;
 import static com.amazonaws.iotanalytics.dataset.TestConstants.TEST_DATASET_ARN;
@@ -78,9 +77,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Captor
     private ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
 
-    @Captor
-    private ArgumentCaptor<DescribeDatasetRequest> describeDatasetRequestArgumentCaptor;
-
     @Captor
     private ArgumentCaptor<ListTagsForResourceRequest> listTagsForResourceRequestArgumentCaptor;
 
@@ -89,9 +85,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private ResourceModel newModel;
     private DescribeDatasetResponse describeDatasetResponseFull;
     private ListTagsForResourceResponse listTagsForResourceResponseFull;
-    private DescribeDatasetResponse describeDatasetResponseSimple;
     private ListTagsForResourceResponse listTagsForResourceResponseSimple;
 
+    private ListTagsForResourceResponse listTagsForResourceResponsePrevious;
+
     @BeforeEach
     public void setup() {
         super.setUp();
@@ -141,14 +138,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY3).value(TEST_VALUE3).build()))
                 .build();
 
-        describeDatasetResponseSimple = DescribeDatasetResponse.builder()
-                .dataset(Dataset.builder()
-                        .name(TEST_DATASET_NAME)
-                        .actions(Collections.singletonList(IOTA_SQL_ACTION))
-                        .build())
-                .build();
-
         listTagsForResourceResponseSimple = ListTagsForResourceResponse.builder().build();
+
+        listTagsForResourceResponsePrevious = ListTagsForResourceResponse.builder()
+                .tags(Arrays.asList(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build(),
+                        software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
     }
 
     @Test
@@ -168,11 +163,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
                 .thenReturn(TagResourceResponse.builder().build());
 
-        when(proxyClient.client().describeDataset(describeDatasetRequestArgumentCaptor.capture()))
-                .thenReturn(describeDatasetResponseFull);
-
         when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
-                .thenReturn(listTagsForResourceResponseFull);
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -207,11 +199,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(untagResourceRequest.tagKeys().size()).isEqualTo(1);
         assertThat(untagResourceRequest.tagKeys().contains(TEST_KEY1)).isTrue();
 
-        assertThat(describeDatasetRequestArgumentCaptor.getValue().datasetName())
-                .isEqualTo(TEST_DATASET_NAME);
-
         assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
                 .isEqualTo(TEST_DATASET_ARN);
+        verify(proxyClient.client(), never()).describeDataset(any(DescribeDatasetRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -232,13 +222,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getVersioningConfiguration()).isEqualTo(CFN_VERSION_CONFIG);
         assertThat(response.getResourceModel().getTriggers()).isEqualTo(Collections.singletonList(CFN_TRIGGER_BY_SCHEDULE));
 
-        assertThat(response.getResourceModel().getTags().size()).isEqualTo(3);
-        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY1);
-        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE1);
+        assertThat(response.getResourceModel().getTags().size()).isEqualTo(2);
+        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY3);
+        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE3);
         assertThat(response.getResourceModel().getTags().get(1).getKey()).isEqualTo(TEST_KEY2);
         assertThat(response.getResourceModel().getTags().get(1).getValue()).isEqualTo(TEST_VALUE22);
-        assertThat(response.getResourceModel().getTags().get(2).getKey()).isEqualTo(TEST_KEY3);
-        assertThat(response.getResourceModel().getTags().get(2).getValue()).isEqualTo(TEST_VALUE3);
     }
 
     @Test
@@ -322,11 +310,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .previousResourceState(preModel)
                 .build();
 
-        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
-                .thenReturn(describeDatasetResponseSimple);
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(listTagsForResourceResponseSimple);
-
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -335,8 +318,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).updateDataset(any(UpdateDatasetRequest.class));
         verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeDataset(any(DescribeDatasetRequest.class));
-        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), never()).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -388,8 +371,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateDatasetResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
                 .thenThrow(LimitExceededException.builder().build());
-        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
-            .thenReturn(describeDatasetResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnServiceLimitExceededException.class,
@@ -398,9 +381,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1))
                 .updateDataset(any(UpdateDatasetRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
-        verify(proxyClient.client(), times(1)).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), never()).describeDataset(any(DescribeDatasetRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -415,8 +398,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdateDatasetResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(ServiceUnavailableException.builder().build());
-        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
-            .thenReturn(describeDatasetResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnGeneralServiceException.class,
@@ -425,7 +408,79 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).updateDataset(any(UpdateDatasetRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).describeDataset(any(DescribeDatasetRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_previous_model_without_id_WHEN_call_handleRequest_THEN_describe_for_tag_arn() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder()
+                .datasetName(TEST_DATASET_NAME)
+                .actions(Collections.singletonList(CFN_SQL_ACTION))
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .datasetName(TEST_DATASET_NAME)
+                .actions(Collections.singletonList(CFN_SQL_ACTION))
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class)))
+                .thenReturn(describeDatasetResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        verify(proxyClient.client(), never()).updateDataset(any(UpdateDatasetRequest.class));
+        // The ARN described for the tag updates also ends up in the returned model, so there is no final read.
         verify(proxyClient.client(), times(1)).describeDataset(any(DescribeDatasetRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_DATASET_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_DATASET_ARN);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASET_ARN);
+    }
+
+    @Test
+    public void GIVEN_no_arn_to_carry_over_WHEN_call_handleRequest_THEN_read_back() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().datasetName(TEST_DATASET_NAME).build();
+        final ResourceModel newModel = ResourceModel.builder().datasetName(TEST_DATASET_NAME).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().describeDataset(any(DescribeDatasetRequest.class))).thenReturn(describeDatasetResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseFull);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateDataset(any(UpdateDatasetRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataset(any(DescribeDatasetRequest.class));
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASET_ARN);
+        assertThat(response.getResourceModel().getTags()).hasSize(3);
     }
 }
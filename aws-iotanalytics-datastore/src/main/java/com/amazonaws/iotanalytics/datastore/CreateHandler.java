@@ -1,10 +1,17 @@
 package com.amazonaws.iotanalytics.datastore;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreRequest;
 import software.amazon.awssdk.services.iotanalytics.model.CreateDatastoreResponse;
+import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreRequest;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,9 +23,11 @@ import software.amazon.cloudformation.resource.IdentifierUtils;
 public class CreateHandler extends BaseIoTAnalyticsHandler {
     private static final String CALL_GRAPH = "AWS-IoTAnalytics-Datastore::Create";
     private static final String OPERATION = "CreateDatastore";
+    private static final String OPERATION_READ = "CreateDatastore_Read";
     private static final int MAX_NAME_LENGTH = 128;
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,12 +36,13 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         if (!StringUtils.isEmpty(model.getId())) {
-            logger.log(String.format("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId()));
+            log.info("%s [%s] id is read-only", ResourceModel.TYPE_NAME, model.getId());
             return ProgressEvent.failed(model, null, HandlerErrorCode.InvalidRequest,
                     "Id is a read-only property and cannot be set.");
         }
@@ -43,7 +53,7 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                     request.getClientRequestToken(),
                     MAX_NAME_LENGTH
             ).replaceAll("-", "_");
-            logger.log(String.format("Missing datastoreName. Generated datastoreName for %s: %s", ResourceModel.TYPE_NAME, datastoreName));
+            log.info("Missing datastoreName. Generated datastoreName for %s: %s", ResourceModel.TYPE_NAME, datastoreName);
             model.setDatastoreName(datastoreName);
         }
 
@@ -51,22 +61,26 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateDatastoreRequest)
-                                .backoffDelay(DELAY_CONSTANT)
+                                .backoffDelay(stabilizer.delay())
                                 .makeServiceCall(this::createDatastore)
-                                .progress())
+                                .stabilize(this::stabilizedOnCreate)
+                                .done(response -> created(model, request, callbackContext, response.datastoreArn())))
+                // Only reached when the ARN could not be worked out locally.
                 .then(progress ->
-                        new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        new ReadHandler(true).handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
     }
 
     private CreateDatastoreResponse createDatastore(final CreateDatastoreRequest request, final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final CreateDatastoreResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
-                    proxyClient.client()::createDatastore);
-            logger.log(String.format("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.datastoreName()));
+            stabilizer.start();
+            final CreateDatastoreResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(request,
+                            proxyClient.client()::createDatastore));
+            log.info("%s [%s] successfully created", ResourceModel.TYPE_NAME, request.datastoreName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e.toString()));
+            log.error("%s [%s] fail to be created: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -74,4 +88,47 @@ public class CreateHandler extends BaseIoTAnalyticsHandler {
             );
         }
     }
+
+    /**
+     * The create request holds every property of the datastore, the service only computes its ARN. The ARN comes with
+     * the create response, or follows from the account and region of the request; if neither has it, the create
+     * stays in progress and the datastore is read back.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> created(
+            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final String datastoreArn) {
+        final String arn = datastoreArn != null ? datastoreArn : Translator.translateToDatastoreArn(model, request);
+        if (arn == null) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        model.setId(arn);
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, model.getDatastoreName(), arn);
+        DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatastoreName());
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
+    private boolean stabilizedOnCreate(
+            final CreateDatastoreRequest request,
+            final CreateDatastoreResponse response,
+            final ProxyClient<IoTAnalyticsClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+        // The create response only carries the ARN once the datastore exists, so there is nothing to probe.
+        if (response.datastoreArn() != null) {
+            return stabilizer.stabilized();
+        }
+        try {
+            final DescribeDatastoreRequest describeDatastoreRequest = Translator.translateToDescribeDatastoreRequest(model);
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeDatastoreRequest, proxyClient.client()::describeDatastore));
+            return stabilizer.stabilized();
+        } catch (final ResourceNotFoundException e) {
+            log.sampled(HandlerLogger.Level.INFO, "%s [%s] not found yet after creating", ResourceModel.TYPE_NAME, request.datastoreName());
+            return false;
+        } catch (final IoTAnalyticsException e) {
+            throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getDatastoreName());
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package com.amazonaws.iotanalytics.datastore;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreResponse;
@@ -17,7 +22,8 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler{
     private static final String OPERATION = "DeleteDatastore";
     private static final String OPERATION_READ = "DeleteDatastore_Read";
 
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
     private AmazonWebServicesClientProxy proxy;
 
     @Override
@@ -28,28 +34,35 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler{
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
         this.proxy = proxy;
         final ResourceModel model = request.getDesiredResourceState();
 
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteDatastoreRequest)
-                .backoffDelay(DELAY_CONSTANT)
+                .backoffDelay(stabilizer.delay())
                 .makeServiceCall(this::deleteDatastore)
                 .stabilize(this::stabilizedOnDelete)
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+                .done(response -> {
+                    ArnCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatastoreName());
+                    DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatastoreName());
+                    return ProgressEvent.defaultSuccessHandler(null);
+                });
     }
 
     private DeleteDatastoreResponse deleteDatastore(final DeleteDatastoreRequest request,
                                                     final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            DeleteDatastoreResponse response = proxy.injectCredentialsAndInvokeV2(
-                    request,
-                    proxyClient.client()::deleteDatastore);
-            logger.log(String.format("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.datastoreName()));
+            stabilizer.start();
+            DeleteDatastoreResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxy.injectCredentialsAndInvokeV2(
+                            request,
+                            proxyClient.client()::deleteDatastore));
+            log.info("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.datastoreName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e.toString()));
+            log.error("%s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -65,11 +78,12 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler{
             final CallbackContext callbackContext) {
         try {
             final DescribeDatastoreRequest describeDatastoreRequest = DescribeDatastoreRequest.builder().datastoreName(model.getDatastoreName()).build();
-            proxy.injectCredentialsAndInvokeV2(describeDatastoreRequest, proxyClient.client()::describeDatastore);
-            logger.log(String.format("ERROR %s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.datastoreName()));
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxy.injectCredentialsAndInvokeV2(describeDatastoreRequest, proxyClient.client()::describeDatastore));
+            log.sampled(HandlerLogger.Level.ERROR, "%s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.datastoreName());
             return false;
         } catch (final ResourceNotFoundException e) {
-            return true;
+            return stabilizer.stabilized();
         } catch (final IoTAnalyticsException e) {
             throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getDatastoreName());
         }
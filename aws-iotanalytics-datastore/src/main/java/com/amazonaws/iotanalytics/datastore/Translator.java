@@ -1,5 +1,7 @@
 package com.amazonaws.iotanalytics.datastore;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.ExceptionTranslator;
 import com.amazonaws.util.StringUtils;
 import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.iotanalytics.model.Column;
@@ -14,41 +16,56 @@ import software.amazon.awssdk.services.iotanalytics.model.DeleteDatastoreRequest
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreResponse;
 import software.amazon.awssdk.services.iotanalytics.model.FileFormatConfiguration;
-import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.awssdk.services.iotanalytics.model.IotSiteWiseCustomerManagedDatastoreS3Storage;
 import software.amazon.awssdk.services.iotanalytics.model.JsonConfiguration;
-import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.ParquetConfiguration;
 import software.amazon.awssdk.services.iotanalytics.model.Partition;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iotanalytics.model.RetentionPeriod;
 import software.amazon.awssdk.services.iotanalytics.model.ServiceManagedDatastoreS3Storage;
 import software.amazon.awssdk.services.iotanalytics.model.SchemaDefinition;
-import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iotanalytics.model.Tag;
-import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.TimestampPartition;
 import software.amazon.awssdk.services.iotanalytics.model.UpdateDatastoreRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 class Translator {
+    private static final String ARN_FORMAT = "arn:%s:iotanalytics:%s:%s:datastore/%s";
+    private static final String DEFAULT_PARTITION = "aws";
+
     private Translator() {}
+
+    /**
+     * Returns the datastore ARN without calling the service: the model's Id when it is set, otherwise the ARN
+     * built from the request's region and account, otherwise the {@link ArnCache cached} ARN for its
+     * name. Returns null when none is available.
+     */
+    @Nullable
+    static String translateToDatastoreArn(final ResourceModel model,
+                                          final ResourceHandlerRequest<ResourceModel> request) {
+        if (!StringUtils.isNullOrEmpty(model.getId())) {
+            return model.getId();
+        }
+        if (StringUtils.isNullOrEmpty(model.getDatastoreName())) {
+            return null;
+        }
+        if (StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(request.getAwsAccountId())) {
+            return ArnCache.shared().get(ResourceModel.TYPE_NAME, request, model.getDatastoreName());
+        }
+        final String partition = StringUtils.isNullOrEmpty(request.getAwsPartition())
+                ? DEFAULT_PARTITION : request.getAwsPartition();
+        return String.format(ARN_FORMAT, partition, request.getRegion(), request.getAwsAccountId(), model.getDatastoreName());
+    }
+
     static ResourceModel translateFromDescribeResponse(final DescribeDatastoreResponse describeDatastoreResponse,
                                                        final ListTagsForResourceResponse listTagsForResourceResponse) {
         final Datastore datastore = describeDatastoreResponse.datastore();
@@ -97,26 +114,7 @@ class Translator {
             final String operation,
             @Nullable final String name
     ) {
-        if (e instanceof ResourceAlreadyExistsException) {
-            return new CfnAlreadyExistsException(e);
-        } else if (e instanceof ResourceNotFoundException) {
-            if(StringUtils.isNullOrEmpty(name)) return new CfnNotFoundException(e);
-            return new CfnNotFoundException(ResourceModel.TYPE_NAME, name);
-        } else if (e instanceof InvalidRequestException) {
-            return new CfnInvalidRequestException(e.getMessage(), e);
-        } else if (e instanceof ThrottlingException) {
-            return new CfnThrottlingException(operation, e);
-        } else if (e instanceof ServiceUnavailableException) {
-            return new CfnGeneralServiceException(operation, e);
-        } else if (e instanceof LimitExceededException) {
-            return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage());
-        } else {
-            if (e.awsErrorDetails() != null
-                    && "AccessDeniedException".equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
-                return new CfnAccessDeniedException(operation, e);
-            }
-            return new CfnServiceInternalErrorException(operation, e);
-        }
+        return ExceptionTranslator.translate(e, operation, ResourceModel.TYPE_NAME, name);
     }
 
     private static com.amazonaws.iotanalytics.datastore.DatastoreStorage translateDatastoreStorageToCfn(
@@ -256,27 +254,30 @@ class Translator {
         final com.amazonaws.iotanalytics.datastore.DatastorePartitions.DatastorePartitionsBuilder builder =
                 com.amazonaws.iotanalytics.datastore.DatastorePartitions.builder();
         if (datastorePartitions.partitions() != null) {
-            builder.partitions(datastorePartitions.partitions().stream().map(par -> {
-                final com.amazonaws.iotanalytics.datastore.DatastorePartition.DatastorePartitionBuilder dpBuilder =
-                        com.amazonaws.iotanalytics.datastore.DatastorePartition.builder();
-                if (par.attributePartition() != null) {
-                    dpBuilder.partition(com.amazonaws.iotanalytics.datastore.Partition.builder()
-                            .attributeName(par.attributePartition().attributeName())
-                            .build());
-                }
-                if (par.timestampPartition() != null) {
-                    dpBuilder.timestampPartition(com.amazonaws.iotanalytics.datastore.TimestampPartition.builder()
-                            .attributeName(par.timestampPartition().attributeName())
-                            .timestampFormat(par.timestampPartition().timestampFormat())
-                            .build());
-                }
-                return dpBuilder.build();
-            })
-                    .collect(Collectors.toList()));
+            builder.partitions(translateList(datastorePartitions.partitions(), Translator::translateDatastorePartitionToCfn));
         }
         return builder.build();
     }
 
+    private static com.amazonaws.iotanalytics.datastore.DatastorePartition translateDatastorePartitionToCfn(
+            @Nonnull final DatastorePartition par
+    ) {
+        final com.amazonaws.iotanalytics.datastore.DatastorePartition.DatastorePartitionBuilder dpBuilder =
+                com.amazonaws.iotanalytics.datastore.DatastorePartition.builder();
+        if (par.attributePartition() != null) {
+            dpBuilder.partition(com.amazonaws.iotanalytics.datastore.Partition.builder()
+                    .attributeName(par.attributePartition().attributeName())
+                    .build());
+        }
+        if (par.timestampPartition() != null) {
+            dpBuilder.timestampPartition(com.amazonaws.iotanalytics.datastore.TimestampPartition.builder()
+                    .attributeName(par.timestampPartition().attributeName())
+                    .timestampFormat(par.timestampPartition().timestampFormat())
+                    .build());
+        }
+        return dpBuilder.build();
+    }
+
     private static DatastorePartitions translateDatastorePartitionsFromCfn(
             @Nullable final com.amazonaws.iotanalytics.datastore.DatastorePartitions cfnDatastorePartitions
     ) {
@@ -285,26 +286,29 @@ class Translator {
         }
         final DatastorePartitions.Builder builder = DatastorePartitions.builder();
         if (cfnDatastorePartitions.getPartitions() != null) {
-            builder.partitions(cfnDatastorePartitions.getPartitions().stream().map(par -> {
-                final DatastorePartition.Builder dpBuilder = DatastorePartition.builder();
-                if (par.getPartition() != null) {
-                    dpBuilder.attributePartition(Partition.builder()
-                            .attributeName(par.getPartition().getAttributeName())
-                            .build());
-                }
-                if (par.getTimestampPartition() != null) {
-                    dpBuilder.timestampPartition(TimestampPartition.builder()
-                            .attributeName(par.getTimestampPartition().getAttributeName())
-                            .timestampFormat(par.getTimestampPartition().getTimestampFormat())
-                            .build());
-                }
-                return dpBuilder.build();
-            })
-                    .collect(Collectors.toList()));
+            builder.partitions(translateList(cfnDatastorePartitions.getPartitions(), Translator::translateDatastorePartitionFromCfn));
         }
         return builder.build();
     }
 
+    private static DatastorePartition translateDatastorePartitionFromCfn(
+            @Nonnull final com.amazonaws.iotanalytics.datastore.DatastorePartition par
+    ) {
+        final DatastorePartition.Builder dpBuilder = DatastorePartition.builder();
+        if (par.getPartition() != null) {
+            dpBuilder.attributePartition(Partition.builder()
+                    .attributeName(par.getPartition().getAttributeName())
+                    .build());
+        }
+        if (par.getTimestampPartition() != null) {
+            dpBuilder.timestampPartition(TimestampPartition.builder()
+                    .attributeName(par.getTimestampPartition().getAttributeName())
+                    .timestampFormat(par.getTimestampPartition().getTimestampFormat())
+                    .build());
+        }
+        return dpBuilder.build();
+    }
+
     @VisibleForTesting
     static com.amazonaws.iotanalytics.datastore.SchemaDefinition translateSchemaDefinitionToCfn(
             @Nullable final SchemaDefinition schemaDefinition
@@ -315,12 +319,11 @@ class Translator {
         final com.amazonaws.iotanalytics.datastore.SchemaDefinition.SchemaDefinitionBuilder builder =
                 com.amazonaws.iotanalytics.datastore.SchemaDefinition.builder();
         if (schemaDefinition.columns() != null) {
-            builder.columns(schemaDefinition.columns().stream().map(column ->
+            builder.columns(translateList(schemaDefinition.columns(), column ->
                     com.amazonaws.iotanalytics.datastore.Column.builder()
                             .name(column.name())
                             .type(column.type())
-                            .build())
-                    .collect(Collectors.toList()));
+                            .build()));
         }
         return builder.build();
     }
@@ -334,12 +337,11 @@ class Translator {
         }
         final SchemaDefinition.Builder builder = SchemaDefinition.builder();
         if (cfnSchemaDefinition.getColumns() != null) {
-            builder.columns(cfnSchemaDefinition.getColumns().stream().map(column ->
+            builder.columns(translateList(cfnSchemaDefinition.getColumns(), column ->
                     Column.builder()
                             .name(column.getName())
                             .type(column.getType())
-                            .build())
-                    .collect(Collectors.toList()));
+                            .build()));
         }
         return builder.build();
     }
@@ -348,12 +350,10 @@ class Translator {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
-        return tags.stream().map((tag ->
-                com.amazonaws.iotanalytics.datastore.Tag.builder()
-                        .key(tag.key())
-                        .value(tag.value())
-                        .build()))
-                .collect(Collectors.toList());
+        return translateList(tags, tag -> com.amazonaws.iotanalytics.datastore.Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build());
     }
 
     private static List<Tag> translateTagListsFromCfn(
@@ -362,12 +362,25 @@ class Translator {
         if (cfnTagList == null) {
             return null;
         } else {
-            return cfnTagList.stream().map(tag ->
-                    Tag.builder()
-                            .key(tag.getKey())
-                            .value(tag.getValue())
-                            .build()
-            ).collect(Collectors.toList());
+            return translateList(cfnTagList, tag -> Tag.builder()
+                    .key(tag.getKey())
+                    .value(tag.getValue())
+                    .build());
+        }
+    }
+
+    /**
+     * Translates the non-null elements of {@code source} into a list presized to hold all of them. Cheaper than a
+     * stream pipeline: no spliterator, pipeline stages or collector, and the result is never resized.
+     */
+    private static <S, T> List<T> translateList(@Nonnull final List<S> source,
+                                                @Nonnull final Function<S, T> translator) {
+        final List<T> translated = new ArrayList<>(source.size());
+        for (final S element : source) {
+            if (element != null) {
+                translated.add(translator.apply(element));
+            }
         }
+        return translated;
     }
 }
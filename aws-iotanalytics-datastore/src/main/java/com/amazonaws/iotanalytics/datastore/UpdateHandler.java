@@ -1,11 +1,19 @@
 package com.amazonaws.iotanalytics.datastore;
 
-import com.google.common.collect.Sets;
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.BackoffDelays;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.ModelDiff;
+import com.amazonaws.iotanalytics.common.TagReconciler;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DescribeDatastoreResponse;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.TagResourceRequest;
 import software.amazon.awssdk.services.iotanalytics.model.TagResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.UntagResourceRequest;
@@ -19,25 +27,21 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseIoTAnalyticsHandler {
     private static final String OPERATION_DATASTORE = "UpdateDatastore";
     private static final String OPERATION_DELETE_TAG = "UpdateDatastore_DeleteTags";
     private static final String OPERATION_ADD_TAG = "UpdateDatastore_AddTags";
+    private static final String OPERATION_LIST_TAGS = "UpdateDatastore_ListTags";
     private static final String OPERATION_DESCRIBE = "DescribeDatastore";
 
     private static final String CALL_GRAPH_DATASTORE = "AWS-IoTAnalytics-Datastore::Update";
     private static final String CALL_GRAPH_DELETE_TAG = "AWS-IoTAnalytics-Datastore::Update-Delete-Tag";
     private static final String CALL_GRAPH_ADD_TAG = "AWS-IoTAnalytics-Datastore::Update-Add-Tag";
-    private Logger logger;
+    private HandlerLogger log;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -46,7 +50,7 @@ public class UpdateHandler extends BaseIoTAnalyticsHandler {
         final CallbackContext callbackContext,
         final ProxyClient<IoTAnalyticsClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
 
         final ResourceModel prevModel = request.getPreviousResourceState();
         final ResourceModel newModel = request.getDesiredResourceState();
@@ -68,28 +72,60 @@ public class UpdateHandler extends BaseIoTAnalyticsHandler {
             }
         }
 
+        if (StringUtils.isEmpty(newModel.getId())) {
+            // Id is read-only, so the previous ARN still applies and spares the tag updates a describe call and the
+            // update its final read.
+            newModel.setId(Translator.translateToDatastoreArn(prevModel, request));
+        }
+
+        // Tags are updated separately and Id is read-only, so without other changes the datastore is left as it is.
+        final ModelDiff diff = ModelDiff.between(prevModel, newModel).ignoring("Id", "Tags");
+        if (diff.isEmpty()) {
+            log.info("%s [%s] has no changes besides tags, skipping UpdateDatastore", ResourceModel.TYPE_NAME, newModel.getDatastoreName());
+        }
+
         return ProgressEvent.progress(newModel, callbackContext)
-                .then(progress ->
+                .then(progress -> diff.isEmpty() ? progress :
                         proxy.initiate(CALL_GRAPH_DATASTORE, proxyClient, newModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToUpdateDatastoreRequest)
-                                .backoffDelay(DELAY_CONSTANT)
+                                .backoffDelay(BackoffDelays.forCallGraph(CALL_GRAPH_DATASTORE, log))
                                 .makeServiceCall(this::updateDatastore)
                                 .progress())
-                .then(progress -> updateTags(proxy, proxyClient, newModel, prevModel, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> updateTags(proxy, request, proxyClient, newModel, prevModel, progress))
+                .then(progress -> updated(newModel, request, progress.getCallbackContext()))
+                // Only reached when the ARN could not be worked out locally.
+                .then(progress ->
+                        new ReadHandler(true).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    /**
+     * The desired model holds every property of the datastore and the tags just reconciled, the service only computes
+     * its ARN. The ARN is carried over from the previous model or was described for the tag updates; if neither
+     * has it, the update stays in progress and the datastore is read back.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updated(
+            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext) {
+        DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getDatastoreName());
+        if (StringUtils.isEmpty(model.getId())) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        return ProgressEvent.defaultSuccessHandler(model);
     }
 
     private UpdateDatastoreResponse updateDatastore(final UpdateDatastoreRequest updateDatastoreRequest,
                                                     final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
             final UpdateDatastoreResponse updateDatastoreResponse
-                    = proxyClient.injectCredentialsAndInvokeV2(
-                    updateDatastoreRequest,
-                    proxyClient.client()::updateDatastore);
-            logger.log(String.format("%s [%s] has successfully been updated", ResourceModel.TYPE_NAME, updateDatastoreRequest.datastoreName()));
+                    = MetricsScope.record(OPERATION_DATASTORE, CALL_GRAPH_DATASTORE,
+                            () -> proxyClient.injectCredentialsAndInvokeV2(
+                                    updateDatastoreRequest,
+                                    proxyClient.client()::updateDatastore));
+            log.info("%s [%s] has successfully been updated", ResourceModel.TYPE_NAME, updateDatastoreRequest.datastoreName());
             return updateDatastoreResponse;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be updated: %s", ResourceModel.TYPE_NAME, updateDatastoreRequest.datastoreName(), e.toString()));
+            log.error("%s [%s] fail to be updated: %s", ResourceModel.TYPE_NAME, updateDatastoreRequest.datastoreName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION_DATASTORE,
@@ -101,20 +137,23 @@ public class UpdateHandler extends BaseIoTAnalyticsHandler {
                                                                                     final ResourceModel model,
                                                                                     final CallbackContext callbackContext,
                                                                                     final HandlerErrorCode errorCode) {
-        logger.log(String.format("ERROR %s [%s] is not updatable", ResourceModel.TYPE_NAME, propertyName));
+        log.error("%s [%s] is not updatable", ResourceModel.TYPE_NAME, propertyName);
         return ProgressEvent.failed(model, callbackContext, errorCode,
                 String.format("%s cannot be updated", propertyName));
     }
 
     private String getDatastoreArn(final DescribeDatastoreRequest request,
+                                 final ResourceHandlerRequest<ResourceModel> handlerRequest,
                                  final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            final DescribeDatastoreResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeDatastore);
+            final DescribeDatastoreResponse response = MetricsScope.record(OPERATION_DESCRIBE, CALL_GRAPH_DATASTORE,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeDatastore));
             final String datastoreArn = response.datastore().arn();
-            logger.log(String.format("Successfully read arn for %s [%s].", ResourceModel.TYPE_NAME, request.datastoreName()));
+            ArnCache.shared().put(ResourceModel.TYPE_NAME, handlerRequest, request.datastoreName(), datastoreArn);
+            log.info("Successfully read arn for %s [%s].", ResourceModel.TYPE_NAME, request.datastoreName());
             return datastoreArn;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] failed to read arn: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e.toString()));
+            log.error("%s [%s] failed to read arn: %s", ResourceModel.TYPE_NAME, request.datastoreName(), e);
             throw com.amazonaws.iotanalytics.datastore.Translator.translateExceptionToHandlerException(
                 e,
                 OPERATION_DESCRIBE,
@@ -124,110 +163,95 @@ public class UpdateHandler extends BaseIoTAnalyticsHandler {
 
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final ResourceModel model,
             final ResourceModel preModel,
             ProgressEvent<ResourceModel, CallbackContext> progress) {
-        final Map<String, String> oldTagsMap = tagListToMap(preModel.getTags());
-        final Map<String, String> newTagsMap = tagListToMap(model.getTags());
-
-        final Map<String, String> tagsToDelete = getTagsToDelete(oldTagsMap, newTagsMap);
-        final Map<String, String> tagsToCreate = getTagsToCreate(oldTagsMap, newTagsMap);
-
-        String datastoreArn = getDatastoreArn(
-            Translator.translateToDescribeDatastoreRequest(model),
-            proxyClient);
-
-        return progress
-                .then(progress1 -> {
-                    if (!tagsToDelete.isEmpty()) {
-                        return proxy.initiate(CALL_GRAPH_DELETE_TAG, proxyClient, model, progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel ->
-                                        UntagResourceRequest
-                                                .builder()
-                                                .resourceArn(datastoreArn)
-                                                .tagKeys(tagsToDelete.keySet())
-                                                .build())
-                                .makeServiceCall(this::deleteTags)
-                                .progress();
-                    }
-                    return progress1;
-                })
-                .then(progress2 -> {
-                    if (!tagsToCreate.isEmpty()) {
-                        return proxy.initiate(CALL_GRAPH_ADD_TAG, proxyClient, model, progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel ->
-                                        TagResourceRequest
-                                                .builder()
-                                                .resourceArn(datastoreArn)
-                                                .tags(tagsMapToList(tagsToCreate))
-                                                .build())
-                                .makeServiceCall(this::addTags)
-                                .progress();
-                    }
-                    return progress2;
-                });
-    }
+        final Map<String, String> previousTags = TagReconciler.toMap(preModel.getTags(), Tag::getKey, Tag::getValue);
+        final Map<String, String> desiredTags = TagReconciler.toMap(model.getTags(), Tag::getKey, Tag::getValue);
 
-    private Map<String, String> tagListToMap(@Nullable final List<Tag> tagList) {
-        if (tagList != null) {
-            final Map<String, String> tagsMap = new HashMap<>();
-            tagList.forEach(tag -> tagsMap.put(tag.getKey(), tag.getValue()));
-            return tagsMap;
+        if (TagReconciler.reconcile(previousTags, desiredTags).isEmpty()) {
+            return progress;
         }
-        return new HashMap<>();
-    }
 
-    private List<software.amazon.awssdk.services.iotanalytics.model.Tag> tagsMapToList(
-            @Nonnull final Map<String, String> tagsMap) {
-        return tagsMap.entrySet().stream()
-                .map(tag ->
-                        software.amazon.awssdk.services.iotanalytics.model.Tag.builder()
-                                .key(tag.getKey())
-                                .value(tag.getValue())
-                                .build())
-                .collect(Collectors.toList());
-    }
+        // The ARN is normally carried over from the previous model, describing the datastore is only a fallback.
+        final String datastoreArn = StringUtils.isEmpty(model.getId())
+                ? getDatastoreArn(Translator.translateToDescribeDatastoreRequest(model), request, proxyClient)
+                : model.getId();
+        model.setId(datastoreArn);
 
-    private Map<String, String> getTagsToDelete(final Map<String, String> oldTags,
-                                                final Map<String, String> newTags) {
-        final Map<String, String> tags = new HashMap<>();
-        // Get all the tag keys are contained by oldTags and not contained by newTags.
-        // Ex, old {a: 1}, {b: 2}, new {a: 2}
-        // return {b: 2}
-        final Set<String> removedKeys = Sets.difference(oldTags.keySet(), newTags.keySet());
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getTagKeysToRemove() == null) {
+            // Diffing against the live tags leaves out whatever an earlier, partly failed attempt already applied.
+            final TagReconciler tags
+                    = TagReconciler.reconcile(previousTags, desiredTags, listTags(datastoreArn, proxyClient));
+            callbackContext.setTagKeysToRemove(tags.getTagKeysToRemoveInChunks());
+            callbackContext.setTagsToAdd(tags.getTagMapsToAddInChunks());
+        }
 
-        for (final String key : removedKeys) {
-            tags.put(key, oldTags.get(key));
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        final List<List<String>> tagKeyChunks = callbackContext.getTagKeysToRemove();
+        for (int i = 0; i < tagKeyChunks.size(); i++) {
+            final List<String> tagKeys = tagKeyChunks.get(i);
+            final String callGraph = CALL_GRAPH_DELETE_TAG + "-" + i;
+            result = result.then(previous ->
+                    proxy.initiate(callGraph, proxyClient, model, previous.getCallbackContext())
+                            .translateToServiceRequest(resourceModel ->
+                                    UntagResourceRequest
+                                            .builder()
+                                            .resourceArn(datastoreArn)
+                                            .tagKeys(tagKeys)
+                                            .build())
+                            .makeServiceCall((tagRequest, client) -> deleteTags(tagRequest, client, callGraph))
+                            .progress());
         }
-        return tags;
+        final List<Map<String, String>> tagChunks = callbackContext.getTagsToAdd();
+        for (int i = 0; i < tagChunks.size(); i++) {
+            final List<software.amazon.awssdk.services.iotanalytics.model.Tag> tagChunk
+                    = TagReconciler.toSdkTags(tagChunks.get(i));
+            final String callGraph = CALL_GRAPH_ADD_TAG + "-" + i;
+            result = result.then(previous ->
+                    proxy.initiate(callGraph, proxyClient, model, previous.getCallbackContext())
+                            .translateToServiceRequest(resourceModel ->
+                                    TagResourceRequest
+                                            .builder()
+                                            .resourceArn(datastoreArn)
+                                            .tags(tagChunk)
+                                            .build())
+                            .makeServiceCall((tagRequest, client) -> addTags(tagRequest, client, callGraph))
+                            .progress());
+        }
+        return result;
     }
 
-    private Map<String, String> getTagsToCreate(final Map<String, String> oldTags,
-                                                final Map<String, String> newTags) {
-        final Map<String, String> tags = new HashMap<>();
-        // Get all tag elements that are contained by newTags and not by oldTags.
-        // Ex, old {a: 1}, {b: 2}, new {a: 1}, {b: 3}
-        // return {b: 3}
-        final Set<Map.Entry<String, String>> entriesToCreate =
-                Sets.difference(newTags.entrySet(), oldTags.entrySet());
-
-        for (final Map.Entry<String, String> entry : entriesToCreate) {
-            tags.put(entry.getKey(), entry.getValue());
+    private Map<String, String> listTags(final String datastoreArn, final ProxyClient<IoTAnalyticsClient> proxyClient) {
+        final ListTagsForResourceRequest request = ListTagsForResourceRequest.builder().resourceArn(datastoreArn).build();
+        try {
+            final ListTagsForResourceResponse response = MetricsScope.record(OPERATION_LIST_TAGS, CALL_GRAPH_DATASTORE,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listTagsForResource));
+            return TagReconciler.fromSdkTags(response.tags());
+        } catch (final IoTAnalyticsException e) {
+            log.error("%s [%s] fail to be listed tags: %s", ResourceModel.TYPE_NAME, datastoreArn, e);
+            throw Translator.translateExceptionToHandlerException(
+            e,
+            OPERATION_LIST_TAGS,
+            datastoreArn);
         }
-        return tags;
     }
 
     private UntagResourceResponse deleteTags(final UntagResourceRequest untagResourceRequest,
-                                             final ProxyClient<IoTAnalyticsClient> proxyClient) {
+                                             final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                             final String callGraph) {
         try {
             final UntagResourceResponse untagResourceResponse
-                    = proxyClient.injectCredentialsAndInvokeV2(
-                    untagResourceRequest, proxyClient.client()::untagResource);
-            logger.log(String.format("%s [%s] has successfully been removed tags", ResourceModel.TYPE_NAME, untagResourceRequest.resourceArn()));
+                    = MetricsScope.record(OPERATION_DELETE_TAG, callGraph,
+                            () -> proxyClient.injectCredentialsAndInvokeV2(
+                                    untagResourceRequest, proxyClient.client()::untagResource));
+            log.info("%s [%s] has successfully been removed tags", ResourceModel.TYPE_NAME, untagResourceRequest.resourceArn());
             return untagResourceResponse;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be removed tags: %s", ResourceModel.TYPE_NAME, untagResourceRequest.resourceArn(), e.toString()));
+            log.error("%s [%s] fail to be removed tags: %s", ResourceModel.TYPE_NAME, untagResourceRequest.resourceArn(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION_DELETE_TAG,
@@ -236,15 +260,17 @@ public class UpdateHandler extends BaseIoTAnalyticsHandler {
     }
 
     private TagResourceResponse addTags(final TagResourceRequest tagResourceRequest,
-                                        final ProxyClient<IoTAnalyticsClient> proxyClient) {
+                                        final ProxyClient<IoTAnalyticsClient> proxyClient,
+                                        final String callGraph) {
         try {
             final TagResourceResponse tagResourceResponse
-                    = proxyClient.injectCredentialsAndInvokeV2(
-                    tagResourceRequest, proxyClient.client()::tagResource);
-            logger.log(String.format("%s [%s] has successfully been added tags", ResourceModel.TYPE_NAME, tagResourceRequest.resourceArn()));
+                    = MetricsScope.record(OPERATION_ADD_TAG, callGraph,
+                            () -> proxyClient.injectCredentialsAndInvokeV2(
+                                    tagResourceRequest, proxyClient.client()::tagResource));
+            log.info("%s [%s] has successfully been added tags", ResourceModel.TYPE_NAME, tagResourceRequest.resourceArn());
             return tagResourceResponse;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be added tags: %s", ResourceModel.TYPE_NAME, tagResourceRequest.resourceArn(), e.toString()));
+            log.error("%s [%s] fail to be added tags: %s", ResourceModel.TYPE_NAME, tagResourceRequest.resourceArn(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION_ADD_TAG,
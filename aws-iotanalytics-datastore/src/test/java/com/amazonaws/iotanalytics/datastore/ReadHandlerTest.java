@@ -226,4 +226,37 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeDatastore(any(DescribeDatastoreRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_handleRequest_THEN_list_tags_with_computed_arn() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().datastoreName(TEST_DATASTORE_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        when(proxyClient.client().describeDatastore(describeDatastoreRequestArgumentCaptor.capture()))
+                .thenReturn(describeDatastoreResponse);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(describeDatastoreRequestArgumentCaptor.getValue().datastoreName()).isEqualTo(TEST_DATASTORE_NAME);
+        assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
+                .isEqualTo("arn:aws:iotanalytics:us-east-1:123456789012:datastore/" + TEST_DATASTORE_NAME);
+        verify(proxyClient.client(), times(1)).describeDatastore(any(DescribeDatastoreRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDatastoreName()).isEqualTo(TEST_DATASTORE_NAME);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASTORE_ID);
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
 }
@@ -1,14 +1,25 @@
 package com.amazonaws.iotanalytics.datastore;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 
 public class TranslatorTest {
+
+    @BeforeEach
+    public void setUp() {
+        ArnCache.shared().invalidateAll();
+    }
+
     @Test
     public void testSchemaDefinitionTranslation() {
         assertThat(Translator.translateSchemaDefinitionToCfn(null)).isNull();
@@ -31,4 +42,66 @@ public class TranslatorTest {
                 "operation",
                 "name") instanceof CfnAccessDeniedException).isTrue();
     }
+
+    @Test
+    public void GIVEN_model_id_WHEN_call_translateToDatastoreArn_THEN_return_id() {
+        final ResourceModel model = ResourceModel.builder().datastoreName("name").id("id").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        assertThat(Translator.translateToDatastoreArn(model, request)).isEqualTo("id");
+    }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_translateToDatastoreArn_THEN_return_arn() {
+        final ResourceModel model = ResourceModel.builder().datastoreName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("cn-north-1")
+                .awsAccountId("123456789012")
+                .awsPartition("aws-cn")
+                .build();
+        assertThat(Translator.translateToDatastoreArn(model, request))
+                .isEqualTo("arn:aws-cn:iotanalytics:cn-north-1:123456789012:datastore/name");
+    }
+
+    @Test
+    public void GIVEN_no_region_WHEN_call_translateToDatastoreArn_THEN_return_null() {
+        final ResourceModel model = ResourceModel.builder().datastoreName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        assertThat(Translator.translateToDatastoreArn(model, request)).isNull();
+    }
+
+    @Test
+    public void GIVEN_no_region_and_cached_arn_WHEN_call_translateToDatastoreArn_THEN_return_cached_arn() {
+        final ResourceModel model = ResourceModel.builder().datastoreName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, "name", "arn");
+        assertThat(Translator.translateToDatastoreArn(model, request)).isEqualTo("arn");
+    }
+
+    @Test
+    public void GIVEN_null_column_WHEN_call_translateSchemaDefinitionFromCfn_THEN_skip_it_and_keep_order() {
+        final SchemaDefinition cfnSchemaDefinition = SchemaDefinition.builder()
+                .columns(Arrays.asList(
+                        Column.builder().name("col1").type("string").build(),
+                        null,
+                        Column.builder().name("col2").type("bigint").build()))
+                .build();
+
+        final software.amazon.awssdk.services.iotanalytics.model.SchemaDefinition schemaDefinition =
+                Translator.translateSchemaDefinitionFromCfn(cfnSchemaDefinition);
+
+        assertThat(schemaDefinition.columns()).containsExactly(
+                software.amazon.awssdk.services.iotanalytics.model.Column.builder().name("col1").type("string").build(),
+                software.amazon.awssdk.services.iotanalytics.model.Column.builder().name("col2").type("bigint").build());
+        assertThat(Translator.translateSchemaDefinitionToCfn(schemaDefinition).getColumns())
+                .containsExactly(cfnSchemaDefinition.getColumns().get(0), cfnSchemaDefinition.getColumns().get(2));
+    }
 }
@@ -67,9 +67,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Captor
     private ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
 
-    @Captor
-    private ArgumentCaptor<DescribeDatastoreRequest> describeDatastoreRequestArgumentCaptor;
-
     @Captor
     private ArgumentCaptor<ListTagsForResourceRequest> listTagsForResourceRequestArgumentCaptor;
 
@@ -78,9 +75,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private ResourceModel newModel;
     private DescribeDatastoreResponse describeDatastoreResponseFull;
     private ListTagsForResourceResponse listTagsForResourceResponseFull;
-    private DescribeDatastoreResponse describeDatastoreResponseSimple;
     private ListTagsForResourceResponse listTagsForResourceResponseSimple;
 
+    private ListTagsForResourceResponse listTagsForResourceResponsePrevious;
+
     @BeforeEach
     public void setup() {
         super.setUp();
@@ -130,11 +128,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY3).value(TEST_VALUE3).build()))
                 .build();
 
-        describeDatastoreResponseSimple = DescribeDatastoreResponse.builder()
-                .datastore(Datastore.builder().name(TEST_DATASTORE_NAME).build())
-                .build();
-
         listTagsForResourceResponseSimple = ListTagsForResourceResponse.builder().build();
+
+        listTagsForResourceResponsePrevious = ListTagsForResourceResponse.builder()
+                .tags(Arrays.asList(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build(),
+                        software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
     }
 
     @Test
@@ -151,9 +150,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture())).thenReturn(TagResourceResponse.builder().build());
 
-        when(proxyClient.client().describeDatastore(describeDatastoreRequestArgumentCaptor.capture())).thenReturn(describeDatastoreResponseFull);
-
-        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture())).thenReturn(listTagsForResourceResponseFull);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture())).thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -183,9 +180,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(untagResourceRequest.tagKeys().size()).isEqualTo(1);
         assertThat(untagResourceRequest.tagKeys().contains(TEST_KEY1)).isTrue();
 
-        assertThat(describeDatastoreRequestArgumentCaptor.getValue().datastoreName()).isEqualTo(TEST_DATASTORE_NAME);
-
         assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_DATASTORE_ARN);
+        verify(proxyClient.client(), never()).describeDatastore(any(DescribeDatastoreRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -199,17 +195,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASTORE_ID);
         assertThat(response.getResourceModel().getDatastoreStorage().getCustomerManagedS3()).isNull();
         assertThat(response.getResourceModel().getDatastoreStorage().getServiceManagedS3()).isNotNull();
-        assertThat(response.getResourceModel().getRetentionPeriod().getNumberOfDays()).isEqualTo(TEST_DAYS);
+        assertThat(response.getResourceModel().getRetentionPeriod()).isNull();
         assertThat(response.getResourceModel().getFileFormatConfiguration().getParquetConfiguration()).isNull();
         assertThat(response.getResourceModel().getFileFormatConfiguration().getJsonConfiguration()).isNotNull();
 
-        assertThat(response.getResourceModel().getTags().size()).isEqualTo(3);
-        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY1);
-        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE1);
+        assertThat(response.getResourceModel().getTags().size()).isEqualTo(2);
+        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY3);
+        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE3);
         assertThat(response.getResourceModel().getTags().get(1).getKey()).isEqualTo(TEST_KEY2);
         assertThat(response.getResourceModel().getTags().get(1).getValue()).isEqualTo(TEST_VALUE22);
-        assertThat(response.getResourceModel().getTags().get(2).getKey()).isEqualTo(TEST_KEY3);
-        assertThat(response.getResourceModel().getTags().get(2).getValue()).isEqualTo(TEST_VALUE3);
     }
 
     @Test
@@ -400,19 +394,16 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .previousResourceState(preModel)
                 .build();
 
-        when(proxyClient.client().describeDatastore(any(DescribeDatastoreRequest.class))).thenReturn(describeDatastoreResponseSimple);
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseSimple);
-
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         // THEN
-        verify(proxyClient.client(), times(1)).updateDatastore(any(UpdateDatastoreRequest.class));
+        verify(proxyClient.client(), never()).updateDatastore(any(UpdateDatastoreRequest.class));
         verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeDatastore(any(DescribeDatastoreRequest.class));
-        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), never()).describeDatastore(any(DescribeDatastoreRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -423,12 +414,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getResourceModel().getTags()).isNull();
         assertThat(response.getResourceModel().getDatastoreName()).isEqualTo(TEST_DATASTORE_NAME);
-        assertThat(response.getResourceModel().getDatastoreStorage().getCustomerManagedS3()).isNull();
-        assertThat(response.getResourceModel().getDatastoreStorage().getServiceManagedS3()).isNotNull();
+        assertThat(response.getResourceModel().getDatastoreStorage()).isNull();
         assertThat(response.getResourceModel().getRetentionPeriod()).isNull();
-        assertThat(response.getResourceModel().getFileFormatConfiguration().getJsonConfiguration()).isNotNull();
-        assertThat(response.getResourceModel().getFileFormatConfiguration().getParquetConfiguration()).isNull();
-
+        assertThat(response.getResourceModel().getFileFormatConfiguration()).isNull();
     }
 
     @Test
@@ -463,7 +451,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().updateDatastore(any(UpdateDatastoreRequest.class))).thenReturn(UpdateDatastoreResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenThrow(LimitExceededException.builder().build());
-        when(proxyClient.client().describeDatastore(any(DescribeDatastoreRequest.class))).thenReturn(describeDatastoreResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnServiceLimitExceededException.class,
@@ -471,9 +460,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).updateDatastore(any(UpdateDatastoreRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
-        verify(proxyClient.client(), times(1)).describeDatastore(any(DescribeDatastoreRequest.class));
+        verify(proxyClient.client(), never()).describeDatastore(any(DescribeDatastoreRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -487,7 +476,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().updateDatastore(any(UpdateDatastoreRequest.class))).thenReturn(UpdateDatastoreResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(ServiceUnavailableException.builder().build());
-        when(proxyClient.client().describeDatastore(any(DescribeDatastoreRequest.class))).thenReturn(describeDatastoreResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnGeneralServiceException.class,
@@ -496,7 +486,77 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).updateDatastore(any(UpdateDatastoreRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).describeDatastore(any(DescribeDatastoreRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_previous_model_without_id_WHEN_call_handleRequest_THEN_describe_for_tag_arn() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder()
+                .datastoreName(TEST_DATASTORE_NAME)
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .datastoreName(TEST_DATASTORE_NAME)
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describeDatastore(any(DescribeDatastoreRequest.class)))
+                .thenReturn(describeDatastoreResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        verify(proxyClient.client(), never()).updateDatastore(any(UpdateDatastoreRequest.class));
+        // The ARN described for the tag updates also ends up in the returned model, so there is no final read.
         verify(proxyClient.client(), times(1)).describeDatastore(any(DescribeDatastoreRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_DATASTORE_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_DATASTORE_ARN);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASTORE_ARN);
+    }
+
+    @Test
+    public void GIVEN_no_arn_to_carry_over_WHEN_call_handleRequest_THEN_read_back() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().datastoreName(TEST_DATASTORE_NAME).build();
+        final ResourceModel newModel = ResourceModel.builder().datastoreName(TEST_DATASTORE_NAME).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().describeDatastore(any(DescribeDatastoreRequest.class))).thenReturn(describeDatastoreResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseFull);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateDatastore(any(UpdateDatastoreRequest.class));
+        verify(proxyClient.client(), times(1)).describeDatastore(any(DescribeDatastoreRequest.class));
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_DATASTORE_ARN);
+        assertThat(response.getResourceModel().getTags()).hasSize(3);
     }
 }
@@ -0,0 +1,48 @@
+package com.amazonaws.iotanalytics.pipeline;
+
+import software.amazon.awssdk.services.iotanalytics.model.PipelineActivity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Translates one kind of pipeline activity in both directions. {@code S} is the SDK activity (e.g.
+ * ChannelActivity) and {@code C} the resource model activity (e.g. Channel). Each side is read through its
+ * accessor, so a codec answers null for an activity of another kind.
+ */
+final class ActivityCodec<S, C> {
+    private final Function<PipelineActivity, S> sdkAccessor;
+    private final Function<Activity, C> cfnAccessor;
+    private final Function<S, Activity> toCfn;
+    private final Function<C, PipelineActivity> fromCfn;
+
+    private ActivityCodec(final Function<PipelineActivity, S> sdkAccessor,
+                          final Function<Activity, C> cfnAccessor,
+                          final Function<S, Activity> toCfn,
+                          final Function<C, PipelineActivity> fromCfn) {
+        this.sdkAccessor = sdkAccessor;
+        this.cfnAccessor = cfnAccessor;
+        this.toCfn = toCfn;
+        this.fromCfn = fromCfn;
+    }
+
+    static <S, C> ActivityCodec<S, C> of(@Nonnull final Function<PipelineActivity, S> sdkAccessor,
+                                         @Nonnull final Function<Activity, C> cfnAccessor,
+                                         @Nonnull final Function<S, Activity> toCfn,
+                                         @Nonnull final Function<C, PipelineActivity> fromCfn) {
+        return new ActivityCodec<>(sdkAccessor, cfnAccessor, toCfn, fromCfn);
+    }
+
+    @Nullable
+    Activity toCfn(@Nonnull final PipelineActivity pipelineActivity) {
+        final S activity = sdkAccessor.apply(pipelineActivity);
+        return activity == null ? null : toCfn.apply(activity);
+    }
+
+    @Nullable
+    PipelineActivity fromCfn(@Nonnull final Activity cfnActivity) {
+        final C activity = cfnAccessor.apply(cfnActivity);
+        return activity == null ? null : fromCfn.apply(activity);
+    }
+}
@@ -2,9 +2,16 @@ package com.amazonaws.iotanalytics.pipeline;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.List;
+import java.util.Map;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // The tag chunks of an update, planned by its first invocation. The calls of the chunks are memoized by index,
+    // so an invocation resuming the update only sends the chunks that did not go through.
+    private List<List<String>> tagKeysToRemove;
+    private List<Map<String, String>> tagsToAdd;
 }
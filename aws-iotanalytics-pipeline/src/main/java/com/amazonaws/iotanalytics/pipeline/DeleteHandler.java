@@ -1,5 +1,10 @@
 package com.amazonaws.iotanalytics.pipeline;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.DescribeCache;
+import com.amazonaws.iotanalytics.common.HandlerLogger;
+import com.amazonaws.iotanalytics.common.MetricsScope;
+import com.amazonaws.iotanalytics.common.Stabilizer;
 import software.amazon.awssdk.services.iotanalytics.IoTAnalyticsClient;
 import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineRequest;
 import software.amazon.awssdk.services.iotanalytics.model.DeletePipelineResponse;
@@ -16,7 +21,8 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
     private static final String CALL_GRAPH = "AWS-IoTAnalytics-Pipeline::Delete";
     private static final String OPERATION = "DeletePipeline";
     private static final String OPERATION_READ = "DeletePipeline_Read";
-    private Logger logger;
+    private HandlerLogger log;
+    private Stabilizer stabilizer;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -25,28 +31,35 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext,
             final ProxyClient<IoTAnalyticsClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
+        this.log = HandlerLogger.of(logger);
+        this.stabilizer = Stabilizer.forCallGraph(CALL_GRAPH, log);
 
         final ResourceModel model = request.getDesiredResourceState();
 
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeletePipelineRequest)
-                .backoffDelay(DELAY_CONSTANT)
+                .backoffDelay(stabilizer.delay())
                 .makeServiceCall(this::deletePipeline)
                 .stabilize(this::stabilizedOnDelete)
-                .done(response -> ProgressEvent.defaultSuccessHandler(null));
+                .done(response -> {
+                    ArnCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getPipelineName());
+                    DescribeCache.shared().invalidate(ResourceModel.TYPE_NAME, request, model.getPipelineName());
+                    return ProgressEvent.defaultSuccessHandler(null);
+                });
     }
 
     private DeletePipelineResponse deletePipeline(final DeletePipelineRequest request,
                                                  final ProxyClient<IoTAnalyticsClient> proxyClient) {
         try {
-            DeletePipelineResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request,
-                    proxyClient.client()::deletePipeline);
-            logger.log(String.format("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.pipelineName()));
+            stabilizer.start();
+            DeletePipelineResponse response = MetricsScope.record(OPERATION, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(
+                            request,
+                            proxyClient.client()::deletePipeline));
+            log.info("%s [%s] successfully deleted", ResourceModel.TYPE_NAME, request.pipelineName());
             return response;
         } catch (final IoTAnalyticsException e) {
-            logger.log(String.format("ERROR %s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.pipelineName(), e.toString()));
+            log.error("%s [%s] fail to be deleted: %s", ResourceModel.TYPE_NAME, request.pipelineName(), e);
             throw Translator.translateExceptionToHandlerException(
                     e,
                     OPERATION,
@@ -62,11 +75,12 @@ public class DeleteHandler extends BaseIoTAnalyticsHandler {
             final CallbackContext callbackContext) {
         try {
             final DescribePipelineRequest describePipelineRequest = DescribePipelineRequest.builder().pipelineName(model.getPipelineName()).build();
-            proxyClient.injectCredentialsAndInvokeV2(describePipelineRequest, proxyClient.client()::describePipeline);
-            logger.log(String.format("ERROR %s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.pipelineName()));
+            MetricsScope.record(OPERATION_READ, CALL_GRAPH,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describePipelineRequest, proxyClient.client()::describePipeline));
+            log.sampled(HandlerLogger.Level.ERROR, "%s [%s] still exists after deleting", ResourceModel.TYPE_NAME, request.pipelineName());
             return false;
         } catch (final ResourceNotFoundException e) {
-            return true;
+            return stabilizer.stabilized();
         } catch (final IoTAnalyticsException e) {
             throw Translator.translateExceptionToHandlerException(e, OPERATION_READ, model.getPipelineName());
         }
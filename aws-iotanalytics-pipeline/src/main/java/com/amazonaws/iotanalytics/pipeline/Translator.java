@@ -1,6 +1,9 @@
 package com.amazonaws.iotanalytics.pipeline;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import com.amazonaws.iotanalytics.common.ExceptionTranslator;
 import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.iotanalytics.model.AddAttributesActivity;
 import software.amazon.awssdk.services.iotanalytics.model.ChannelActivity;
 import software.amazon.awssdk.services.iotanalytics.model.CreatePipelineRequest;
@@ -11,43 +14,86 @@ import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineRespon
 import software.amazon.awssdk.services.iotanalytics.model.DeviceRegistryEnrichActivity;
 import software.amazon.awssdk.services.iotanalytics.model.DeviceShadowEnrichActivity;
 import software.amazon.awssdk.services.iotanalytics.model.FilterActivity;
-import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
 import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.awssdk.services.iotanalytics.model.LambdaActivity;
-import software.amazon.awssdk.services.iotanalytics.model.LimitExceededException;
 import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iotanalytics.model.MathActivity;
 import software.amazon.awssdk.services.iotanalytics.model.Pipeline;
 import software.amazon.awssdk.services.iotanalytics.model.PipelineActivity;
 import software.amazon.awssdk.services.iotanalytics.model.RemoveAttributesActivity;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceAlreadyExistsException;
-import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iotanalytics.model.SelectAttributesActivity;
-import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iotanalytics.model.Tag;
-import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.UpdatePipelineRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 class Translator {
+    private static final String ARN_FORMAT = "arn:%s:iotanalytics:%s:%s:pipeline/%s";
+    private static final String DEFAULT_PARTITION = "aws";
+
+    /**
+     * One codec per activity kind, in the order the kinds are probed. A new activity type only needs its pair of
+     * translators and an entry here.
+     */
+    private static final List<ActivityCodec<?, ?>> ACTIVITY_CODECS = activityCodecs();
+
     private Translator() {
     }
 
+    private static List<ActivityCodec<?, ?>> activityCodecs() {
+        final List<ActivityCodec<?, ?>> codecs = new ArrayList<>();
+        codecs.add(ActivityCodec.of(PipelineActivity::channel, Activity::getChannel,
+                Translator::translateChannelActivityToCfn, Translator::translateChannelActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::addAttributes, Activity::getAddAttributes,
+                Translator::translateAddAttributesActivityToCfn, Translator::translateAddAttributesActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::removeAttributes, Activity::getRemoveAttributes,
+                Translator::translateRemoveAttributesActivityToCfn, Translator::translateRemoveAttributesActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::selectAttributes, Activity::getSelectAttributes,
+                Translator::translateSelectAttributesActivityToCfn, Translator::translateSelectAttributesActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::deviceRegistryEnrich, Activity::getDeviceRegistryEnrich,
+                Translator::translateDeviceRegistryEnrichActivityToCfn, Translator::translateDeviceRegistryEnrichActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::deviceShadowEnrich, Activity::getDeviceShadowEnrich,
+                Translator::translateDeviceShadowEnrichActivityToCfn, Translator::translateDeviceShadowEnrichActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::filter, Activity::getFilter,
+                Translator::translateFilterActivityToCfn, Translator::translateFilterActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::math, Activity::getMath,
+                Translator::translateMathActivityToCfn, Translator::translateMathActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::lambda, Activity::getLambda,
+                Translator::translateLambdaActivityToCfn, Translator::translateLambdaActivityFromCfn));
+        codecs.add(ActivityCodec.of(PipelineActivity::datastore, Activity::getDatastore,
+                Translator::translateDatastoreActivityToCfn, Translator::translateDatastoreActivityFromCfn));
+        return Collections.unmodifiableList(codecs);
+    }
+
+    /**
+     * Returns the pipeline ARN without calling the service: the model's Id when it is set, otherwise the ARN
+     * built from the request's region and account, otherwise the {@link ArnCache cached} ARN for its
+     * name. Returns null when none is available.
+     */
+    @Nullable
+    static String translateToPipelineArn(final ResourceModel model,
+                                         final ResourceHandlerRequest<ResourceModel> request) {
+        if (!StringUtils.isNullOrEmpty(model.getId())) {
+            return model.getId();
+        }
+        if (StringUtils.isNullOrEmpty(model.getPipelineName())) {
+            return null;
+        }
+        if (StringUtils.isNullOrEmpty(request.getRegion()) || StringUtils.isNullOrEmpty(request.getAwsAccountId())) {
+            return ArnCache.shared().get(ResourceModel.TYPE_NAME, request, model.getPipelineName());
+        }
+        final String partition = StringUtils.isNullOrEmpty(request.getAwsPartition())
+                ? DEFAULT_PARTITION : request.getAwsPartition();
+        return String.format(ARN_FORMAT, partition, request.getRegion(), request.getAwsAccountId(), model.getPipelineName());
+    }
+
     static DescribePipelineRequest translateToDescribePipelineRequest(final ResourceModel model) {
         return DescribePipelineRequest.builder().pipelineName(model.getPipelineName()).build();
     }
@@ -88,99 +134,52 @@ class Translator {
             final String operation,
             @Nullable final String name
     ) {
-        if (e instanceof ResourceAlreadyExistsException) {
-            return new CfnAlreadyExistsException(e);
-        } else if (e instanceof ResourceNotFoundException) {
-            if (StringUtils.isNullOrEmpty(name)) return new CfnNotFoundException(e);
-            return new CfnNotFoundException(ResourceModel.TYPE_NAME, name);
-        } else if (e instanceof InvalidRequestException) {
-            return new CfnInvalidRequestException(e.getMessage(), e);
-        } else if (e instanceof ThrottlingException) {
-            return new CfnThrottlingException(operation, e);
-        } else if (e instanceof ServiceUnavailableException) {
-            return new CfnGeneralServiceException(operation, e);
-        } else if (e instanceof LimitExceededException) {
-            return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage());
-        } else {
-            if (e.awsErrorDetails() != null
-                    && "AccessDeniedException".equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
-                return new CfnAccessDeniedException(operation, e);
-            }
-            return new CfnServiceInternalErrorException(operation, e);
-        }
+        return ExceptionTranslator.translate(e, operation, ResourceModel.TYPE_NAME, name);
     }
 
     private static List<Activity> translateActivitiesToCfn(
             @Nonnull final List<PipelineActivity> pipelineActivities) {
-        return pipelineActivities.stream().map(pipelineActivity -> {
-            if (pipelineActivity.channel() != null) {
-                return translateChannelActivityToCfn(pipelineActivity.channel());
-            } else if (pipelineActivity.addAttributes() != null) {
-                return translateAddAttributesActivityToCfn(pipelineActivity.addAttributes());
-            } else if (pipelineActivity.removeAttributes() != null) {
-                return translateRemoveAttributesActivityToCfn(pipelineActivity.removeAttributes());
-            } else if (pipelineActivity.selectAttributes() != null) {
-                return translateSelectAttributesActivityToCfn(pipelineActivity.selectAttributes());
-            } else if (pipelineActivity.deviceRegistryEnrich() != null) {
-                return translateDeviceRegistryEnrichActivityToCfn(pipelineActivity.deviceRegistryEnrich());
-            } else if (pipelineActivity.deviceShadowEnrich() != null) {
-                return translateDeviceShadowEnrichActivityToCfn(pipelineActivity.deviceShadowEnrich());
-            } else if (pipelineActivity.filter() != null) {
-                return translateFilterActivityToCfn(pipelineActivity.filter());
-            } else if (pipelineActivity.math() != null) {
-                return translateMathActivityToCfn(pipelineActivity.math());
-            } else if (pipelineActivity.lambda() != null) {
-                return translateLambdaActivityToCfn(pipelineActivity.lambda());
-            } else if (pipelineActivity.datastore() != null) {
-                return translateDatastoreActivityToCfn(pipelineActivity.datastore());
-            } else {
-                return null;
+        final List<Activity> activities = new ArrayList<>(pipelineActivities.size());
+        for (final PipelineActivity pipelineActivity : pipelineActivities) {
+            final Activity activity = translateActivityToCfn(pipelineActivity);
+            if (activity != null) {
+                activities.add(activity);
+            }
+        }
+        return activities;
+    }
+
+    @Nullable
+    private static Activity translateActivityToCfn(@Nonnull final PipelineActivity pipelineActivity) {
+        // The service sets a single kind per activity, so the first codec that matches wins.
+        for (final ActivityCodec<?, ?> codec : ACTIVITY_CODECS) {
+            final Activity activity = codec.toCfn(pipelineActivity);
+            if (activity != null) {
+                return activity;
             }
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+        }
+        return null;
     }
 
-    private static List<PipelineActivity> translatePipelineActivitiesFromCfn(final List<Activity> cfnActivityList) {
+    @VisibleForTesting
+    static List<PipelineActivity> translatePipelineActivitiesFromCfn(final List<Activity> cfnActivityList) {
         // To maintain backwards compatibility, we need to accept null lists and return an empty one,
         //   even if it will eventually fail on API call.
-        final List<PipelineActivity> pipelineActivities = new ArrayList<>();
-
-        if (cfnActivityList != null) {
-            // To maintain backwards compatibility, we need to add all pipeline activities within the same
-            //   PipelineActivity as it's own element in a list
-            cfnActivityList.forEach(cfnActivity -> {
-                if (cfnActivity.getChannel() != null) {
-                    pipelineActivities.add(translateChannelActivityFromCfn(cfnActivity.getChannel()));
-                }
-                if (cfnActivity.getAddAttributes() != null) {
-                    pipelineActivities.add(translateAddAttributesActivityFromCfn(cfnActivity.getAddAttributes()));
-                }
-                if (cfnActivity.getRemoveAttributes() != null) {
-                    pipelineActivities.add(translateRemoveAttributesActivityFromCfn(cfnActivity.getRemoveAttributes()));
-                }
-                if (cfnActivity.getSelectAttributes() != null) {
-                    pipelineActivities.add(translateSelectAttributesActivityFromCfn(cfnActivity.getSelectAttributes()));
-                }
-                if (cfnActivity.getDeviceRegistryEnrich() != null) {
-                    pipelineActivities.add(translateDeviceRegistryEnrichActivityFromCfn(cfnActivity.getDeviceRegistryEnrich()));
-                }
-                if (cfnActivity.getDeviceShadowEnrich() != null) {
-                    pipelineActivities.add(translateDeviceShadowEnrichActivityFromCfn(cfnActivity.getDeviceShadowEnrich()));
-                }
-                if (cfnActivity.getFilter() != null) {
-                    pipelineActivities.add(translateFilterActivityFromCfn(cfnActivity.getFilter()));
-                }
-                if (cfnActivity.getMath() != null) {
-                    pipelineActivities.add(translateMathActivityFromCfn(cfnActivity.getMath()));
-                }
-                if (cfnActivity.getLambda() != null) {
-                    pipelineActivities.add(translateLambdaActivityFromCfn(cfnActivity.getLambda()));
-                }
-                if (cfnActivity.getDatastore() != null) {
-                    pipelineActivities.add(translateDatastoreActivityFromCfn(cfnActivity.getDatastore()));
+        if (cfnActivityList == null) {
+            return new ArrayList<>();
+        }
+        // Every activity normally sets exactly one kind, so this is rarely resized.
+        final List<PipelineActivity> pipelineActivities = new ArrayList<>(cfnActivityList.size());
+        // To maintain backwards compatibility, we need to add all pipeline activities within the same
+        //   PipelineActivity as it's own element in a list
+        for (final Activity cfnActivity : cfnActivityList) {
+            for (final ActivityCodec<?, ?> codec : ACTIVITY_CODECS) {
+                final PipelineActivity pipelineActivity = codec.fromCfn(cfnActivity);
+                if (pipelineActivity != null) {
+                    pipelineActivities.add(pipelineActivity);
                 }
-            });
+            }
         }
-
         return pipelineActivities;
     }
 
@@ -403,12 +402,10 @@ class Translator {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
-        return tags.stream().map((tag ->
-                com.amazonaws.iotanalytics.pipeline.Tag.builder()
-                        .key(tag.key())
-                        .value(tag.value())
-                        .build()))
-                .collect(Collectors.toList());
+        return translateList(tags, tag -> com.amazonaws.iotanalytics.pipeline.Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build());
     }
 
     private static List<software.amazon.awssdk.services.iotanalytics.model.Tag> translateTagListsFromCfn(
@@ -417,12 +414,25 @@ class Translator {
         if (cfnTagList == null) {
             return null;
         } else {
-            return cfnTagList.stream().map(tag ->
-                    Tag.builder()
-                            .key(tag.getKey())
-                            .value(tag.getValue())
-                            .build()
-            ).collect(Collectors.toList());
+            return translateList(cfnTagList, tag -> Tag.builder()
+                    .key(tag.getKey())
+                    .value(tag.getValue())
+                    .build());
+        }
+    }
+
+    /**
+     * Translates the non-null elements of {@code source} into a list presized to hold all of them. Cheaper than a
+     * stream pipeline: no spliterator, pipeline stages or collector, and the result is never resized.
+     */
+    private static <S, T> List<T> translateList(@Nonnull final List<S> source,
+                                                @Nonnull final Function<S, T> translator) {
+        final List<T> translated = new ArrayList<>(source.size());
+        for (final S element : source) {
+            if (element != null) {
+                translated.add(translator.apply(element));
+            }
         }
+        return translated;
     }
 }
@@ -1,5 +1,6 @@
 package com.amazonaws.iotanalytics.pipeline;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -34,6 +35,7 @@ public abstract class AbstractTestBase {
         client = mock(IoTAnalyticsClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, client);
+        ArnCache.shared().invalidateAll();
     }
 
     private static ProxyClient<IoTAnalyticsClient> MOCK_PROXY(
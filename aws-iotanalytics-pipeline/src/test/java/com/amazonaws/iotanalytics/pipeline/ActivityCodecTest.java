@@ -0,0 +1,31 @@
+package com.amazonaws.iotanalytics.pipeline;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iotanalytics.model.ChannelActivity;
+import software.amazon.awssdk.services.iotanalytics.model.PipelineActivity;
+
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_CHANNEL_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_FILTER_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_CHANNEL_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_FILTER_ACTIVITY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActivityCodecTest {
+    private final ActivityCodec<ChannelActivity, Channel> codec = ActivityCodec.of(
+            PipelineActivity::channel,
+            Activity::getChannel,
+            channel -> CFN_CHANNEL_ACTIVITY,
+            channel -> IOTA_CHANNEL_ACTIVITY);
+
+    @Test
+    public void GIVEN_activity_of_its_kind_WHEN_translate_THEN_return_translation() {
+        assertThat(codec.toCfn(IOTA_CHANNEL_ACTIVITY)).isSameAs(CFN_CHANNEL_ACTIVITY);
+        assertThat(codec.fromCfn(CFN_CHANNEL_ACTIVITY)).isSameAs(IOTA_CHANNEL_ACTIVITY);
+    }
+
+    @Test
+    public void GIVEN_activity_of_another_kind_WHEN_translate_THEN_return_null() {
+        assertThat(codec.toCfn(IOTA_FILTER_ACTIVITY)).isNull();
+        assertThat(codec.fromCfn(CFN_FILTER_ACTIVITY)).isNull();
+    }
+}
@@ -6,6 +6,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.iotanalytics.model.ListPipelinesRequest;
 import software.amazon.awssdk.services.iotanalytics.model.ListPipelinesResponse;
+import software.amazon.awssdk.services.iotanalytics.model.Pipeline;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.iotanalytics.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.iotanalytics.model.InvalidRequestException;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iotanalytics.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.iotanalytics.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iotanalytics.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.awssdk.services.iotanalytics.model.PipelineSummary;
 import software.amazon.awssdk.services.iotanalytics.model.ServiceUnavailableException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -13,9 +23,13 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +42,8 @@ public class ListHandlerTest extends AbstractTestBase {
     private static final String TEST_PIPELINE_NAME_2 = "test_pipeline_name_2";
     private static final String TEST_PIPELINE_NAME_3 = "test_pipeline_name_3";
     private static final String TEST_PIPELINE_NAME_4 = "test_pipeline_name_4";
+    private static final String TEST_KEY = "key";
+    private static final String TEST_VALUE = "value";
 
     private ResourceHandlerRequest<ResourceModel> request;
     private ListHandler handler;
@@ -92,4 +108,187 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThrows(CfnGeneralServiceException.class,
                 () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
+
+    @Test
+    public void GIVEN_hydrate_WHEN_call_handleRequest_THEN_return_full_models() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .nextToken(TEST_NEXT_TOKEN)
+                        .pipelineSummaries(
+                                PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build(),
+                                PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenAnswer(invocation -> describePipelineResponse(
+                        invocation.getArgument(0, DescribePipelineRequest.class).pipelineName()));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder()
+                                .key(TEST_KEY).value(TEST_VALUE).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo(TEST_NEXT_TOKEN);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(response.getResourceModels().get(0).getPipelineName()).isEqualTo(TEST_PIPELINE_NAME_1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_PIPELINE_NAME_1 + "_arn");
+        assertThat(response.getResourceModels().get(0).getTags().get(0).getKey()).isEqualTo(TEST_KEY);
+        assertThat(response.getResourceModels().get(1).getPipelineName()).isEqualTo(TEST_PIPELINE_NAME_2);
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo(TEST_PIPELINE_NAME_2 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_concurrency_of_one_WHEN_call_handleRequest_THEN_send_one_call_at_a_time() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 1);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .pipelineSummaries(
+                                PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build(),
+                                PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_2).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight, () -> describePipelineResponse(
+                        invocation.getArgument(0, DescribePipelineRequest.class).pipelineName())));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenAnswer(invocation -> inFlight(inFlight, maxInFlight,
+                        () -> ListTagsForResourceResponse.builder().build()));
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+
+        verify(proxyClient.client(), times(2)).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_throttles_WHEN_call_handleRequest_THEN_retry_pipeline() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .pipelineSummaries(PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenReturn(describePipelineResponse(TEST_PIPELINE_NAME_1));
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TEST_PIPELINE_NAME_1 + "_arn");
+
+        verify(proxyClient.client(), times(2)).describePipeline(any(DescribePipelineRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_always_throttles_WHEN_call_handleRequest_THEN_throw_CfnThrottlingException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .pipelineSummaries(PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenThrow(ThrottlingException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnThrottlingException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client(), times(ListHandler.MAX_HYDRATE_ATTEMPTS)).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_pipeline_deleted_WHEN_call_handleRequest_THEN_skip_pipeline() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .pipelineSummaries(PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_hydrate_and_iota_invalid_request_WHEN_call_handleRequest_THEN_throw_CfnInvalidRequestException() {
+        // GIVEN
+        final ListHandler hydratingHandler = new ListHandler(true, 4);
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder()
+                        .pipelineSummaries(PipelineSummary.builder().pipelineName(TEST_PIPELINE_NAME_1).build())
+                        .build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenThrow(InvalidRequestException.builder().build());
+
+        // WHEN / THEN
+        assertThrows(CfnInvalidRequestException.class,
+                () -> hydratingHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    /**
+     * Answers with {@code response} after a pause long enough for calls sent alongside it to overlap.
+     */
+    private static <T> T inFlight(final AtomicInteger inFlight,
+                                  final AtomicInteger maxInFlight,
+                                  final Supplier<T> response) throws InterruptedException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+            return response.get();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static DescribePipelineResponse describePipelineResponse(final String pipelineName) {
+        return DescribePipelineResponse.builder()
+                .pipeline(Pipeline.builder().name(pipelineName).arn(pipelineName + "_arn").build())
+                .build();
+    }
 }
@@ -192,4 +192,37 @@ public class ReadHandlerTest extends AbstractTestBase{
         verify(proxyClient.client(), times(1)).describePipeline(any(DescribePipelineRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_handleRequest_THEN_list_tags_with_computed_arn() {
+        // GIVEN
+        final ResourceModel model = ResourceModel.builder().pipelineName(TEST_PIPELINE_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        when(proxyClient.client().describePipeline(describePipelineRequestArgumentCaptor.capture()))
+                .thenReturn(describePipelineResponse);
+        when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(describePipelineRequestArgumentCaptor.getValue().pipelineName()).isEqualTo(TEST_PIPELINE_NAME);
+        assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
+                .isEqualTo("arn:aws:iotanalytics:us-east-1:123456789012:pipeline/" + TEST_PIPELINE_NAME);
+        verify(proxyClient.client(), times(1)).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getPipelineName()).isEqualTo(TEST_PIPELINE_NAME);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_PIPELINE_ID);
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
 }
@@ -1,5 +1,7 @@
 package com.amazonaws.iotanalytics.pipeline;
 
+import com.amazonaws.iotanalytics.common.ArnCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.iotanalytics.model.AddAttributesActivity;
@@ -10,12 +12,26 @@ import software.amazon.awssdk.services.iotanalytics.model.IoTAnalyticsException;
 import software.amazon.awssdk.services.iotanalytics.model.PipelineActivity;
 import software.amazon.awssdk.services.iotanalytics.model.UpdatePipelineRequest;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Arrays;
-
+import java.util.Collections;
+
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_ADD_ATTR_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_CHANNEL_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_DATASTORE_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_ADD_ATTR_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_CHANNEL_ACTIVITY;
+import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_DATASTORE_ACTIVITY;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class TranslatorTest {
+
+    @BeforeEach
+    public void setUp() {
+        ArnCache.shared().invalidateAll();
+    }
+
     @Test
     public void GIVEN_AccessDeniedException_WHEN_call_translate_exception_THEN_return_CfnAccessDeniedException() {
         final IoTAnalyticsException e = (IoTAnalyticsException) IoTAnalyticsException
@@ -134,4 +150,60 @@ public class TranslatorTest {
                                 .build()
                 ));
     }
+
+    @Test
+    public void GIVEN_model_id_WHEN_call_translateToPipelineArn_THEN_return_id() {
+        final ResourceModel model = ResourceModel.builder().pipelineName("name").id("id").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+        assertThat(Translator.translateToPipelineArn(model, request)).isEqualTo("id");
+    }
+
+    @Test
+    public void GIVEN_region_and_account_WHEN_call_translateToPipelineArn_THEN_return_arn() {
+        final ResourceModel model = ResourceModel.builder().pipelineName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region("cn-north-1")
+                .awsAccountId("123456789012")
+                .awsPartition("aws-cn")
+                .build();
+        assertThat(Translator.translateToPipelineArn(model, request))
+                .isEqualTo("arn:aws-cn:iotanalytics:cn-north-1:123456789012:pipeline/name");
+    }
+
+    @Test
+    public void GIVEN_no_region_WHEN_call_translateToPipelineArn_THEN_return_null() {
+        final ResourceModel model = ResourceModel.builder().pipelineName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        assertThat(Translator.translateToPipelineArn(model, request)).isNull();
+    }
+
+    @Test
+    public void GIVEN_no_region_and_cached_arn_WHEN_call_translateToPipelineArn_THEN_return_cached_arn() {
+        final ResourceModel model = ResourceModel.builder().pipelineName("name").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        ArnCache.shared().put(ResourceModel.TYPE_NAME, request, "name", "arn");
+        assertThat(Translator.translateToPipelineArn(model, request)).isEqualTo("arn");
+    }
+
+    @Test
+    public void GIVEN_null_activities_WHEN_call_translatePipelineActivitiesFromCfn_THEN_return_empty_list() {
+        assertThat(Translator.translatePipelineActivitiesFromCfn(null)).isEmpty();
+        assertThat(Translator.translatePipelineActivitiesFromCfn(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void GIVEN_activities_WHEN_call_translatePipelineActivitiesFromCfn_THEN_keep_order() {
+        assertThat(Translator.translatePipelineActivitiesFromCfn(
+                Arrays.asList(CFN_CHANNEL_ACTIVITY, CFN_ADD_ATTR_ACTIVITY, CFN_DATASTORE_ACTIVITY)))
+                .containsExactly(IOTA_CHANNEL_ACTIVITY, IOTA_ADD_ATTR_ACTIVITY, IOTA_DATASTORE_ACTIVITY);
+    }
 }
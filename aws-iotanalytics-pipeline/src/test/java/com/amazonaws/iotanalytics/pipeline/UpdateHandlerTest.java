@@ -47,7 +47,6 @@ import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_RM_ATTR_ACTI
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.CFN_SELECT_ATTR_ACTIVITY;
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_ADD_ATTR_ACTIVITY;
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_CHANNEL_ACTIVITY;
-import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_CHANNEL_TO_DATASTORE_ACTIVITY;
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_DATASTORE_ACTIVITY;
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_DEVICE_REGISTRY_ENRICH_ACTIVITY;
 import static com.amazonaws.iotanalytics.pipeline.TestConstants.IOTA_DEVICE_SHADOW_ACTIVITY;
@@ -86,9 +85,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Captor
     private ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor;
 
-    @Captor
-    private ArgumentCaptor<DescribePipelineRequest> describePipelineRequestArgumentCaptor;
-
     @Captor
     private ArgumentCaptor<ListTagsForResourceRequest> listTagsForResourceRequestArgumentCaptor;
 
@@ -97,9 +93,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private ResourceModel newModel;
     private DescribePipelineResponse describePipelineResponseFull;
     private ListTagsForResourceResponse listTagsForResourceResponseFull;
-    private DescribePipelineResponse describePipelineResponseSimple;
     private ListTagsForResourceResponse listTagsForResourceResponseSimple;
 
+    private ListTagsForResourceResponse listTagsForResourceResponsePrevious;
+
     @BeforeEach
     public void setup() {
         super.setUp();
@@ -159,17 +156,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY3).value(TEST_VALUE3).build()))
                 .build();
 
-        describePipelineResponseSimple = DescribePipelineResponse.builder()
-                .pipeline(Pipeline.builder()
-                        .name(TEST_PIPELINE_NAME)
-                        .activities(Arrays.asList(
-                                IOTA_CHANNEL_TO_DATASTORE_ACTIVITY,
-                                IOTA_DATASTORE_ACTIVITY
-                        ))
-                        .build())
-                .build();
-
         listTagsForResourceResponseSimple = ListTagsForResourceResponse.builder().build();
+
+        listTagsForResourceResponsePrevious = ListTagsForResourceResponse.builder()
+                .tags(Arrays.asList(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build(),
+                        software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
     }
 
     @Test
@@ -189,11 +181,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
                 .thenReturn(TagResourceResponse.builder().build());
 
-        when(proxyClient.client().describePipeline(describePipelineRequestArgumentCaptor.capture()))
-                .thenReturn(describePipelineResponseFull);
-
         when(proxyClient.client().listTagsForResource(listTagsForResourceRequestArgumentCaptor.capture()))
-                .thenReturn(listTagsForResourceResponseFull);
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -233,11 +222,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(untagResourceRequest.tagKeys().size()).isEqualTo(1);
         assertThat(untagResourceRequest.tagKeys().contains(TEST_KEY1)).isTrue();
 
-        assertThat(describePipelineRequestArgumentCaptor.getValue().pipelineName())
-                .isEqualTo(TEST_PIPELINE_NAME);
-
         assertThat(listTagsForResourceRequestArgumentCaptor.getValue().resourceArn())
                 .isEqualTo(TEST_PIPELINE_ARN);
+        verify(proxyClient.client(), never()).describePipeline(any(DescribePipelineRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -262,13 +249,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 CFN_DATASTORE_ACTIVITY
         ));
 
-        assertThat(response.getResourceModel().getTags().size()).isEqualTo(3);
-        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY1);
-        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE1);
+        assertThat(response.getResourceModel().getTags().size()).isEqualTo(2);
+        assertThat(response.getResourceModel().getTags().get(0).getKey()).isEqualTo(TEST_KEY3);
+        assertThat(response.getResourceModel().getTags().get(0).getValue()).isEqualTo(TEST_VALUE3);
         assertThat(response.getResourceModel().getTags().get(1).getKey()).isEqualTo(TEST_KEY2);
         assertThat(response.getResourceModel().getTags().get(1).getValue()).isEqualTo(TEST_VALUE22);
-        assertThat(response.getResourceModel().getTags().get(2).getKey()).isEqualTo(TEST_KEY3);
-        assertThat(response.getResourceModel().getTags().get(2).getValue()).isEqualTo(TEST_VALUE3);
     }
 
     @Test
@@ -358,21 +343,16 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .previousResourceState(preModel)
                 .build();
 
-        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
-                .thenReturn(describePipelineResponseSimple);
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(listTagsForResourceResponseSimple);
-
         // WHEN
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         // THEN
-        verify(proxyClient.client(), times(1)).updatePipeline(any(UpdatePipelineRequest.class));
+        verify(proxyClient.client(), never()).updatePipeline(any(UpdatePipelineRequest.class));
         verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describePipeline(any(DescribePipelineRequest.class));
-        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), never()).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -426,8 +406,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdatePipelineResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
                 .thenThrow(LimitExceededException.builder().build());
-        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
-            .thenReturn(describePipelineResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnServiceLimitExceededException.class,
@@ -435,10 +415,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1))
                 .updatePipeline(any(UpdatePipelineRequest.class));
-        verify(proxyClient.client(), times(1)).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), never()).describePipeline(any(DescribePipelineRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -453,8 +433,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(UpdatePipelineResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(ServiceUnavailableException.builder().build());
-        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
-            .thenReturn(describePipelineResponseSimple);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(listTagsForResourceResponsePrevious);
 
         // WHEN / THEN
         assertThrows(CfnGeneralServiceException.class,
@@ -463,7 +443,79 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).updatePipeline(any(UpdatePipelineRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).describePipeline(any(DescribePipelineRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void GIVEN_previous_model_without_id_WHEN_call_handleRequest_THEN_describe_for_tag_arn() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder()
+                .pipelineName(TEST_PIPELINE_NAME)
+                .pipelineActivities(Arrays.asList(CFN_CHANNEL_TO_DATASTORE_ACTIVITY, CFN_DATASTORE_ACTIVITY))
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build()))
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .pipelineName(TEST_PIPELINE_NAME)
+                .pipelineActivities(Arrays.asList(CFN_CHANNEL_TO_DATASTORE_ACTIVITY, CFN_DATASTORE_ACTIVITY))
+                .tags(Arrays.asList(Tag.builder().key(TEST_KEY2).value(TEST_VALUE2).build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().untagResource(untagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(tagResourceRequestArgumentCaptor.capture()))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.iotanalytics.model.Tag.builder().key(TEST_KEY1).value(TEST_VALUE1).build())
+                        .build());
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        verify(proxyClient.client(), never()).updatePipeline(any(UpdatePipelineRequest.class));
+        // The ARN described for the tag updates also ends up in the returned model, so there is no final read.
         verify(proxyClient.client(), times(1)).describePipeline(any(DescribePipelineRequest.class));
-        verify(proxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_PIPELINE_ARN);
+        assertThat(tagResourceRequestArgumentCaptor.getValue().resourceArn()).isEqualTo(TEST_PIPELINE_ARN);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_PIPELINE_ARN);
+    }
+
+    @Test
+    public void GIVEN_no_arn_to_carry_over_WHEN_call_handleRequest_THEN_read_back() {
+        // GIVEN
+        final ResourceModel preModel = ResourceModel.builder().pipelineName(TEST_PIPELINE_NAME).build();
+        final ResourceModel newModel = ResourceModel.builder().pipelineName(TEST_PIPELINE_NAME).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(newModel)
+                .previousResourceState(preModel)
+                .build();
+
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class))).thenReturn(describePipelineResponseFull);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponseFull);
+
+        // WHEN
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // THEN
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updatePipeline(any(UpdatePipelineRequest.class));
+        verify(proxyClient.client(), times(1)).describePipeline(any(DescribePipelineRequest.class));
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_PIPELINE_ARN);
+        assertThat(response.getResourceModel().getTags()).hasSize(3);
     }
 }
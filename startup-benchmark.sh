@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Reports the init phase and time-to-first-response of every resource type, with and without priming.
+# Each measurement runs in a fresh JVM so that it starts from a cold class loader, like a new Lambda sandbox.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+mvn -q -B install -DskipTests
+for resource in channel dataset datastore pipeline; do
+    for priming in off init; do
+        IOTANALYTICS_PRIMING="${priming}" AWS_REGION="${AWS_REGION:-us-west-2}" \
+            java -cp aws-iotanalytics-benchmarks/target/benchmarks.jar \
+            com.amazonaws.iotanalytics.benchmarks.StartupBenchmark "${resource}" .
+    done
+done